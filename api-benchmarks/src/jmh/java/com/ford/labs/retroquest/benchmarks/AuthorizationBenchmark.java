@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.benchmarks;
+
+import com.ford.labs.retroquest.security.AuthorizationService;
+import com.ford.labs.retroquest.thought.Thought;
+import com.ford.labs.retroquest.thought.ThoughtController;
+import com.ford.labs.retroquest.thought.ThoughtService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a {@code @PreAuthorize}-guarded controller call with the same service call made directly, so the
+ * difference is the cost of the authorization chain (SpEL evaluation, AuthorizationService, team membership lookup).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthorizationBenchmark {
+
+    private UUID teamId;
+    private Authentication member;
+    private Authentication outsider;
+    private AuthorizationService authorizationService;
+    private ThoughtController thoughtController;
+    private ThoughtService thoughtService;
+
+    @Setup
+    public void setUp(RetroQuestContext retroQuest) {
+        teamId = retroQuest.teamId;
+        member = RetroQuestContext.authenticationFor(RetroQuestContext.MEMBER);
+        outsider = RetroQuestContext.authenticationFor(RetroQuestContext.OUTSIDER);
+        authorizationService = retroQuest.bean(AuthorizationService.class);
+        thoughtController = retroQuest.bean(ThoughtController.class);
+        thoughtService = retroQuest.bean(ThoughtService.class);
+    }
+
+    @Benchmark
+    public boolean membershipCheck() {
+        return authorizationService.requestIsAuthorized(member, teamId);
+    }
+
+    @Benchmark
+    public List<Thought> unguardedServiceCall() {
+        return thoughtService.fetchAllActiveThoughts(teamId.toString());
+    }
+
+    @Benchmark
+    public List<Thought> authorizedControllerCall() {
+        SecurityContextHolder.getContext().setAuthentication(member);
+        try {
+            return thoughtController.getThoughtsForTeam(teamId);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public boolean deniedControllerCall() {
+        SecurityContextHolder.getContext().setAuthentication(outsider);
+        try {
+            thoughtController.getThoughtsForTeam(teamId);
+            return false;
+        } catch (AccessDeniedException e) {
+            return true;
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.benchmarks;
+
+import com.ford.labs.retroquest.actionitem.ActionItem;
+import com.ford.labs.retroquest.board.Board;
+import com.ford.labs.retroquest.column.Column;
+import com.ford.labs.retroquest.thought.Thought;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+final class BenchmarkData {
+    static final String TEAM_ID = "7f4c2b1e-9d3a-4c55-8a61-2f0e8b9d1c11";
+
+    private static final String[] TOPICS = {"happy", "confused", "unhappy"};
+
+    private BenchmarkData() {
+    }
+
+    static List<Thought> thoughts(int count, Long boardId) {
+        var random = new Random(count);
+        return LongStream.rangeClosed(1, count)
+            .mapToObj(id -> new Thought(
+                id,
+                "Thought number %d with a sentence or two of realistic retro feedback in it.".formatted(id),
+                random.nextInt(12),
+                random.nextBoolean(),
+                TEAM_ID,
+                boardId,
+                (id % TOPICS.length) + 1
+            ))
+            .toList();
+    }
+
+    static List<ActionItem> actionItems(int count) {
+        var random = new Random(count);
+        return LongStream.rangeClosed(1, count)
+            .mapToObj(id -> new ActionItem(
+                id,
+                "Action item %d: follow up with the team about it".formatted(id),
+                random.nextBoolean(),
+                TEAM_ID,
+                "Assignee %d".formatted(id % 7),
+                Date.valueOf(LocalDate.of(2022, 1, 1).plusDays(id % 365)),
+                false
+            ))
+            .toList();
+    }
+
+    static List<Board> boards(int count, int thoughtsPerBoard) {
+        return LongStream.rangeClosed(1, count)
+            .mapToObj(id -> new Board(id, TEAM_ID, LocalDate.of(2022, 1, 1).plusWeeks(id), thoughts(thoughtsPerBoard, id)))
+            .toList();
+    }
+
+    static List<Column> shuffledColumns(int count) {
+        var columns = new ArrayList<Column>(count);
+        for (long id = 1; id <= count; id++) {
+            columns.add(new Column(id, TOPICS[(int) (id % TOPICS.length)], "Column " + id, TEAM_ID));
+        }
+        Collections.shuffle(columns, new Random(count));
+        return columns;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.benchmarks;
+
+import com.ford.labs.retroquest.actionitem.ActionItem;
+import com.ford.labs.retroquest.actionitem.ActionItemRepository;
+import com.ford.labs.retroquest.board.Board;
+import com.ford.labs.retroquest.board.BoardRepository;
+import com.ford.labs.retroquest.column.Column;
+import com.ford.labs.retroquest.column.ColumnRepository;
+import com.ford.labs.retroquest.thought.Thought;
+import com.ford.labs.retroquest.thought.ThoughtRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RepositoryQueryBenchmark {
+
+    private String teamId;
+    private ThoughtRepository thoughtRepository;
+    private ActionItemRepository actionItemRepository;
+    private BoardRepository boardRepository;
+    private ColumnRepository columnRepository;
+
+    @Setup
+    public void setUp(RetroQuestContext retroQuest) {
+        teamId = retroQuest.teamId.toString();
+        thoughtRepository = retroQuest.bean(ThoughtRepository.class);
+        actionItemRepository = retroQuest.bean(ActionItemRepository.class);
+        boardRepository = retroQuest.bean(BoardRepository.class);
+        columnRepository = retroQuest.bean(ColumnRepository.class);
+    }
+
+    @Benchmark
+    public List<Thought> activeThoughts() {
+        return thoughtRepository.findAllByTeamIdAndBoardIdIsNullOrderByColumnId(teamId);
+    }
+
+    @Benchmark
+    public List<ActionItem> unarchivedActionItems() {
+        return actionItemRepository.findAllByTeamIdAndArchived(teamId, false);
+    }
+
+    @Benchmark
+    public List<Board> boardPage() {
+        return boardRepository.findAllByTeamIdOrderByDateCreatedDesc(teamId, PageRequest.of(0, RetroQuestContext.ARCHIVED_BOARDS));
+    }
+
+    @Benchmark
+    public List<Column> columns() {
+        return columnRepository.findAllByTeamId(teamId);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.benchmarks;
+
+import com.ford.labs.retroquest.board.Board;
+import com.ford.labs.retroquest.board.Retro;
+import com.ford.labs.retroquest.column.Column;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RetroBenchmark {
+
+    @Param({"3", "12", "48"})
+    public int columnCount;
+
+    private Board board;
+    private List<Column> columns;
+
+    @Setup
+    public void setUp() {
+        board = new Board(1L, BenchmarkData.TEAM_ID, LocalDate.of(2022, 1, 1), BenchmarkData.thoughts(100, 1L));
+        columns = BenchmarkData.shuffledColumns(columnCount);
+    }
+
+    @Benchmark
+    public Retro retroFrom() {
+        return Retro.from(board, columns);
+    }
+}
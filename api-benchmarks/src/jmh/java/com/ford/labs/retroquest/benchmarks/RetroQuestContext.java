@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.benchmarks;
+
+import com.ford.labs.retroquest.MainApplication;
+import com.ford.labs.retroquest.actionitem.ActionItemService;
+import com.ford.labs.retroquest.actionitem.CreateActionItemRequest;
+import com.ford.labs.retroquest.board.BoardService;
+import com.ford.labs.retroquest.column.ColumnService;
+import com.ford.labs.retroquest.team.TeamService;
+import com.ford.labs.retroquest.thought.CreateThoughtRequest;
+import com.ford.labs.retroquest.thought.ThoughtService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@State(Scope.Benchmark)
+public class RetroQuestContext {
+    static final String MEMBER = "benchmark-member";
+    static final String OUTSIDER = "benchmark-outsider";
+
+    static final int ARCHIVED_BOARDS = 30;
+    static final int THOUGHTS_PER_BOARD = 20;
+    static final int ACTIVE_THOUGHTS = 40;
+    static final int ACTION_ITEMS = 60;
+
+    ConfigurableApplicationContext context;
+    UUID teamId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(MainApplication.class)
+            .profiles("benchmark")
+            .properties("spring.cloud.config.enabled=false")
+            .run();
+        teamId = context.getBean(TeamService.class).createTeam("Benchmark Team", MEMBER).getId();
+        seed(teamId.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    static Authentication authenticationFor(String userId) {
+        var jwt = Jwt.withTokenValue("benchmark")
+            .header("alg", "none")
+            .subject(userId)
+            .build();
+        return new JwtAuthenticationToken(jwt, List.of());
+    }
+
+    private void seed(String teamId) {
+        var thoughtService = bean(ThoughtService.class);
+        var actionItemService = bean(ActionItemService.class);
+        var boardService = bean(BoardService.class);
+        var columns = bean(ColumnService.class).getColumns(teamId);
+
+        for (var board = 0; board < ARCHIVED_BOARDS; board++) {
+            for (var thought = 0; thought < THOUGHTS_PER_BOARD; thought++) {
+                var column = columns.get(thought % columns.size());
+                thoughtService.createThought(teamId, new CreateThoughtRequest("Archived thought %d-%d".formatted(board, thought), column.getId()));
+            }
+            boardService.endRetro(teamId);
+        }
+        for (var thought = 0; thought < ACTIVE_THOUGHTS; thought++) {
+            var column = columns.get(thought % columns.size());
+            thoughtService.createThought(teamId, new CreateThoughtRequest("Active thought %d".formatted(thought), column.getId()));
+        }
+        for (var actionItem = 0; actionItem < ACTION_ITEMS; actionItem++) {
+            actionItemService.createActionItem(teamId, new CreateActionItemRequest(
+                "Action item %d".formatted(actionItem),
+                false,
+                "Assignee %d".formatted(actionItem % 7),
+                Date.valueOf(LocalDate.now()),
+                false
+            ));
+        }
+    }
+}
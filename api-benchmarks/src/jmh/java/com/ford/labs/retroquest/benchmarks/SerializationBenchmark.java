@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.labs.retroquest.actionitem.ActionItem;
+import com.ford.labs.retroquest.board.Board;
+import com.ford.labs.retroquest.thought.Thought;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int size;
+
+    private ObjectMapper mapper;
+    private List<Thought> thoughts;
+    private List<ActionItem> actionItems;
+    private List<Board> boards;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+        thoughts = BenchmarkData.thoughts(size, null);
+        actionItems = BenchmarkData.actionItems(size);
+        boards = BenchmarkData.boards(30, size);
+    }
+
+    @Benchmark
+    public String thoughts() throws JsonProcessingException {
+        return mapper.writeValueAsString(thoughts);
+    }
+
+    @Benchmark
+    public String actionItems() throws JsonProcessingException {
+        return mapper.writeValueAsString(actionItems);
+    }
+
+    @Benchmark
+    public String boardPage() throws JsonProcessingException {
+        return mapper.writeValueAsString(boards);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.labs.retroquest.actionitem.ActionItemBatch;
+import com.ford.labs.retroquest.history.TeamEventLog;
+import com.ford.labs.retroquest.thought.Thought;
+import com.ford.labs.retroquest.websocket.WebsocketService;
+import com.ford.labs.retroquest.websocket.events.WebsocketActionItemBatchEvent;
+import com.ford.labs.retroquest.websocket.events.WebsocketThoughtEvent;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+import static com.ford.labs.retroquest.websocket.events.WebsocketEventType.UPDATE;
+
+/**
+ * Publishes through the application's broker, which has no subscribers here, so the numbers are dominated by
+ * event serialization and history recording rather than fan-out. Iterations are kept short and the history tables
+ * are emptied between them so the recorded events don't pile up in the in-memory database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WebsocketPublishBenchmark {
+
+    private WebsocketService websocketService;
+    private TeamEventLog teamEventLog;
+    private JdbcTemplate jdbcTemplate;
+    private ObjectMapper mapper;
+    private WebsocketThoughtEvent thoughtEvent;
+    private WebsocketActionItemBatchEvent actionItemBatchEvent;
+
+    @Setup
+    public void setUp(RetroQuestContext retroQuest) {
+        websocketService = retroQuest.bean(WebsocketService.class);
+        teamEventLog = retroQuest.bean(TeamEventLog.class);
+        jdbcTemplate = new JdbcTemplate(retroQuest.bean(DataSource.class));
+        mapper = retroQuest.bean(ObjectMapper.class);
+        var teamId = retroQuest.teamId.toString();
+        var thought = new Thought(1L, "A thought being hearted during the retro", 3, false, teamId, null, 1L);
+        thoughtEvent = new WebsocketThoughtEvent(teamId, UPDATE, thought);
+        actionItemBatchEvent = new WebsocketActionItemBatchEvent(teamId, UPDATE, ActionItemBatch.updated(BenchmarkData.actionItems(25)));
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearHistory() {
+        teamEventLog.flush();
+        jdbcTemplate.update("DELETE FROM team_snapshot");
+        jdbcTemplate.update("DELETE FROM team_event");
+    }
+
+    @Benchmark
+    public String serializeThoughtEvent() throws JsonProcessingException {
+        return mapper.writeValueAsString(thoughtEvent);
+    }
+
+    @Benchmark
+    public void publishThoughtEvent() {
+        websocketService.publishEvent(thoughtEvent);
+    }
+
+    @Benchmark
+    public void publishActionItemBatchEvent() {
+        websocketService.publishEvent(actionItemBatchEvent);
+    }
+}
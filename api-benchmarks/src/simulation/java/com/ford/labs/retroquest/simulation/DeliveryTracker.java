@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.simulation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how long it takes a change to reach every subscribed teammate. Thoughts and action item tasks written by
+ * the simulation carry a unique marker; when a frame carrying a marker arrives, the time since the originating
+ * request was sent is recorded.
+ */
+class DeliveryTracker {
+    private final ObjectMapper mapper;
+    private final LatencyRecorder latencies;
+    private final Map<String, Long> sentAt = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> frames = new ConcurrentHashMap<>();
+    private final AtomicLong markers = new AtomicLong();
+
+    DeliveryTracker(ObjectMapper mapper, LatencyRecorder latencies) {
+        this.mapper = mapper;
+        this.latencies = latencies;
+    }
+
+    String newMarker() {
+        return "sim-" + markers.incrementAndGet();
+    }
+
+    void sent(String marker) {
+        sentAt.put(marker, System.nanoTime());
+    }
+
+    void received(String topic, String body) {
+        var receivedAt = System.nanoTime();
+        frames.computeIfAbsent(topic, key -> new LongAdder()).increment();
+        try {
+            var payload = mapper.readTree(body).path("payload");
+            record(topic + " delivered", textOf(payload, "message"), receivedAt);
+            record(topic + " delivered", textOf(payload, "task"), receivedAt);
+        } catch (IOException e) {
+            frames.computeIfAbsent(topic + " unreadable", key -> new LongAdder()).increment();
+        }
+    }
+
+    Map<String, Long> framesByTopic() {
+        var result = new TreeMap<String, Long>();
+        frames.forEach((topic, count) -> result.put(topic, count.sum()));
+        return result;
+    }
+
+    private void record(String name, String marker, long receivedAt) {
+        if (marker == null) {
+            return;
+        }
+        var sent = sentAt.get(marker);
+        if (sent != null) {
+            latencies.record(name, receivedAt - sent);
+        }
+    }
+
+    private static String textOf(JsonNode payload, String field) {
+        var node = payload.get(field);
+        return node == null || !node.isTextual() ? null : node.asText();
+    }
+}
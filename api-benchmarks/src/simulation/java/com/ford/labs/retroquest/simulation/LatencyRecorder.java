@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+class LatencyRecorder {
+    private final Map<String, ConcurrentLinkedQueue<Long>> samples = new ConcurrentHashMap<>();
+
+    void record(String name, long nanos) {
+        samples.computeIfAbsent(name, key -> new ConcurrentLinkedQueue<>()).add(nanos);
+    }
+
+    Map<String, Summary> summarize() {
+        var result = new TreeMap<String, Summary>();
+        samples.forEach((name, values) -> result.put(name, Summary.of(new ArrayList<>(values))));
+        return result;
+    }
+
+    record Summary(int count, double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+        static Summary of(List<Long> nanos) {
+            nanos.sort(null);
+            return new Summary(
+                nanos.size(),
+                percentile(nanos, 0.50),
+                percentile(nanos, 0.90),
+                percentile(nanos, 0.99),
+                millis(nanos.get(nanos.size() - 1))
+            );
+        }
+
+        private static double percentile(List<Long> sorted, double percentile) {
+            var index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return millis(sorted.get(Math.max(index, 0)));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.simulation;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the statements Hibernate prepares, attributed to the simulated operation running on the current request
+ * thread. Statements issued outside a tagged request (scheduled work, setup) are counted as {@code background}.
+ * Plain JDBC work is not seen here.
+ */
+public class OperationStatementCounter implements StatementInspector {
+    static final String BACKGROUND = "background";
+
+    private static final ThreadLocal<String> CURRENT_OPERATION = new ThreadLocal<>();
+    private static final Map<String, LongAdder> STATEMENTS = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> REQUESTS = new ConcurrentHashMap<>();
+
+    static void begin(String operation) {
+        CURRENT_OPERATION.set(operation);
+        REQUESTS.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+
+    static void end() {
+        CURRENT_OPERATION.remove();
+    }
+
+    static void reset() {
+        STATEMENTS.clear();
+        REQUESTS.clear();
+    }
+
+    static Map<String, Double> statementsPerOperation() {
+        var result = new TreeMap<String, Double>();
+        REQUESTS.forEach((operation, requests) -> result.put(
+            operation,
+            STATEMENTS.getOrDefault(operation, new LongAdder()).doubleValue() / requests.doubleValue()
+        ));
+        return result;
+    }
+
+    static long backgroundStatements() {
+        return STATEMENTS.getOrDefault(BACKGROUND, new LongAdder()).sum();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        var operation = CURRENT_OPERATION.get();
+        STATEMENTS.computeIfAbsent(operation == null ? BACKGROUND : operation, key -> new LongAdder()).increment();
+        return sql;
+    }
+}
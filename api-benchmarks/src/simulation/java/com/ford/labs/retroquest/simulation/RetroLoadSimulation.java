@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.simulation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ford.labs.retroquest.MainApplication;
+import com.ford.labs.retroquest.column.Column;
+import com.ford.labs.retroquest.column.ColumnService;
+import com.ford.labs.retroquest.team.TeamService;
+import com.ford.labs.retroquest.teamusermapping.TeamUserMappingService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reproduces a peak of many teams running retros at once against the full application, in process, with an
+ * in-memory database. Every participant holds its own STOMP session subscribed to the team topics and drives the
+ * REST API the way the UI does. Configure with {@code simulation.*} system properties, see {@link SimulationSettings}.
+ */
+public class RetroLoadSimulation {
+
+    public static void main(String[] args) throws Exception {
+        var settings = SimulationSettings.fromSystemProperties();
+        var context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(MainApplication.class, SimulationSecurityConfig.class)
+            .profiles("simulation")
+            .properties(
+                "spring.cloud.config.enabled=false",
+                "spring.jpa.properties.hibernate.session_factory.statement_inspector=" + OperationStatementCounter.class.getName()
+            )
+            .run(args);
+        var executor = Executors.newFixedThreadPool(settings.concurrency());
+        var scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        var stompClient = new WebSocketStompClient(new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new StringMessageConverter());
+        stompClient.setTaskScheduler(scheduler);
+        try {
+            var port = context.getWebServer().getPort();
+            var mapper = context.getBean(ObjectMapper.class);
+            var requestLatencies = new LatencyRecorder();
+            var deliveryLatencies = new LatencyRecorder();
+            var deliveries = new DeliveryTracker(mapper, deliveryLatencies);
+            var failures = new ConcurrentHashMap<String, LongAdder>();
+            var httpClient = HttpClient.newHttpClient();
+            var baseUri = URI.create("http://localhost:%d".formatted(port));
+
+            var teams = new ArrayList<SimulatedTeam>();
+            for (var team = 0; team < settings.teams(); team++) {
+                teams.add(createTeam(context, settings, team, baseUri, httpClient, requestLatencies, deliveries, failures));
+            }
+            for (var team : teams) {
+                for (var participant : team.participants()) {
+                    participant.connect(stompClient, "ws://localhost:%d/websocket".formatted(port));
+                }
+            }
+            Thread.sleep(500);
+            CompletableFuture.allOf(teams.stream().map(team -> team.prepare(executor)).toArray(CompletableFuture[]::new)).join();
+            OperationStatementCounter.reset();
+
+            var start = System.nanoTime();
+            CompletableFuture.allOf(teams.stream().map(team -> {
+                var rounds = CompletableFuture.<Void>completedFuture(null);
+                for (var round = 0; round < settings.rounds(); round++) {
+                    rounds = rounds.thenCompose(ignored -> team.runRound(executor));
+                }
+                return rounds;
+            }).toArray(CompletableFuture[]::new)).join();
+            var elapsedNanos = System.nanoTime() - start;
+            Thread.sleep(1000);
+
+            teams.forEach(team -> team.participants().forEach(SimulatedParticipant::disconnect));
+            report(settings, elapsedNanos, requestLatencies, deliveryLatencies, deliveries, failures);
+        } finally {
+            executor.shutdownNow();
+            scheduler.shutdown();
+            context.close();
+        }
+    }
+
+    private static SimulatedTeam createTeam(
+        ServletWebServerApplicationContext context,
+        SimulationSettings settings,
+        int index,
+        URI baseUri,
+        HttpClient httpClient,
+        LatencyRecorder requestLatencies,
+        DeliveryTracker deliveries,
+        Map<String, LongAdder> failures
+    ) {
+        var facilitator = "team-%d-user-0".formatted(index);
+        var teamId = context.getBean(TeamService.class).createTeam("Simulated Team %d".formatted(index), facilitator).getId();
+        var participants = new ArrayList<SimulatedParticipant>();
+        for (var participant = 0; participant < settings.participants(); participant++) {
+            var userId = "team-%d-user-%d".formatted(index, participant);
+            if (participant > 0) {
+                context.getBean(TeamUserMappingService.class).addUserToTeam(teamId, userId);
+            }
+            participants.add(new SimulatedParticipant(userId, teamId.toString(), baseUri, httpClient, requestLatencies, deliveries, failures));
+        }
+        var columnIds = context.getBean(ColumnService.class).getColumns(teamId.toString()).stream().map(Column::getId).toList();
+        return new SimulatedTeam(participants, columnIds);
+    }
+
+    private static void report(
+        SimulationSettings settings,
+        long elapsedNanos,
+        LatencyRecorder requestLatencies,
+        LatencyRecorder deliveryLatencies,
+        DeliveryTracker deliveries,
+        Map<String, LongAdder> failures
+    ) throws Exception {
+        var requests = requestLatencies.summarize();
+        var totalRequests = requests.values().stream().mapToLong(LatencyRecorder.Summary::count).sum();
+        var elapsedSeconds = elapsedNanos / 1e9;
+        var failureCounts = new TreeMap<String, Long>();
+        failures.forEach((failure, count) -> failureCounts.put(failure, count.sum()));
+
+        var report = new LinkedHashMap<String, Object>();
+        report.put("settings", settings.toString());
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("requestsPerSecond", totalRequests / elapsedSeconds);
+        report.put("requestLatency", requests);
+        report.put("websocketDeliveryLatency", deliveryLatencies.summarize());
+        report.put("framesReceived", deliveries.framesByTopic());
+        report.put("statementsPerOperation", OperationStatementCounter.statementsPerOperation());
+        report.put("backgroundStatements", OperationStatementCounter.backgroundStatements());
+        report.put("failures", failureCounts);
+
+        var json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(report);
+        Files.createDirectories(settings.reportFile().toAbsolutePath().getParent());
+        Files.writeString(settings.reportFile(), json);
+        System.out.println(json);
+        System.out.printf("Report written to %s%n", settings.reportFile().toAbsolutePath());
+    }
+}
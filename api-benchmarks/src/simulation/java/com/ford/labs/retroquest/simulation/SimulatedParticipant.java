@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.simulation;
+
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class SimulatedParticipant {
+    private static final List<String> TOPICS = List.of("thoughts", "action-items", "columns", "end-retro");
+
+    private final String userId;
+    private final String teamId;
+    private final URI baseUri;
+    private final HttpClient httpClient;
+    private final LatencyRecorder requestLatencies;
+    private final DeliveryTracker deliveries;
+    private final Map<String, LongAdder> failures;
+    private StompSession session;
+
+    SimulatedParticipant(
+        String userId,
+        String teamId,
+        URI baseUri,
+        HttpClient httpClient,
+        LatencyRecorder requestLatencies,
+        DeliveryTracker deliveries,
+        Map<String, LongAdder> failures
+    ) {
+        this.userId = userId;
+        this.teamId = teamId;
+        this.baseUri = baseUri;
+        this.httpClient = httpClient;
+        this.requestLatencies = requestLatencies;
+        this.deliveries = deliveries;
+        this.failures = failures;
+    }
+
+    String userId() {
+        return userId;
+    }
+
+    void connect(WebSocketStompClient stompClient, String websocketUrl) throws Exception {
+        var handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.setBearerAuth(SimulationSecurityConfig.tokenFor(userId));
+        var connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + SimulationSecurityConfig.tokenFor(userId));
+        session = stompClient.connect(websocketUrl, handshakeHeaders, connectHeaders, new StompSessionHandlerAdapter() { })
+            .completable()
+            .get(30, TimeUnit.SECONDS);
+        for (var topic : TOPICS) {
+            session.subscribe("/topic/%s/%s".formatted(teamId, topic), new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return String.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    deliveries.received(topic, (String) payload);
+                }
+            });
+        }
+    }
+
+    void disconnect() {
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+    }
+
+    Long createThought(long columnId) {
+        var marker = deliveries.newMarker();
+        deliveries.sent(marker);
+        var response = send("createThought", "POST", "/api/team/%s/thoughts".formatted(teamId),
+            "{\"message\":\"%s\",\"columnId\":%d}".formatted(marker, columnId));
+        return response == null ? null : idFromLocation(response);
+    }
+
+    Long createActionItem() {
+        var response = send("createActionItem", "POST", "/api/team/%s/action-item".formatted(teamId),
+            "{\"task\":\"Follow up for %s\",\"completed\":false,\"assignee\":\"%s\",\"archived\":false}".formatted(userId, userId));
+        return response == null ? null : idFromLocation(response);
+    }
+
+    void heartThought(long thoughtId) {
+        send("heartThought", "PUT", "/api/team/%s/thoughts/%d/heart".formatted(teamId, thoughtId), "");
+    }
+
+    void moveThought(long thoughtId, long columnId) {
+        send("moveThought", "PUT", "/api/team/%s/thoughts/%d/column-id".formatted(teamId, thoughtId),
+            "{\"columnId\":%d}".formatted(columnId));
+    }
+
+    void editActionItem(long actionItemId) {
+        var marker = deliveries.newMarker();
+        deliveries.sent(marker);
+        send("editActionItem", "PUT", "/api/team/%s/action-item/%d/task".formatted(teamId, actionItemId),
+            "{\"task\":\"%s\"}".formatted(marker));
+    }
+
+    void endRetro() {
+        send("endRetro", "PUT", "/api/team/%s/end-retro".formatted(teamId), "");
+    }
+
+    private HttpResponse<Void> send(String operation, String method, String path, String body) {
+        var request = HttpRequest.newBuilder(baseUri.resolve(path))
+            .header("Authorization", "Bearer " + SimulationSecurityConfig.tokenFor(userId))
+            .header("Content-Type", "application/json")
+            .header(OperationTagFilter.HEADER, operation)
+            .method(method, HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        var start = System.nanoTime();
+        try {
+            var response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            requestLatencies.record(operation, System.nanoTime() - start);
+            if (response.statusCode() >= 300) {
+                failures.computeIfAbsent(operation + " " + response.statusCode(), key -> new LongAdder()).increment();
+                return null;
+            }
+            return response;
+        } catch (IOException e) {
+            failures.computeIfAbsent(operation + " " + e.getClass().getSimpleName(), key -> new LongAdder()).increment();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static Long idFromLocation(HttpResponse<Void> response) {
+        return response.headers().firstValue("Location")
+            .map(location -> Long.valueOf(location.substring(location.lastIndexOf('/') + 1)))
+            .orElse(null);
+    }
+}
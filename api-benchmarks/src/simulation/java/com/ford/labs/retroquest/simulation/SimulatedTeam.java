@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.simulation;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * One team's retro: every round each participant adds a thought, hearts and moves a teammate's thought and edits
+ * their action item, then the facilitator ends the retro once everyone is done.
+ */
+class SimulatedTeam {
+    private final List<SimulatedParticipant> participants;
+    private final List<Long> columnIds;
+    private final List<Long> thoughtIds = new CopyOnWriteArrayList<>();
+    private final List<Long> actionItemIds = new CopyOnWriteArrayList<>();
+
+    SimulatedTeam(List<SimulatedParticipant> participants, List<Long> columnIds) {
+        this.participants = participants;
+        this.columnIds = columnIds;
+    }
+
+    List<SimulatedParticipant> participants() {
+        return participants;
+    }
+
+    CompletableFuture<Void> prepare(Executor executor) {
+        return allOf(executor, participant -> {
+            var actionItemId = participant.createActionItem();
+            if (actionItemId != null) {
+                actionItemIds.add(actionItemId);
+            }
+        });
+    }
+
+    CompletableFuture<Void> runRound(Executor executor) {
+        return allOf(executor, this::contribute)
+            .thenRunAsync(() -> {
+                participants.get(0).endRetro();
+                thoughtIds.clear();
+            }, executor);
+    }
+
+    private void contribute(SimulatedParticipant participant) {
+        var thoughtId = participant.createThought(randomOf(columnIds));
+        if (thoughtId != null) {
+            thoughtIds.add(thoughtId);
+        }
+        if (!thoughtIds.isEmpty()) {
+            participant.heartThought(randomOf(thoughtIds));
+            participant.moveThought(randomOf(thoughtIds), randomOf(columnIds));
+        }
+        if (!actionItemIds.isEmpty()) {
+            participant.editActionItem(randomOf(actionItemIds));
+        }
+    }
+
+    private CompletableFuture<Void> allOf(Executor executor, Consumer<SimulatedParticipant> step) {
+        return CompletableFuture.allOf(participants.stream()
+            .map(participant -> CompletableFuture.runAsync(() -> step.accept(participant), executor))
+            .toArray(CompletableFuture[]::new));
+    }
+
+    private static Long randomOf(List<Long> ids) {
+        var snapshot = List.copyOf(ids);
+        return snapshot.get(ThreadLocalRandom.current().nextInt(snapshot.size()));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.simulation;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+
+/**
+ * Replaces the identity provider with tokens of the form {@code sim.<userId>}, and tags each request with the
+ * simulated operation so statements can be attributed to it.
+ */
+@Configuration
+public class SimulationSecurityConfig {
+    static final String TOKEN_PREFIX = "sim.";
+
+    static String tokenFor(String userId) {
+        return TOKEN_PREFIX + userId;
+    }
+
+    @Bean
+    public JwtDecoder simulationJwtDecoder() {
+        return token -> {
+            if (!token.startsWith(TOKEN_PREFIX)) {
+                throw new BadJwtException("Not a simulation token");
+            }
+            var now = Instant.now();
+            return Jwt.withTokenValue(token)
+                .header("alg", "none")
+                .subject(token.substring(TOKEN_PREFIX.length()))
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(3600))
+                .build();
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<OperationTagFilter> operationTagFilter() {
+        var registration = new FilterRegistrationBean<>(new OperationTagFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
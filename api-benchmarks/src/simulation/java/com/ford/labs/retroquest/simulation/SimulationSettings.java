@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.simulation;
+
+import java.nio.file.Path;
+
+public record SimulationSettings(
+    int teams,
+    int participants,
+    int rounds,
+    int concurrency,
+    Path reportFile
+) {
+    public static SimulationSettings fromSystemProperties() {
+        return new SimulationSettings(
+            Integer.getInteger("simulation.teams", 50),
+            Integer.getInteger("simulation.participants", 6),
+            Integer.getInteger("simulation.rounds", 3),
+            Integer.getInteger("simulation.concurrency", 64),
+            Path.of(System.getProperty("simulation.report-file", "build/results/simulation/report.json"))
+        );
+    }
+}
@@ -54,7 +54,12 @@ public class ProxyRestTemplateCustomizer implements RestTemplateCustomizer {
                 }
             }).build();
 
-        restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(proxyClient));
+        if (restTemplate.getRequestFactory() instanceof HttpComponentsClientHttpRequestFactory requestFactory) {
+            // Keeps the connect and read timeouts already configured on the factory
+            requestFactory.setHttpClient(proxyClient);
+        } else {
+            restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(proxyClient));
+        }
 
     }
 }
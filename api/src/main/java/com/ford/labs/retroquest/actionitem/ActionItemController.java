@@ -18,18 +18,22 @@
 package com.ford.labs.retroquest.actionitem;
 
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
-import javax.transaction.Transactional;
+import javax.validation.Valid;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.security.Principal;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import static java.lang.String.format;
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
 
 @RestController
 public class ActionItemController {
@@ -51,10 +55,32 @@ public class ActionItemController {
         return ResponseEntity.created(actionItemUri).build();
     }
 
+    @Transactional(readOnly = true)
     @GetMapping("/api/team/{teamId}/action-item")
     @PreAuthorize("@authorizationService.requestIsAuthorized(authentication, #teamId)")
-    public List<ActionItem> getActionItemsForTeam(@PathVariable("teamId") UUID teamId, @RequestParam(required = false) Boolean archived) {
-        return actionItemService.getActionItems(teamId.toString(), Optional.ofNullable(archived));
+    public ResponseEntity<List<ActionItem>> getActionItemsForTeam(
+            @PathVariable("teamId") UUID teamId,
+            @RequestParam(required = false) Boolean archived,
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) String assignee,
+            @RequestParam(required = false) @DateTimeFormat(iso = DATE) LocalDate createdOnOrAfter,
+            @RequestParam(required = false) @DateTimeFormat(iso = DATE) LocalDate createdOnOrBefore,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        var filter = new ActionItemFilter(archived, completed, assignee, createdOnOrAfter, createdOnOrBefore);
+        var page = actionItemService.getActionItems(teamId.toString(), filter, cursor, limit);
+        var response = ResponseEntity.ok().header("Access-Control-Expose-Headers", "Next-Cursor");
+        if (page.hasNext()) {
+            response.header("Next-Cursor", String.valueOf(page.nextCursor()));
+        }
+        return response.body(page.actionItems());
+    }
+
+    @Transactional(readOnly = true)
+    @GetMapping("/api/action-item/assigned-to-me")
+    public List<ActionItem> getOpenActionItemsAssignedToUser(Principal principal) {
+        return actionItemService.getOpenActionItemsAssignedTo(principal.getName());
     }
 
     @PutMapping("/api/team/{teamId}/action-item/{actionItemId}/completed")
@@ -110,4 +136,11 @@ public class ActionItemController {
     public void deleteActionItemsByTeamIdAndIds(@PathVariable("teamId") UUID teamId, @RequestBody() DeleteActionItemsRequest request) {
         actionItemService.deleteMultipleActionItems(teamId.toString(), request.actionItemIds());
     }
+
+    @Transactional
+    @PostMapping("/api/team/{teamId}/action-item/bulk")
+    @PreAuthorize("@authorizationService.requestIsAuthorized(authentication, #teamId)")
+    public ActionItemBatch applyBulkOperation(@PathVariable("teamId") UUID teamId, @RequestBody @Valid BulkActionItemRequest request) {
+        return actionItemService.applyBulkOperation(teamId.toString(), request);
+    }
 }
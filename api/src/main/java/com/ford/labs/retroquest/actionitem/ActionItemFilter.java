@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.actionitem;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Optional;
+
+public record ActionItemFilter(
+    Boolean archived,
+    Boolean completed,
+    String assignee,
+    LocalDate createdOnOrAfter,
+    LocalDate createdOnOrBefore
+) {
+    public static ActionItemFilter none() {
+        return new ActionItemFilter(null, null, null, null, null);
+    }
+
+    public static ActionItemFilter archived(boolean archived) {
+        return new ActionItemFilter(archived, null, null, null, null);
+    }
+
+    Date createdOnOrAfterDate() {
+        return Optional.ofNullable(createdOnOrAfter).map(Date::valueOf).orElse(null);
+    }
+
+    Date createdOnOrBeforeDate() {
+        return Optional.ofNullable(createdOnOrBefore).map(Date::valueOf).orElse(null);
+    }
+}
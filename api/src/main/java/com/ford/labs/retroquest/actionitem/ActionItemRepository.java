@@ -18,6 +18,9 @@
 package com.ford.labs.retroquest.actionitem;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import javax.transaction.Transactional;
@@ -25,15 +28,49 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ActionItemRepository extends JpaRepository<ActionItem, Long>{
+public interface ActionItemRepository extends JpaRepository<ActionItem, Long>, ActionItemRepositoryCustom {
     Optional<ActionItem> findByTeamIdAndId(String teamId, Long actionItemId);
-    List<ActionItem> findAllByTeamId(String teamId);
     List<ActionItem> findAllByTeamIdAndArchived(String teamId, boolean archived);
     List<ActionItem> findAllByTeamIdAndArchivedIsFalseAndCompletedIsTrue(String teamId);
 
     @Transactional
     void deleteActionItemByTeamIdAndId(String teamId, Long id);
 
+    List<ActionItem> findAllByTeamIdAndIdIn(String teamId, List<Long> ids);
+
+    @Query(value = """
+        SELECT action_item.* FROM action_item
+        JOIN team_user_mapping ON action_item.team_id = CAST(team_user_mapping.team_id AS VARCHAR(36))
+        WHERE team_user_mapping.user_id = :userId
+        AND action_item.assignee = :userId
+        AND action_item.archived = false
+        AND action_item.completed = false
+        ORDER BY action_item.id
+    """, nativeQuery = true)
+    List<ActionItem> findOpenActionItemsAssignedToTeamMember(@Param("userId") String userId);
+
+    List<ActionItem> findAllByTeamIdInAndAssigneeAndArchivedIsFalseAndCompletedIsFalse(List<String> teamIds, String assignee);
+
+    @Query("SELECT actionItem.id FROM ActionItem actionItem WHERE actionItem.teamId = :teamId AND actionItem.id IN :ids")
+    List<Long> findIdsByTeamIdAndIdIn(@Param("teamId") String teamId, @Param("ids") List<Long> ids);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ActionItem actionItem SET actionItem.completed = true WHERE actionItem.teamId = :teamId AND actionItem.id IN :ids AND actionItem.completed = false")
+    int bulkCompleteByTeamIdAndIdIn(@Param("teamId") String teamId, @Param("ids") List<Long> ids);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ActionItem actionItem SET actionItem.archived = true WHERE actionItem.teamId = :teamId AND actionItem.id IN :ids")
+    int bulkArchiveByTeamIdAndIdIn(@Param("teamId") String teamId, @Param("ids") List<Long> ids);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ActionItem actionItem SET actionItem.assignee = :assignee WHERE actionItem.teamId = :teamId AND actionItem.id IN :ids")
+    int bulkAssignByTeamIdAndIdIn(@Param("teamId") String teamId, @Param("ids") List<Long> ids, @Param("assignee") String assignee);
+
     @Transactional
-    void deleteActionItemByTeamIdAndIdIn(String teamId, List<Long> ids);
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ActionItem actionItem WHERE actionItem.teamId = :teamId AND actionItem.id IN :ids")
+    int bulkDeleteByTeamIdAndIdIn(@Param("teamId") String teamId, @Param("ids") List<Long> ids);
 }
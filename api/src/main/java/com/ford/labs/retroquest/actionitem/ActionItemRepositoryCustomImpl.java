@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.actionitem;
+
+import org.springframework.data.domain.Pageable;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+public class ActionItemRepositoryCustomImpl implements ActionItemRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Only the filters that were given end up in the query. Optional "(:x IS NULL OR ...)" predicates would share one
+     * generic plan on PostgreSQL, which cannot pick the team/archived or team/assignee index for the caller's filter.
+     */
+    @Override
+    public List<ActionItem> findPageByTeamId(String teamId, ActionItemFilter filter, Long afterId, Pageable pageable) {
+        var jpql = new StringBuilder("SELECT actionItem FROM ActionItem actionItem WHERE actionItem.teamId = :teamId");
+        var parameters = new LinkedHashMap<String, Object>();
+        parameters.put("teamId", teamId);
+        if (filter.archived() != null) {
+            jpql.append(" AND actionItem.archived = :archived");
+            parameters.put("archived", filter.archived());
+        }
+        if (filter.completed() != null) {
+            jpql.append(" AND actionItem.completed = :completed");
+            parameters.put("completed", filter.completed());
+        }
+        if (filter.assignee() != null) {
+            jpql.append(" AND actionItem.assignee = :assignee");
+            parameters.put("assignee", filter.assignee());
+        }
+        if (filter.createdOnOrAfter() != null) {
+            jpql.append(" AND actionItem.dateCreated >= :createdOnOrAfter");
+            parameters.put("createdOnOrAfter", filter.createdOnOrAfterDate());
+        }
+        if (filter.createdOnOrBefore() != null) {
+            jpql.append(" AND actionItem.dateCreated <= :createdOnOrBefore");
+            parameters.put("createdOnOrBefore", filter.createdOnOrBeforeDate());
+        }
+        if (afterId != null) {
+            jpql.append(" AND actionItem.id > :afterId");
+            parameters.put("afterId", afterId);
+        }
+        jpql.append(" ORDER BY actionItem.id ASC");
+
+        var query = entityManager.createQuery(jpql.toString(), ActionItem.class);
+        parameters.forEach(query::setParameter);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList();
+    }
+}
@@ -18,82 +18,229 @@
 package com.ford.labs.retroquest.actionitem;
 
 import com.ford.labs.retroquest.exception.ActionItemDoesNotExistException;
+import com.ford.labs.retroquest.locking.TeamLockManager;
+import com.ford.labs.retroquest.metrics.RetroActivityMetrics;
+import com.ford.labs.retroquest.sharding.ShardMap;
+import com.ford.labs.retroquest.sharding.TeamShardContext;
+import com.ford.labs.retroquest.teamusermapping.TeamUserMapping;
+import com.ford.labs.retroquest.teamusermapping.TeamUserMappingRepository;
 import com.ford.labs.retroquest.websocket.WebsocketService;
+import com.ford.labs.retroquest.websocket.events.WebsocketActionItemBatchEvent;
 import com.ford.labs.retroquest.websocket.events.WebsocketActionItemEvent;
+import com.ford.labs.retroquest.websocket.events.WebsocketEventType;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.ford.labs.retroquest.websocket.events.WebsocketEventType.DELETE;
 import static com.ford.labs.retroquest.websocket.events.WebsocketEventType.UPDATE;
 
 @Service
 public class ActionItemService {
+    public static final String ASSIGNED_ACTION_ITEMS_CACHE = "assignedActionItems";
+    static final int MAX_PAGE_SIZE = 100;
+
     private final ActionItemRepository actionItemRepository;
     private final WebsocketService websocketService;
-
-    public ActionItemService(ActionItemRepository actionItemRepository, WebsocketService websocketService) {
+    private final CacheManager cacheManager;
+    private final TeamLockManager teamLockManager;
+    private final RetroActivityMetrics retroActivityMetrics;
+    private final TeamUserMappingRepository teamUserMappingRepository;
+    private final Optional<ShardMap> shardMap;
+
+    public ActionItemService(
+        ActionItemRepository actionItemRepository,
+        WebsocketService websocketService,
+        CacheManager cacheManager,
+        TeamLockManager teamLockManager,
+        RetroActivityMetrics retroActivityMetrics,
+        TeamUserMappingRepository teamUserMappingRepository,
+        Optional<ShardMap> shardMap
+    ) {
         this.actionItemRepository = actionItemRepository;
         this.websocketService = websocketService;
+        this.cacheManager = cacheManager;
+        this.teamLockManager = teamLockManager;
+        this.retroActivityMetrics = retroActivityMetrics;
+        this.teamUserMappingRepository = teamUserMappingRepository;
+        this.shardMap = shardMap;
     }
 
     public ActionItem createActionItem(String teamId, CreateActionItemRequest request) {
         var actionItem = request.toActionItem();
         actionItem.setTeamId(teamId);
         var savedActionItem = actionItemRepository.save(actionItem);
+        evictAssignedActionItems(savedActionItem.getAssignee());
         websocketService.publishEvent(new WebsocketActionItemEvent(teamId, UPDATE, savedActionItem));
+        retroActivityMetrics.actionItemCreated();
         return savedActionItem;
     }
 
-    public List<ActionItem> getActionItems(String teamId, Optional<Boolean> archived) {
-        if(archived.isPresent()) return actionItemRepository.findAllByTeamIdAndArchived(teamId, archived.get());
-        else return actionItemRepository.findAllByTeamId(teamId);
+    @Cacheable(value = ASSIGNED_ACTION_ITEMS_CACHE, key = "#userId")
+    public List<ActionItem> getOpenActionItemsAssignedTo(String userId) {
+        return shardMap
+            .map(shards -> getOpenActionItemsAssignedAcrossShards(userId, shards))
+            .orElseGet(() -> actionItemRepository.findOpenActionItemsAssignedToTeamMember(userId));
+    }
+
+    private List<ActionItem> getOpenActionItemsAssignedAcrossShards(String userId, ShardMap shards) {
+        // Memberships live on the default shard, so look up the user's teams there and ask each shard once
+        var teamsByShard = teamUserMappingRepository.findAllByUserId(userId).stream()
+            .map(TeamUserMapping::getTeamId)
+            .collect(Collectors.groupingBy(shards::shardFor));
+        return teamsByShard.values().stream()
+            .flatMap(teamIds -> TeamShardContext.callForTeam(teamIds.get(0), () ->
+                actionItemRepository.findAllByTeamIdInAndAssigneeAndArchivedIsFalseAndCompletedIsFalse(
+                    teamIds.stream().map(Object::toString).toList(),
+                    userId
+                )
+            ).stream())
+            .sorted(Comparator.comparing(ActionItem::getId))
+            .toList();
+    }
+
+    public ActionItemPage getActionItems(String teamId, ActionItemFilter filter, Long cursor, Integer limit) {
+        if (limit == null) {
+            return new ActionItemPage(findActionItems(teamId, filter, cursor, Pageable.unpaged()), null);
+        }
+        var pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // Fetch one extra row so we know whether another page exists without issuing a count query
+        var actionItems = findActionItems(teamId, filter, cursor, PageRequest.of(0, pageSize + 1));
+        if (actionItems.size() <= pageSize) {
+            return new ActionItemPage(actionItems, null);
+        }
+        var page = actionItems.subList(0, pageSize);
+        return new ActionItemPage(page, page.get(pageSize - 1).getId());
+    }
+
+    private List<ActionItem> findActionItems(String teamId, ActionItemFilter filter, Long cursor, Pageable pageable) {
+        return actionItemRepository.findPageByTeamId(teamId, filter, cursor, pageable);
     }
 
     public void updateCompletedStatus(String teamId, Long actionItemId, UpdateActionItemCompletedRequest request) {
-        var savedActionItem = fetchActionItem(teamId, actionItemId);
-        savedActionItem.setCompleted(request.completed());
-        var updatedActionItem = actionItemRepository.save(savedActionItem);
-        websocketService.publishEvent(new WebsocketActionItemEvent(teamId, UPDATE, updatedActionItem));
+        teamLockManager.runWithTeamLock(teamId, () -> {
+            var savedActionItem = fetchActionItem(teamId, actionItemId);
+            var newlyCompleted = request.completed() && !savedActionItem.isCompleted();
+            savedActionItem.setCompleted(request.completed());
+            var updatedActionItem = actionItemRepository.save(savedActionItem);
+            evictAssignedActionItems(updatedActionItem.getAssignee());
+            websocketService.publishEvent(new WebsocketActionItemEvent(teamId, UPDATE, updatedActionItem));
+            if (newlyCompleted) {
+                retroActivityMetrics.actionItemsCompleted(1);
+            }
+        });
     }
 
     public ActionItem updateTask(String teamId, Long actionItemId, UpdateActionItemTaskRequest request) {
-        var savedActionItem = fetchActionItem(teamId, actionItemId);
-        savedActionItem.setTask(request.task());
-        var updatedActionItem = actionItemRepository.save(savedActionItem);
-        websocketService.publishEvent(new WebsocketActionItemEvent(teamId, UPDATE, updatedActionItem));
-        return updatedActionItem;
+        return teamLockManager.withTeamLock(teamId, () -> {
+            var savedActionItem = fetchActionItem(teamId, actionItemId);
+            savedActionItem.setTask(request.task());
+            var updatedActionItem = actionItemRepository.save(savedActionItem);
+            evictAssignedActionItems(updatedActionItem.getAssignee());
+            websocketService.publishEvent(new WebsocketActionItemEvent(teamId, UPDATE, updatedActionItem));
+            return updatedActionItem;
+        });
     }
 
     public ActionItem updateAssignee(String teamId, Long actionItemId, UpdateActionItemAssigneeRequest request) {
-        var savedActionItem = fetchActionItem(teamId, actionItemId);
-        savedActionItem.setAssignee(request.assignee());
-        var updatedActionItem = actionItemRepository.save(savedActionItem);
-        websocketService.publishEvent(new WebsocketActionItemEvent(teamId, UPDATE, updatedActionItem));
-        return updatedActionItem;
+        return teamLockManager.withTeamLock(teamId, () -> {
+            var savedActionItem = fetchActionItem(teamId, actionItemId);
+            var previousAssignee = savedActionItem.getAssignee();
+            savedActionItem.setAssignee(request.assignee());
+            var updatedActionItem = actionItemRepository.save(savedActionItem);
+            evictAssignedActionItems(previousAssignee, updatedActionItem.getAssignee());
+            websocketService.publishEvent(new WebsocketActionItemEvent(teamId, UPDATE, updatedActionItem));
+            return updatedActionItem;
+        });
     }
 
     public void updateArchivedStatus(String teamId, Long actionItemId, UpdateActionItemArchivedRequest request) {
-        var savedActionItem = fetchActionItem(teamId, actionItemId);
-        savedActionItem.setArchived(request.archived());
-        var updatedActionItem = actionItemRepository.save(savedActionItem);
-        websocketService.publishEvent(new WebsocketActionItemEvent(teamId, UPDATE, updatedActionItem));
+        teamLockManager.runWithTeamLock(teamId, () -> {
+            var savedActionItem = fetchActionItem(teamId, actionItemId);
+            savedActionItem.setArchived(request.archived());
+            var updatedActionItem = actionItemRepository.save(savedActionItem);
+            evictAssignedActionItems(updatedActionItem.getAssignee());
+            websocketService.publishEvent(new WebsocketActionItemEvent(teamId, UPDATE, updatedActionItem));
+        });
     }
 
     public void deleteOneActionItem(String teamId, Long actionItemId) {
-        actionItemRepository.deleteActionItemByTeamIdAndId(teamId, actionItemId);
-        websocketService.publishEvent(new WebsocketActionItemEvent(teamId, DELETE, ActionItem.builder().id(actionItemId).build()));
+        teamLockManager.runWithTeamLock(teamId, () -> {
+            actionItemRepository.deleteActionItemByTeamIdAndId(teamId, actionItemId);
+            clearAssignedActionItems();
+            websocketService.publishEvent(new WebsocketActionItemEvent(teamId, DELETE, ActionItem.builder().id(actionItemId).build()));
+        });
+    }
+
+    public ActionItemBatch deleteMultipleActionItems(String teamId, List<Long> actionItemIds) {
+        return teamLockManager.withTeamLock(teamId, () -> {
+            var existingIds = actionItemRepository.findIdsByTeamIdAndIdIn(teamId, actionItemIds);
+            if (existingIds.isEmpty()) return ActionItemBatch.deleted(existingIds);
+            actionItemRepository.bulkDeleteByTeamIdAndIdIn(teamId, existingIds);
+            clearAssignedActionItems();
+            return publishBatch(teamId, DELETE, ActionItemBatch.deleted(existingIds));
+        });
     }
 
-    public void deleteMultipleActionItems(String teamId, List<Long> actionItemIds) {
-        actionItemRepository.deleteActionItemByTeamIdAndIdIn(teamId, actionItemIds);
+    public ActionItemBatch applyBulkOperation(String teamId, BulkActionItemRequest request) {
+        return teamLockManager.withTeamLock(teamId, () -> {
+            var actionItemIds = request.actionItemIds();
+            return switch (request.operation()) {
+                case COMPLETE -> {
+                    retroActivityMetrics.actionItemsCompleted(actionItemRepository.bulkCompleteByTeamIdAndIdIn(teamId, actionItemIds));
+                    yield publishUpdatedBatch(teamId, actionItemIds);
+                }
+                case ARCHIVE -> {
+                    actionItemRepository.bulkArchiveByTeamIdAndIdIn(teamId, actionItemIds);
+                    yield publishUpdatedBatch(teamId, actionItemIds);
+                }
+                case ASSIGN -> {
+                    actionItemRepository.bulkAssignByTeamIdAndIdIn(teamId, actionItemIds, request.assignee());
+                    yield publishUpdatedBatch(teamId, actionItemIds);
+                }
+                case DELETE -> deleteMultipleActionItems(teamId, actionItemIds);
+            };
+        });
     }
 
-    public void archiveCompletedActionItems(String teamId) {
+    public List<Long> archiveCompletedActionItems(String teamId) {
         var itemsToUpdate = actionItemRepository.findAllByTeamIdAndArchivedIsFalseAndCompletedIsTrue(teamId);
         itemsToUpdate.forEach(item -> item.setArchived(true));
         actionItemRepository.saveAll(itemsToUpdate);
+        return itemsToUpdate.stream().map(ActionItem::getId).toList();
+    }
+
+    private ActionItemBatch publishUpdatedBatch(String teamId, List<Long> actionItemIds) {
+        var updatedActionItems = actionItemRepository.findAllByTeamIdAndIdIn(teamId, actionItemIds);
+        clearAssignedActionItems();
+        return publishBatch(teamId, UPDATE, ActionItemBatch.updated(updatedActionItems));
+    }
+
+    private ActionItemBatch publishBatch(String teamId, WebsocketEventType type, ActionItemBatch batch) {
+        if (!batch.isEmpty()) {
+            websocketService.publishEvent(new WebsocketActionItemBatchEvent(teamId, type, batch));
+        }
+        return batch;
+    }
+
+    private void evictAssignedActionItems(String... assignees) {
+        Optional.ofNullable(cacheManager.getCache(ASSIGNED_ACTION_ITEMS_CACHE)).ifPresent(cache ->
+            Stream.of(assignees).filter(Objects::nonNull).forEach(cache::evict)
+        );
+    }
+
+    private void clearAssignedActionItems() {
+        Optional.ofNullable(cacheManager.getCache(ASSIGNED_ACTION_ITEMS_CACHE)).ifPresent(Cache::clear);
     }
 
     public ActionItem fetchActionItem(String teamId, Long actionItemId) {
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.actionitem;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record BulkActionItemRequest(
+    @NotEmpty List<Long> actionItemIds,
+    @NotNull BulkActionItemOperation operation,
+    String assignee
+) {
+    @JsonIgnore
+    @AssertTrue(message = "An assignee is required to assign action items")
+    public boolean isAssigneeGivenForAssign() {
+        return operation != BulkActionItemOperation.ASSIGN || (assignee != null && !assignee.isBlank());
+    }
+}
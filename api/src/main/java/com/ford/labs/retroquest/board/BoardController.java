@@ -19,6 +19,7 @@ package com.ford.labs.retroquest.board;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
@@ -45,6 +46,7 @@ public class BoardController {
         return ResponseEntity.created(uri).build();
     }
 
+    @Transactional(readOnly = true)
     @GetMapping("/team/{teamId}/boards")
     @PreAuthorize("@authorizationService.requestIsAuthorized(authentication, #teamId)")
     public ResponseEntity<List<Board>> getBoards(
@@ -57,6 +59,7 @@ public class BoardController {
         return this.boardService.getPaginatedBoardListWithHeaders(teamId.toString(), pageIndex, pageSize, sortBy, sortOrder);
     }
 
+    @Transactional(readOnly = true)
     @GetMapping("/team/{teamId}/boards/{boardId}")
     @PreAuthorize("@boardAuthorizationService.requestIsAuthorized(authentication, #teamId, #boardId)")
     public Retro getBoard(@PathVariable("teamId") UUID teamId, @PathVariable("boardId") Long boardId) {
@@ -77,7 +80,7 @@ public class BoardController {
 
     @PutMapping("/team/{teamId}/end-retro")
     @PreAuthorize("@authorizationService.requestIsAuthorized(authentication, #teamId)")
-    public void endRetro(@PathVariable("teamId") UUID teamId) {
-        this.boardService.endRetro(teamId.toString());
+    public EndRetroSummary endRetro(@PathVariable("teamId") UUID teamId) {
+        return this.boardService.endRetro(teamId.toString());
     }
 }
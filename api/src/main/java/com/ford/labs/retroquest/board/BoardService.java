@@ -20,6 +20,9 @@ package com.ford.labs.retroquest.board;
 import com.ford.labs.retroquest.actionitem.ActionItemService;
 import com.ford.labs.retroquest.column.Column;
 import com.ford.labs.retroquest.column.ColumnService;
+import com.ford.labs.retroquest.flightrecorder.RetroEndedEvent;
+import com.ford.labs.retroquest.locking.TeamLockManager;
+import com.ford.labs.retroquest.metrics.RetroActivityMetrics;
 import com.ford.labs.retroquest.thought.ThoughtService;
 import com.ford.labs.retroquest.websocket.WebsocketService;
 import com.ford.labs.retroquest.websocket.events.WebsocketEndRetroEvent;
@@ -42,19 +45,25 @@ public class BoardService {
     private final ThoughtService thoughtService;
     private final ActionItemService actionItemService;
     private final WebsocketService websocketService;
+    private final TeamLockManager teamLockManager;
+    private final RetroActivityMetrics retroActivityMetrics;
 
     public BoardService(
         BoardRepository boardRepository,
         ColumnService columnService,
         ThoughtService thoughtService,
         ActionItemService actionItemService,
-        WebsocketService websocketService
+        WebsocketService websocketService,
+        TeamLockManager teamLockManager,
+        RetroActivityMetrics retroActivityMetrics
     ) {
         this.boardRepository = boardRepository;
         this.columnService = columnService;
         this.thoughtService = thoughtService;
         this.actionItemService = actionItemService;
         this.websocketService = websocketService;
+        this.teamLockManager = teamLockManager;
+        this.retroActivityMetrics = retroActivityMetrics;
     }
 
     public List<Board> getPaginatedBoardList(String teamId, Integer pageIndex, Integer pageSize, String sortBy, String sortOrder) {
@@ -111,16 +120,32 @@ public class BoardService {
         return this.boardRepository.save(board);
     }
 
-    public void endRetro(String teamId) {
-        if (this.thoughtService.fetchAllActiveThoughts(teamId).size() > 0) {
-            var createdBoard = createBoard(teamId);
-            var thoughts = this.thoughtService.fetchAllActiveThoughts(teamId);
-            thoughts.forEach(thought -> thought.setBoardId(createdBoard.getId()));
-            createdBoard.setThoughts(thoughts);
-            this.boardRepository.save(createdBoard);
-        }
-        actionItemService.archiveCompletedActionItems(teamId);
-        websocketService.publishEvent(new WebsocketEndRetroEvent(teamId));
+    public EndRetroSummary endRetro(String teamId) {
+        var flightRecorderEvent = new RetroEndedEvent();
+        flightRecorderEvent.begin();
+        var endRetroSummary = teamLockManager.withTeamLock(teamId, () -> {
+            Board createdBoard = null;
+            if (this.thoughtService.fetchAllActiveThoughts(teamId).size() > 0) {
+                createdBoard = createBoard(teamId);
+                var thoughts = this.thoughtService.fetchAllActiveThoughts(teamId);
+                var boardId = createdBoard.getId();
+                thoughts.forEach(thought -> thought.setBoardId(boardId));
+                createdBoard.setThoughts(thoughts);
+                this.boardRepository.save(createdBoard);
+            }
+            thoughtService.releaseActiveThoughts(teamId);
+            var archivedActionItemIds = actionItemService.archiveCompletedActionItems(teamId);
+            var summary = EndRetroSummary.of(createdBoard, archivedActionItemIds);
+            websocketService.publishEvent(new WebsocketEndRetroEvent(teamId, summary));
+            return summary;
+        });
+        retroActivityMetrics.retroEnded();
+        flightRecorderEvent.finish(
+            teamId,
+            endRetroSummary.board() == null ? 0 : endRetroSummary.board().thoughtCount(),
+            endRetroSummary.archivedActionItemIds().size()
+        );
+        return endRetroSummary;
     }
 
     public void deleteBoard(String teamId, Long boardId) {
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.board;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.ford.labs.retroquest.thought.Thought;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record EndRetroSummary(
+    BoardSummary board,
+    List<Long> archivedActionItemIds,
+    List<Thought> activeThoughts
+) {
+    public static EndRetroSummary of(Board board, List<Long> archivedActionItemIds) {
+        return new EndRetroSummary(
+            board == null ? null : BoardSummary.from(board),
+            List.copyOf(archivedActionItemIds),
+            List.of()
+        );
+    }
+
+    public record BoardSummary(
+        Long id,
+        String teamId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        LocalDate dateCreated,
+        int thoughtCount
+    ) {
+        static BoardSummary from(Board board) {
+            return new BoardSummary(board.getId(), board.getTeamId(), board.getDateCreated(), board.getThoughts().size());
+        }
+    }
+}
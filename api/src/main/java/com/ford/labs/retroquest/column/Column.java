@@ -17,9 +17,12 @@
 
 package com.ford.labs.retroquest.column;
 
+import com.ford.labs.retroquest.config.HibernateCacheConfig;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.NaturalId;
 
 import javax.persistence.Entity;
@@ -32,6 +35,7 @@ import java.io.Serializable;
 @Entity(name = "rq_column")
 @NoArgsConstructor
 @AllArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.COLUMN_REGION)
 public class Column implements Serializable, Comparable<Column> {
 
     @Id
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.column;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Collections;
+import java.util.List;
+
+public class ColumnRepositoryCustomImpl implements ColumnRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void insertColumnsForTeam(String teamId, List<ColumnTemplate> templates) {
+        if (templates.isEmpty()) return;
+
+        var values = String.join(", ", Collections.nCopies(templates.size(), "(?, ?)"));
+        var query = entityManager.createNativeQuery("INSERT INTO rq_column (topic, team_id) VALUES " + values)
+            .unwrap(NativeQuery.class)
+            .addSynchronizedEntityClass(Column.class);
+        var position = 1;
+        for (var template : templates) {
+            query.setParameter(position++, template.topic());
+            query.setParameter(position++, teamId);
+        }
+        query.executeUpdate();
+    }
+}
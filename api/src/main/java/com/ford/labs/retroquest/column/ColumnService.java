@@ -17,57 +17,159 @@
 
 package com.ford.labs.retroquest.column;
 
+import com.ford.labs.retroquest.datasource.DataSourceRouting;
 import com.ford.labs.retroquest.exception.ColumnNotFoundException;
+import com.ford.labs.retroquest.locking.TeamLockManager;
+import com.ford.labs.retroquest.team.Team;
+import com.ford.labs.retroquest.team.TeamRepository;
 import com.ford.labs.retroquest.websocket.WebsocketService;
 import com.ford.labs.retroquest.websocket.events.WebsocketColumnEvent;
 import com.ford.labs.retroquest.websocket.events.WebsocketEventType;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class ColumnService {
 
+    static final int MAX_CACHED_TEAMS = 10_000;
+
     private final ColumnRepository columnRepository;
     private final MeterRegistry meterRegistry;
     private final WebsocketService websocketService;
+    private final TeamRepository teamRepository;
+    private final RetroTypeRegistry retroTypeRegistry;
+    private final TeamLockManager teamLockManager;
+    private final Map<String, List<Column>> columnsByTeam = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<Column>> eldest) {
+            return size() > MAX_CACHED_TEAMS;
+        }
+    };
+    private long columnChanges;
 
-    public ColumnService(ColumnRepository columnRepository, MeterRegistry meterRegistry, WebsocketService websocketService) {
+    public ColumnService(
+        ColumnRepository columnRepository,
+        MeterRegistry meterRegistry,
+        WebsocketService websocketService,
+        TeamRepository teamRepository,
+        RetroTypeRegistry retroTypeRegistry,
+        TeamLockManager teamLockManager
+    ) {
         this.columnRepository = columnRepository;
         this.meterRegistry = meterRegistry;
         this.websocketService = websocketService;
+        this.teamRepository = teamRepository;
+        this.retroTypeRegistry = retroTypeRegistry;
+        this.teamLockManager = teamLockManager;
     }
 
     public List<Column> getColumns(String teamId) {
-        return columnRepository.findAllByTeamId(teamId).stream().sorted().toList();
+        long changesBeforeLoad;
+        synchronized (columnsByTeam) {
+            var cached = columnsByTeam.get(teamId);
+            if (cached != null) {
+                return cached;
+            }
+            changesBeforeLoad = columnChanges;
+        }
+
+        var columns = loadSortedColumns(teamId);
+        synchronized (columnsByTeam) {
+            // Columns loaded while another change was committing may already be stale, so only cache a clean read
+            if (readsCommittedPrimaryData() && columnChanges == changesBeforeLoad) {
+                columnsByTeam.putIfAbsent(teamId, columns);
+            }
+        }
+        return columns;
     }
 
     public Column editTitle(Long columnId, String title, String teamId) {
-        var existingColumn = fetchColumn(teamId, columnId);
-        existingColumn.setTitle(title);
+        return teamLockManager.withTeamLock(teamId, () -> {
+            var existingColumn = columnRepository.findByTeamIdAndId(teamId, columnId).orElseThrow(ColumnNotFoundException::new);
+            var retroType = getRetroType(teamId);
+            var isDefaultTitle = retroType.defaultTitleFor(existingColumn.getTopic()).filter(title::equals).isPresent();
+            existingColumn.setTitle(isDefaultTitle ? null : title);
 
-        Column newColumn = columnRepository.save(existingColumn);
+            Column newColumn = withResolvedTitle(columnRepository.save(existingColumn), retroType);
+            evictAfterCommit(teamId);
 
-        websocketService.publishEvent(new WebsocketColumnEvent(teamId, WebsocketEventType.UPDATE, newColumn));
+            websocketService.publishEvent(new WebsocketColumnEvent(teamId, WebsocketEventType.UPDATE, newColumn));
 
-        meterRegistry.counter("retroquest.columns.changed.count").increment();
+            meterRegistry.counter("retroquest.columns.changed.count").increment();
 
-        return newColumn;
+            return newColumn;
+        });
     }
 
     public Column fetchColumn(String teamId, Long columnId) {
-        return columnRepository.findByTeamIdAndId(teamId, columnId).orElseThrow(ColumnNotFoundException::new);
+        return getColumns(teamId).stream()
+            .filter(column -> column.getId().equals(columnId))
+            .findFirst()
+            .orElseThrow(ColumnNotFoundException::new);
+    }
+
+    public void generateInitialColumnsForTeam(Team team) {
+        var teamId = team.getId().toString();
+        columnRepository.insertColumnsForTeam(teamId, retroTypeRegistry.get(team.getRetroType()).columns());
+        evictAfterCommit(teamId);
     }
 
-    public void generateInitialColumnsForTeam(UUID teamId) {
-        var happyColumn = new Column(null, "happy", "Happy", teamId.toString());
-        var confusedColumn = new Column(null, "confused", "Confused", teamId.toString());
-        var unhappyColumn = new Column(null, "unhappy", "Sad", teamId.toString());
+    private static boolean readsCommittedPrimaryData() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return true;
+        }
+        // A read-write transaction may see its own uncommitted changes, and a read-only one may be on a lagging replica
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !DataSourceRouting.mayReadFromReplica();
+    }
+
+    private void evictAfterCommit(String teamId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(teamId);
+                }
+            });
+        } else {
+            evict(teamId);
+        }
+    }
+
+    private void evict(String teamId) {
+        synchronized (columnsByTeam) {
+            columnChanges++;
+            columnsByTeam.remove(teamId);
+        }
+    }
+
+    private List<Column> loadSortedColumns(String teamId) {
+        // Read the team's columns first so a surrounding transaction binds to the team's shard
+        var columns = columnRepository.findAllByTeamId(teamId);
+        var retroType = getRetroType(teamId);
+        return columns.stream()
+            .sorted()
+            .map(column -> withResolvedTitle(column, retroType))
+            .toList();
+    }
+
+    private RetroType getRetroType(String teamId) {
+        return teamRepository.findById(UUID.fromString(teamId))
+            .map(Team::getRetroType)
+            .map(retroTypeRegistry::get)
+            .orElseGet(retroTypeRegistry::getDefault);
+    }
 
-        columnRepository.save(happyColumn);
-        columnRepository.save(confusedColumn);
-        columnRepository.save(unhappyColumn);
+    private static Column withResolvedTitle(Column column, RetroType retroType) {
+        var title = column.getTitle() != null
+            ? column.getTitle()
+            : retroType.defaultTitleFor(column.getTopic()).orElse(column.getTopic());
+        return new Column(column.getId(), column.getTopic(), title, column.getTeamId());
     }
 }
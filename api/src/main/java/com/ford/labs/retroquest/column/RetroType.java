@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.column;
+
+import java.util.List;
+import java.util.Optional;
+
+public record RetroType(String name, List<ColumnTemplate> columns) {
+    public RetroType {
+        columns = List.copyOf(columns);
+    }
+
+    public Optional<String> defaultTitleFor(String topic) {
+        return columns.stream()
+            .filter(column -> column.topic().equals(topic))
+            .map(ColumnTemplate::title)
+            .findFirst();
+    }
+}
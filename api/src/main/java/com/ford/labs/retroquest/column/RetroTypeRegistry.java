@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.column;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@EnableConfigurationProperties(RetroTypeProperties.class)
+public class RetroTypeRegistry {
+
+    public static final RetroType STANDARD_RETRO_TYPE = new RetroType("standard", List.of(
+        new ColumnTemplate("happy", "Happy"),
+        new ColumnTemplate("confused", "Confused"),
+        new ColumnTemplate("unhappy", "Sad")
+    ));
+
+    private final Map<String, RetroType> retroTypes;
+    private final RetroType defaultRetroType;
+
+    public RetroTypeRegistry(RetroTypeProperties properties) {
+        var configuredTypes = new HashMap<String, RetroType>();
+        configuredTypes.put(STANDARD_RETRO_TYPE.name(), STANDARD_RETRO_TYPE);
+        properties.getTypes().forEach((name, columns) -> configuredTypes.put(name, new RetroType(name, columns)));
+        this.retroTypes = Map.copyOf(configuredTypes);
+        this.defaultRetroType = getRequired(properties.getDefaultType());
+    }
+
+    public RetroType getDefault() {
+        return defaultRetroType;
+    }
+
+    public RetroType get(String name) {
+        if (name == null) return defaultRetroType;
+        return retroTypes.getOrDefault(name, defaultRetroType);
+    }
+
+    private RetroType getRequired(String name) {
+        var retroType = retroTypes.get(name);
+        if (retroType == null) {
+            throw new IllegalStateException("Default retro type '%s' is not configured".formatted(name));
+        }
+        return retroType;
+    }
+}
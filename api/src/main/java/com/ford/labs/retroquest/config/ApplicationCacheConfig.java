@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.config;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+@Configuration
+@EnableConfigurationProperties(ApplicationCacheProperties.class)
+public class ApplicationCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public javax.cache.CacheManager applicationCacheManager(ApplicationCacheProperties properties) {
+        var configuration = ConfigurationBuilder.newConfigurationBuilder();
+        for (var cache : properties.getCaches().entrySet()) {
+            configuration = configuration.withCache(cache.getKey(), CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(cache.getValue().getMaxEntries()))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(cache.getValue().getTimeToLive())));
+        }
+
+        var provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("retroquest:application:" + UUID.randomUUID()), configuration.build());
+    }
+
+    /**
+     * Evictions and puts made inside a transaction are applied after it commits, so a reader cannot cache rows the
+     * transaction is still changing.
+     */
+    @Bean
+    public CacheManager cacheManager(@Qualifier("applicationCacheManager") javax.cache.CacheManager applicationCacheManager) {
+        var cacheManager = new JCacheCacheManager(applicationCacheManager);
+        cacheManager.afterPropertiesSet();
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.ford.labs.retroquest.actionitem.ActionItemService.ASSIGNED_ACTION_ITEMS_CACHE;
+
+@Data
+@ConfigurationProperties(prefix = "retroquest.application-cache")
+public class ApplicationCacheProperties {
+    private Map<String, Cache> caches = new LinkedHashMap<>(Map.of(
+        ASSIGNED_ACTION_ITEMS_CACHE, new Cache(10_000, Duration.ofMinutes(5))
+    ));
+
+    @Data
+    public static class Cache {
+        private long maxEntries;
+        private Duration timeToLive;
+
+        public Cache() { }
+
+        public Cache(long maxEntries, Duration timeToLive) {
+            this.maxEntries = maxEntries;
+            this.timeToLive = timeToLive;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.config;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+@Configuration
+@EnableConfigurationProperties(HibernateCacheProperties.class)
+public class HibernateCacheConfig {
+
+    public static final String TEAM_REGION = "team";
+    public static final String COLUMN_REGION = "rq_column";
+    public static final String TEAM_USER_MAPPING_REGION = "team_user_mapping";
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private static final long UPDATE_TIMESTAMPS_MAX_ENTRIES = 1_000;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties) {
+        var configuration = ConfigurationBuilder.newConfigurationBuilder();
+        for (var region : properties.getRegions().entrySet()) {
+            configuration = configuration.withCache(region.getKey(), CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(region.getValue().getMaxEntries()))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(region.getValue().getTimeToLive())));
+        }
+        configuration = configuration.withCache(UPDATE_TIMESTAMPS_REGION, CacheConfigurationBuilder
+            .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(UPDATE_TIMESTAMPS_MAX_ENTRIES)));
+
+        var provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("retroquest:hibernate:" + UUID.randomUUID()), configuration.build());
+    }
+
+    /**
+     * The second-level cache is keyed by entity id alone and shared by the whole process, so it stays off when team
+     * data is sharded: a cached column or query result could otherwise be served for a team on another shard.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(
+        @Qualifier("hibernateCacheManager") CacheManager hibernateCacheManager,
+        @Value("${retroquest.sharding.enabled:false}") boolean shardingEnabled
+    ) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, !shardingEnabled);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, !shardingEnabled);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.config;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheEndpoint {
+
+    private final SessionFactory sessionFactory;
+
+    public HibernateCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @ReadOperation
+    public HibernateCacheReport report() {
+        var statistics = sessionFactory.getStatistics();
+        var regions = new TreeMap<String, RegionReport>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+            .forEach(name -> regions.put(name, RegionReport.of(statistics.getCacheRegionStatistics(name))));
+
+        return new HibernateCacheReport(
+            statistics.getSecondLevelCacheHitCount(),
+            statistics.getSecondLevelCacheMissCount(),
+            statistics.getSecondLevelCachePutCount(),
+            statistics.getQueryCacheHitCount(),
+            statistics.getQueryCacheMissCount(),
+            statistics.getQueryCachePutCount(),
+            statistics.getPrepareStatementCount(),
+            regions
+        );
+    }
+
+    public record HibernateCacheReport(
+        long secondLevelCacheHitCount,
+        long secondLevelCacheMissCount,
+        long secondLevelCachePutCount,
+        long queryCacheHitCount,
+        long queryCacheMissCount,
+        long queryCachePutCount,
+        long preparedStatementCount,
+        Map<String, RegionReport> regions
+    ) { }
+
+    public record RegionReport(long hitCount, long missCount, long putCount, long elementCountInMemory) {
+        static RegionReport of(CacheRegionStatistics statistics) {
+            if (statistics == null) {
+                return new RegionReport(0, 0, 0, 0);
+            }
+            return new RegionReport(
+                statistics.getHitCount(),
+                statistics.getMissCount(),
+                statistics.getPutCount(),
+                statistics.getElementCountInMemory()
+            );
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "retroquest.hibernate-cache")
+public class HibernateCacheProperties {
+    private Map<String, Region> regions = new LinkedHashMap<>(Map.of(
+        HibernateCacheConfig.TEAM_REGION, new Region(10_000, Duration.ofHours(1)),
+        HibernateCacheConfig.COLUMN_REGION, new Region(30_000, Duration.ofHours(1)),
+        HibernateCacheConfig.TEAM_USER_MAPPING_REGION, new Region(50_000, Duration.ofMinutes(30)),
+        HibernateCacheConfig.QUERY_RESULTS_REGION, new Region(20_000, Duration.ofMinutes(10))
+    ));
+
+    @Data
+    public static class Region {
+        private long maxEntries;
+        private Duration timeToLive;
+
+        public Region() { }
+
+        public Region(long maxEntries, Duration timeToLive) {
+            this.maxEntries = maxEntries;
+            this.timeToLive = timeToLive;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.contributors;
+
+import org.springframework.util.DigestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+final class AvatarImages {
+
+    private AvatarImages() { }
+
+    static ContributorAvatar toAvatar(byte[] original, int maxSize) {
+        var image = downscale(read(original), maxSize);
+        var encoded = writePng(image);
+        return new ContributorAvatar(encoded, "\"" + DigestUtils.md5DigestAsHex(encoded) + "\"");
+    }
+
+    private static BufferedImage read(byte[] original) {
+        try {
+            var image = ImageIO.read(new ByteArrayInputStream(original));
+            if (image == null) {
+                throw new IllegalArgumentException("Avatar is not a readable image");
+            }
+            return image;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BufferedImage downscale(BufferedImage image, int maxSize) {
+        var scale = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+        var width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        var height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        var scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        var graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private static byte[] writePng(BufferedImage image) {
+        try {
+            var output = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Ford Motor Company
+ * Copyright (c) 2022 Ford Motor Company
  * All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -17,4 +17,4 @@
 
 package com.ford.labs.retroquest.contributors;
 
-public record Contributor(byte[] image, String accountUrl) { }
+public record Contributor(String imageUrl, String accountUrl) { }
@@ -21,15 +21,22 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
 @Tag(name = "Contributor Controller", description = "The controller that manages the contributors to Retroquest")
 public class ContributorController {
 
+    private static final CacheControl AVATAR_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365)).cachePublic();
+
     private final ContributorsService contributorService;
 
     public ContributorController(ContributorsService contributorsService) {
@@ -42,4 +49,21 @@ public class ContributorController {
     public List<Contributor> getContributors() {
         return contributorService.getContributors();
     }
+
+    @GetMapping("/api/contributors/{login}/avatar")
+    @Operation(summary = "Gets the avatar image of a contributor to Retroquest", description = "getContributorAvatar")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(responseCode = "304", description = "Not Modified"),
+        @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    public ResponseEntity<byte[]> getAvatar(@PathVariable("login") String login) {
+        return contributorService.getAvatar(login)
+            .map(avatar -> ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .eTag(avatar.eTag())
+                .cacheControl(AVATAR_CACHE_CONTROL)
+                .body(avatar.image()))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 }
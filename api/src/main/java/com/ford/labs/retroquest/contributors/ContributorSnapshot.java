@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.contributors;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+record ContributorSnapshot(List<Entry> entries, List<Contributor> contributors, Map<String, ContributorAvatar> avatars) {
+
+    ContributorSnapshot(List<Entry> entries) {
+        this(
+            List.copyOf(entries),
+            entries.stream().map(Entry::toContributor).toList(),
+            entries.stream().collect(Collectors.toUnmodifiableMap(Entry::login, Entry::avatar, (first, second) -> first))
+        );
+    }
+
+    record Entry(String login, String accountUrl, ContributorAvatar avatar) {
+        Contributor toContributor() {
+            var version = avatar.eTag().replace("\"", "");
+            return new Contributor("/api/contributors/%s/avatar?v=%s".formatted(login, version), accountUrl);
+        }
+    }
+}
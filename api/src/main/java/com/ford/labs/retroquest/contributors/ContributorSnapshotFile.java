@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.contributors;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Optional;
+
+class ContributorSnapshotFile {
+    private static final int MAGIC = 0x52514331;
+    private static final int VERSION = 1;
+
+    private final Path path;
+
+    ContributorSnapshotFile(Path path) {
+        this.path = path;
+    }
+
+    Optional<ContributorSnapshot> read() throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return Optional.empty();
+            }
+            var count = buffer.getInt();
+            var entries = new ArrayList<ContributorSnapshot.Entry>(count);
+            for (var i = 0; i < count; i++) {
+                var login = readString(buffer);
+                var accountUrl = readString(buffer);
+                var eTag = readString(buffer);
+                var image = readBytes(buffer);
+                entries.add(new ContributorSnapshot.Entry(login, accountUrl, new ContributorAvatar(image, eTag)));
+            }
+            return Optional.of(new ContributorSnapshot(entries));
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    void write(ContributorSnapshot snapshot) throws IOException {
+        var buffer = ByteBuffer.allocate(sizeOf(snapshot));
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(snapshot.entries().size());
+        for (var entry : snapshot.entries()) {
+            writeBytes(buffer, entry.login().getBytes(StandardCharsets.UTF_8));
+            writeBytes(buffer, entry.accountUrl().getBytes(StandardCharsets.UTF_8));
+            writeBytes(buffer, entry.avatar().eTag().getBytes(StandardCharsets.UTF_8));
+            writeBytes(buffer, entry.avatar().image());
+        }
+        buffer.flip();
+
+        var directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        var temporaryFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (var channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporaryFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static int sizeOf(ContributorSnapshot snapshot) {
+        var size = 12;
+        for (var entry : snapshot.entries()) {
+            size += 16
+                + entry.login().getBytes(StandardCharsets.UTF_8).length
+                + entry.accountUrl().getBytes(StandardCharsets.UTF_8).length
+                + entry.avatar().eTag().getBytes(StandardCharsets.UTF_8).length
+                + entry.avatar().image().length;
+        }
+        return size;
+    }
+
+    private static void writeBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        return new String(readBytes(buffer), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        var length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Corrupt contributor snapshot");
+        }
+        var bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
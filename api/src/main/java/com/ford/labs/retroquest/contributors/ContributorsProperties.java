@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.contributors;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "retroquest.contributors")
+public class ContributorsProperties {
+    private String githubUrl = "https://api.github.com/repos/FordLabs/retroquest/contributors";
+    private int avatarFetchThreads = 4;
+    private Duration requestTimeout = Duration.ofSeconds(5);
+    private int avatarSize = 96;
+    private DataSize maxAvatarCacheSize = DataSize.ofMegabytes(2);
+    private Path cacheFile;
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Ford Motor Company
+ * Copyright (c) 2022 Ford Motor Company
  * All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -17,53 +17,146 @@
 
 package com.ford.labs.retroquest.contributors;
 
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
+@EnableConfigurationProperties(ContributorsProperties.class)
 public class ContributorsService {
     private static final long MILLISECONDS_IN_DAY = 86400000;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContributorsService.class);
+
     private final RestTemplate restTemplate;
+    private final String githubUrl;
+    private final int avatarSize;
+    private final long maxAvatarCacheBytes;
+    private final ExecutorService avatarExecutor;
+    private final Optional<ContributorSnapshotFile> snapshotFile;
+    private final AtomicReference<ContributorSnapshot> contributors = new AtomicReference<>();
 
-    public ContributorsService(RestTemplate restTemplate) {
-        this.restTemplate = restTemplate;
+    // Built here rather than shared so the GitHub timeouts don't apply to every RestTemplate in the app
+    public ContributorsService(RestTemplateBuilder restTemplateBuilder, ContributorsProperties properties) {
+        this.restTemplate = restTemplateBuilder
+            .setConnectTimeout(properties.getRequestTimeout())
+            .setReadTimeout(properties.getRequestTimeout())
+            .build();
+        this.githubUrl = properties.getGithubUrl();
+        this.avatarSize = properties.getAvatarSize();
+        this.maxAvatarCacheBytes = properties.getMaxAvatarCacheSize().toBytes();
+        this.avatarExecutor = Executors.newFixedThreadPool(properties.getAvatarFetchThreads());
+        this.snapshotFile = Optional.ofNullable(properties.getCacheFile()).map(ContributorSnapshotFile::new);
+        this.snapshotFile.flatMap(this::readSnapshot).ifPresent(contributors::set);
     }
 
-    @Cacheable("contributors")
     public List<Contributor> getContributors() {
-        GithubContributor[] response = getContributorsFromGitHub();
+        return getSnapshot().contributors();
+    }
+
+    public Optional<ContributorAvatar> getAvatar(String login) {
+        return Optional.ofNullable(getSnapshot().avatars().get(login));
+    }
+
+    @Scheduled(fixedRate = MILLISECONDS_IN_DAY)
+    public void refreshContributors() {
+        try {
+            var snapshot = fetchContributors();
+            contributors.set(snapshot);
+            snapshotFile.ifPresent(file -> writeSnapshot(file, snapshot));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not refresh contributors, continuing to serve the previous copy", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        avatarExecutor.shutdownNow();
+    }
+
+    private ContributorSnapshot getSnapshot() {
+        var current = contributors.get();
+        return current != null ? current : loadContributors();
+    }
+
+    private synchronized ContributorSnapshot loadContributors() {
+        var current = contributors.get();
+        if (current == null) {
+            current = fetchContributors();
+            contributors.set(current);
+            var snapshot = current;
+            snapshotFile.ifPresent(file -> writeSnapshot(file, snapshot));
+        }
+        return current;
+    }
 
-        List<GithubContributor> githubContributors = List.of(response);
+    private Optional<ContributorSnapshot> readSnapshot(ContributorSnapshotFile file) {
+        try {
+            return file.read();
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the contributor cache file", e);
+            return Optional.empty();
+        }
+    }
+
+    private static void writeSnapshot(ContributorSnapshotFile file, ContributorSnapshot snapshot) {
+        try {
+            file.write(snapshot);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write the contributor cache file", e);
+        }
+    }
 
-        return githubContributors.stream()
+    private ContributorSnapshot fetchContributors() {
+        var avatarRequests = getContributorsFromGitHub().stream()
             .filter(githubContributor -> !githubContributor.accountUrl().endsWith("/invalid-email-address"))
-            .map(githubContributor ->
-                new Contributor(
-                    restTemplate.getForObject(githubContributor.avatarUrl(), byte[].class),
-                    githubContributor.accountUrl()
-                )
-            ).toList();
+            .map(this::fetchAvatar)
+            .toList();
+
+        var entries = new ArrayList<ContributorSnapshot.Entry>();
+        var cachedBytes = 0L;
+        for (var loaded : avatarRequests.stream().map(CompletableFuture::join).filter(Objects::nonNull).toList()) {
+            cachedBytes += loaded.avatar().image().length;
+            if (cachedBytes > maxAvatarCacheBytes) {
+                LOGGER.warn("Avatar cache is full, leaving out {} and later contributors", loaded.contributor().accountUrl());
+                break;
+            }
+            entries.add(new ContributorSnapshot.Entry(loaded.contributor().login(), loaded.contributor().accountUrl(), loaded.avatar()));
+        }
+        return new ContributorSnapshot(entries);
+    }
+
+    private CompletableFuture<LoadedContributor> fetchAvatar(GithubContributor githubContributor) {
+        return CompletableFuture
+            .supplyAsync(() -> restTemplate.getForObject(githubContributor.avatarUrl(), byte[].class), avatarExecutor)
+            .thenApply(image -> new LoadedContributor(githubContributor, AvatarImages.toAvatar(image, avatarSize)))
+            .exceptionally(exception -> {
+                LOGGER.warn("Could not load avatar {}", githubContributor.avatarUrl(), exception);
+                return null;
+            });
     }
 
-    private GithubContributor[] getContributorsFromGitHub() {
-        var contributors = restTemplate.getForObject(
-            "https://api.github.com/repos/FordLabs/retroquest/contributors",
-            GithubContributor[].class
-        );
+    private List<GithubContributor> getContributorsFromGitHub() {
+        var contributors = restTemplate.getForObject(githubUrl, GithubContributor[].class);
         if (contributors == null) {
-            return new GithubContributor[0];
+            return List.of();
         }
-        return contributors;
+        return List.of(contributors);
     }
 
-    @CacheEvict(allEntries = true, value = "contributors")
-    @Scheduled(fixedRate = MILLISECONDS_IN_DAY)
-    public void clearContributorsCache() {
-        // For Sonarqube
-    }
+    private record LoadedContributor(GithubContributor contributor, ContributorAvatar avatar) { }
 }
@@ -20,6 +20,7 @@ package com.ford.labs.retroquest.contributors;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public record GithubContributor(
+    @JsonProperty("login") String login,
     @JsonProperty("avatar_url") String avatarUrl,
     @JsonProperty("html_url") String accountUrl
 ) { }
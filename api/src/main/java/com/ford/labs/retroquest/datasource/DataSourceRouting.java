@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> false);
+
+    private DataSourceRouting() { }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get();
+    }
+
+    /**
+     * Whether reads on this thread may be served by a lagging replica when replicas are configured.
+     */
+    public static boolean mayReadFromReplica() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !isPrimaryRequired();
+    }
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(true);
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+}
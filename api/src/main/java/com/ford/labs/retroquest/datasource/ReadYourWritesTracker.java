@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReadYourWritesTracker {
+
+    private final Duration window;
+    private final Clock clock;
+    private final Map<String, Instant> primaryRequiredUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    public void recordWrite(String user) {
+        primaryRequiredUntil.put(user, clock.instant().plus(window));
+    }
+
+    public boolean requiresPrimary(String user) {
+        var until = primaryRequiredUntil.get(user);
+        return until != null && until.isAfter(clock.instant());
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        var now = clock.instant();
+        primaryRequiredUntil.values().removeIf(until -> !until.isAfter(now));
+    }
+}
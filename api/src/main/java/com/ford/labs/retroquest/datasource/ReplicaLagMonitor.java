@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReplicaLagMonitor {
+
+    static final String LAG_METRIC = "retroquest.datasource.replica.lag";
+
+    private final JdbcTemplate primary;
+    private final Map<String, JdbcTemplate> replicas = new ConcurrentHashMap<>();
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public ReplicaLagMonitor(DataSource primary, Map<String, DataSource> replicas, MeterRegistry meterRegistry, Clock clock) {
+        this.primary = new JdbcTemplate(primary);
+        this.clock = clock;
+        replicas.forEach((name, dataSource) -> {
+            this.replicas.put(name, new JdbcTemplate(dataSource));
+            lagSeconds.put(name, Double.NaN);
+            Gauge.builder(LAG_METRIC, lagSeconds, lags -> lags.get(name))
+                .tag("replica", name)
+                .baseUnit("seconds")
+                .description("Age of the newest replication heartbeat visible on the replica")
+                .register(meterRegistry);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${retroquest.datasource.lag-check-interval:PT10S}")
+    public void checkLag() {
+        primary.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", Timestamp.from(clock.instant()));
+        replicas.forEach((name, replica) -> lagSeconds.put(name, measureLag(replica)));
+    }
+
+    double getLagSeconds(String replica) {
+        return lagSeconds.get(replica);
+    }
+
+    private double measureLag(JdbcTemplate replica) {
+        try {
+            var lastBeat = replica.queryForObject("SELECT beat_at FROM replication_heartbeat WHERE id = 1", Timestamp.class);
+            if (lastBeat == null) {
+                return Double.NaN;
+            }
+            return Math.max(0, Duration.between(lastBeat.toInstant(), clock.instant()).toMillis() / 1000.0);
+        } catch (DataAccessException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -33,6 +33,12 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         // Used by Spring for Controller Advice
     }
 
+    @ResponseStatus(value = HttpStatus.CONFLICT, reason = "Another change to this team is still in progress. Please try again.")
+    @ExceptionHandler(TeamLockTimeoutException.class)
+    public void teamLockTimeout() {
+        // Used by Spring for Controller Advice
+    }
+
     @ResponseStatus(value = HttpStatus.NOT_FOUND, reason = "Column Title with that ID not found")
     @ExceptionHandler(ColumnNotFoundException.class)
     public void columnNotFound() {
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.flightrecorder;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Starts, stops and downloads a single bounded JFR recording. The custom RetroQuest events cost next to nothing while
+ * no recording is running. Only operators can reach it (see WebSecurityConfig), and events that capture the process
+ * environment, system properties or command line are left out of the recording.
+ */
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint implements DisposableBean {
+
+    static final List<String> SENSITIVE_EVENTS = List.of(
+        "jdk.InitialEnvironmentVariable",
+        "jdk.InitialSystemProperty",
+        "jdk.JVMInformation",
+        "jdk.SystemProcess"
+    );
+
+    private final FlightRecordingProperties properties;
+    private Recording recording;
+    private Path lastDump;
+
+    public FlightRecordingEndpoint(FlightRecordingProperties properties) {
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public synchronized RecordingStatus status() {
+        return RecordingStatus.of(recording);
+    }
+
+    @WriteOperation
+    public synchronized RecordingStatus start() throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return RecordingStatus.of(recording);
+        }
+        closeRecording();
+        recording = new Recording(Configuration.getConfiguration(properties.getSettings()));
+        recording.setName("retroquest");
+        recording.setToDisk(true);
+        recording.setDuration(properties.getMaxDuration());
+        recording.setMaxAge(properties.getMaxAge());
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        SENSITIVE_EVENTS.forEach(recording::disable);
+        recording.start();
+        return RecordingStatus.of(recording);
+    }
+
+    @DeleteOperation
+    public synchronized RecordingStatus stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return RecordingStatus.of(recording);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource download(@Selector long id) throws IOException {
+        if (recording == null || recording.getId() != id || recording.getState() == RecordingState.NEW) {
+            return null;
+        }
+        deleteLastDump();
+        lastDump = Files.createTempFile("retroquest-" + id + "-", ".jfr");
+        recording.dump(lastDump);
+        return new FileSystemResource(lastDump);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        closeRecording();
+        deleteLastDump();
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void deleteLastDump() {
+        if (lastDump != null) {
+            try {
+                Files.deleteIfExists(lastDump);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            lastDump = null;
+        }
+    }
+
+    public record RecordingStatus(Long id, String state, Instant startTime, Duration maxAge, long maxSizeBytes, long sizeBytes) {
+        static RecordingStatus of(Recording recording) {
+            if (recording == null) {
+                return new RecordingStatus(null, "NONE", null, null, 0, 0);
+            }
+            return new RecordingStatus(
+                recording.getId(),
+                recording.getState().name(),
+                recording.getStartTime(),
+                recording.getMaxAge(),
+                recording.getMaxSize(),
+                recording.getSize()
+            );
+        }
+    }
+}
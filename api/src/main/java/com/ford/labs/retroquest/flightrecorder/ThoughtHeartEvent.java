@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.ford.labs.retroquest.ThoughtHeart")
+@Label("Thought Heart")
+@Category({"RetroQuest", "Thoughts"})
+@StackTrace(false)
+public class ThoughtHeartEvent extends Event {
+
+    @Label("Team Id")
+    String teamId;
+
+    @Label("Thought Id")
+    long thoughtId;
+
+    @Label("Hearts")
+    int hearts;
+
+    public void finish(String teamId, Long thoughtId, int hearts) {
+        end();
+        if (shouldCommit()) {
+            this.teamId = teamId;
+            this.thoughtId = thoughtId;
+            this.hearts = hearts;
+            commit();
+        }
+    }
+}
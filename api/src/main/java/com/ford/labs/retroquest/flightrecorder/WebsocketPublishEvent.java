@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.ford.labs.retroquest.WebsocketPublish")
+@Label("Websocket Publish")
+@Category({"RetroQuest", "Websocket"})
+@StackTrace(false)
+public class WebsocketPublishEvent extends Event {
+
+    @Label("Team Id")
+    String teamId;
+
+    @Label("Event")
+    String event;
+
+    @Label("Type")
+    String type;
+
+    @Label("Message Size")
+    @DataAmount
+    int messageBytes;
+
+    public void finish(String teamId, String event, String type, int messageBytes) {
+        end();
+        if (shouldCommit()) {
+            this.teamId = teamId;
+            this.event = event;
+            this.type = type;
+            this.messageBytes = messageBytes;
+            commit();
+        }
+    }
+}
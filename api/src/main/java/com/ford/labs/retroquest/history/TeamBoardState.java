@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.history;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.labs.retroquest.actionitem.ActionItem;
+import com.ford.labs.retroquest.board.EndRetroSummary;
+import com.ford.labs.retroquest.column.Column;
+import com.ford.labs.retroquest.thought.Thought;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+public record TeamBoardState(
+    Map<Long, Thought> thoughts,
+    Map<Long, ActionItem> actionItems,
+    Map<Long, Column> columns
+) {
+    public static TeamBoardState empty() {
+        return new TeamBoardState(new TreeMap<>(), new TreeMap<>(), new TreeMap<>());
+    }
+
+    public static TeamBoardState fromJson(ObjectMapper mapper, String json) throws JsonProcessingException {
+        var snapshot = mapper.readValue(json, Snapshot.class);
+        var state = empty();
+        snapshot.thoughts().forEach(thought -> state.thoughts().put(thought.getId(), thought));
+        snapshot.actionItems().forEach(actionItem -> state.actionItems().put(actionItem.getId(), actionItem));
+        snapshot.columns().forEach(column -> state.columns().put(column.getId(), column));
+        return state;
+    }
+
+    public String toJson(ObjectMapper mapper) throws JsonProcessingException {
+        return mapper.writeValueAsString(new Snapshot(
+            new ArrayList<>(thoughts.values()),
+            new ArrayList<>(actionItems.values()),
+            new ArrayList<>(columns.values())
+        ));
+    }
+
+    public void apply(ObjectMapper mapper, TeamEvent event) throws JsonProcessingException {
+        switch (event.type()) {
+            case THOUGHT_UPDATED -> thoughts.put(event.entityId(), mapper.readValue(event.payload(), Thought.class));
+            case THOUGHT_DELETED -> thoughts.remove(event.entityId());
+            case ACTION_ITEM_UPDATED -> actionItems.put(event.entityId(), mapper.readValue(event.payload(), ActionItem.class));
+            case ACTION_ITEM_DELETED -> actionItems.remove(event.entityId());
+            case COLUMN_UPDATED -> columns.put(event.entityId(), mapper.readValue(event.payload(), Column.class));
+            case RETRO_ENDED -> {
+                thoughts.clear();
+                if (event.payload() != null) {
+                    mapper.readValue(event.payload(), EndRetroSummary.class).archivedActionItemIds().stream()
+                        .map(actionItems::get)
+                        .filter(Objects::nonNull)
+                        .forEach(actionItem -> actionItem.setArchived(true));
+                } else {
+                    actionItems.values().stream()
+                        .filter(actionItem -> actionItem.isCompleted() && !actionItem.isArchived())
+                        .forEach(actionItem -> actionItem.setArchived(true));
+                }
+            }
+        }
+    }
+
+    record Snapshot(List<Thought> thoughts, List<ActionItem> actionItems, List<Column> columns) { }
+}
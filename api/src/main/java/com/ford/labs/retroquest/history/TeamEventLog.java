@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.history;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.labs.retroquest.actionitem.ActionItem;
+import com.ford.labs.retroquest.actionitem.ActionItemBatch;
+import com.ford.labs.retroquest.column.Column;
+import com.ford.labs.retroquest.thought.Thought;
+import com.ford.labs.retroquest.websocket.events.WebsocketActionItemBatchEvent;
+import com.ford.labs.retroquest.websocket.events.WebsocketActionItemEvent;
+import com.ford.labs.retroquest.websocket.events.WebsocketColumnEvent;
+import com.ford.labs.retroquest.websocket.events.WebsocketEndRetroEvent;
+import com.ford.labs.retroquest.websocket.events.WebsocketEvent;
+import com.ford.labs.retroquest.websocket.events.WebsocketThoughtEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static com.ford.labs.retroquest.websocket.events.WebsocketEventType.DELETE;
+
+@Service
+@EnableConfigurationProperties(HistoryProperties.class)
+public class TeamEventLog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TeamEventLog.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper mapper;
+    private final TeamHistoryService historyService;
+    private final HistoryProperties properties;
+    private final Clock clock;
+    private final BlockingQueue<TeamEvent> queue;
+    private final Counter droppedEvents;
+    // Holds at most one batch, so the buffer never exceeds maxBufferedEvents plus maxBatchSize during an outage
+    private final List<TeamEvent> failedBatch = new ArrayList<>();
+    private final Map<String, Integer> eventsSinceSnapshot;
+
+    @Autowired
+    public TeamEventLog(
+        DataSource dataSource,
+        ObjectMapper mapper,
+        TeamHistoryService historyService,
+        HistoryProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this(dataSource, mapper, historyService, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    TeamEventLog(
+        DataSource dataSource,
+        ObjectMapper mapper,
+        TeamHistoryService historyService,
+        HistoryProperties properties,
+        MeterRegistry meterRegistry,
+        Clock clock
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.mapper = mapper;
+        this.historyService = historyService;
+        this.properties = properties;
+        this.clock = clock;
+        this.queue = new LinkedBlockingQueue<>(properties.getMaxBufferedEvents());
+        this.droppedEvents = meterRegistry.counter("retroquest.history.events.dropped");
+        this.eventsSinceSnapshot = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > properties.getMaxTrackedTeams();
+            }
+        };
+    }
+
+    public void record(WebsocketEvent event) {
+        var drafts = toDrafts(event);
+        if (drafts.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(drafts);
+                }
+            });
+        } else {
+            enqueue(drafts);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${retroquest.history.flush-interval:PT0.5S}")
+    public synchronized void flush() {
+        var batch = new ArrayList<>(failedBatch);
+        failedBatch.clear();
+        while (true) {
+            TeamEvent event;
+            while (batch.size() < properties.getMaxBatchSize() && (event = queue.poll()) != null) {
+                batch.add(event);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                insert(batch);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not write {} team events, will retry", batch.size(), e);
+                failedBatch.addAll(batch);
+                return;
+            }
+            snapshotBusyTeams(batch);
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void enqueue(List<Draft> drafts) {
+        var occurredAt = clock.instant();
+        for (var draft : drafts) {
+            if (!queue.offer(new TeamEvent(null, draft.teamId(), draft.type(), draft.entityId(), occurredAt, draft.payload()))) {
+                droppedEvents.increment();
+            }
+        }
+    }
+
+    private void insert(List<TeamEvent> batch) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO team_event (team_id, event_type, entity_id, occurred_at, payload) VALUES (?, ?, ?, ?, ?)",
+            batch.stream().map(event -> new Object[]{
+                event.teamId(),
+                event.type().name(),
+                event.entityId(),
+                Timestamp.from(event.occurredAt()),
+                event.payload()
+            }).toList()
+        );
+    }
+
+    private void snapshotBusyTeams(List<TeamEvent> batch) {
+        batch.forEach(event -> eventsSinceSnapshot.merge(event.teamId(), 1, Integer::sum));
+        var dueTeams = eventsSinceSnapshot.entrySet().stream()
+            .filter(entry -> entry.getValue() >= properties.getSnapshotEvery())
+            .map(Map.Entry::getKey)
+            .toList();
+        for (var teamId : dueTeams) {
+            try {
+                historyService.takeSnapshot(teamId);
+                eventsSinceSnapshot.remove(teamId);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not snapshot history for team {}", teamId, e);
+            }
+        }
+    }
+
+    private List<Draft> toDrafts(WebsocketEvent event) {
+        var deleted = event.getType() == DELETE;
+        if (event instanceof WebsocketThoughtEvent thoughtEvent && event.getPayload() instanceof Thought thought) {
+            return List.of(draft(thoughtEvent.getTeamId(), deleted ? TeamEventType.THOUGHT_DELETED : TeamEventType.THOUGHT_UPDATED, thought.getId(), deleted ? null : thought));
+        }
+        if (event instanceof WebsocketActionItemEvent actionItemEvent && event.getPayload() instanceof ActionItem actionItem) {
+            return List.of(draft(actionItemEvent.getTeamId(), deleted ? TeamEventType.ACTION_ITEM_DELETED : TeamEventType.ACTION_ITEM_UPDATED, actionItem.getId(), deleted ? null : actionItem));
+        }
+        if (event instanceof WebsocketActionItemBatchEvent batchEvent && event.getPayload() instanceof ActionItemBatch batch) {
+            if (deleted) {
+                return batch.actionItemIds().stream()
+                    .map(id -> draft(batchEvent.getTeamId(), TeamEventType.ACTION_ITEM_DELETED, id, null))
+                    .toList();
+            }
+            return batch.actionItems().stream()
+                .map(actionItem -> draft(batchEvent.getTeamId(), TeamEventType.ACTION_ITEM_UPDATED, actionItem.getId(), actionItem))
+                .toList();
+        }
+        if (event instanceof WebsocketColumnEvent columnEvent && event.getPayload() instanceof Column column) {
+            return List.of(draft(columnEvent.getTeamId(), TeamEventType.COLUMN_UPDATED, column.getId(), column));
+        }
+        if (event instanceof WebsocketEndRetroEvent endRetroEvent) {
+            return List.of(draft(endRetroEvent.getTeamId(), TeamEventType.RETRO_ENDED, null, endRetroEvent.getPayload()));
+        }
+        return List.of();
+    }
+
+    private Draft draft(String teamId, TeamEventType type, Long entityId, Object payload) {
+        try {
+            return new Draft(teamId, type, entityId, payload == null ? null : mapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize %s event".formatted(type), e);
+        }
+    }
+
+    private record Draft(String teamId, TeamEventType type, Long entityId, String payload) { }
+}
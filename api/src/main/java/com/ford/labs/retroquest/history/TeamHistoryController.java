@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.history;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@RestController
+@Tag(name = "Team History Controller", description = "The controller that reconstructs a team's board at a point in time")
+public class TeamHistoryController {
+
+    private final TeamHistoryService historyService;
+
+    public TeamHistoryController(TeamHistoryService historyService) {
+        this.historyService = historyService;
+    }
+
+    @GetMapping("/api/team/{teamId}/history/board")
+    @PreAuthorize("@authorizationService.requestIsAuthorized(authentication, #teamId)")
+    public BoardAtTime getBoardAt(
+        @PathVariable("teamId") UUID teamId,
+        @RequestParam("at") Instant at
+    ) {
+        return historyService.getBoardAt(teamId.toString(), at);
+    }
+}
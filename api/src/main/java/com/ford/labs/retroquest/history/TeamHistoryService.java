@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.history;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+@Service
+public class TeamHistoryService {
+
+    private static final RowMapper<TeamEvent> EVENT_ROW_MAPPER = (resultSet, rowNum) -> new TeamEvent(
+        resultSet.getLong("id"),
+        resultSet.getString("team_id"),
+        TeamEventType.valueOf(resultSet.getString("event_type")),
+        resultSet.getObject("entity_id", Long.class),
+        resultSet.getTimestamp("occurred_at").toInstant(),
+        resultSet.getString("payload")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper mapper;
+
+    public TeamHistoryService(DataSource dataSource, ObjectMapper mapper) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.mapper = mapper;
+    }
+
+    public BoardAtTime getBoardAt(String teamId, Instant at) {
+        var replayed = replay(teamId, at);
+        return BoardAtTime.of(teamId, at, replayed.lastEventId(), replayed.state());
+    }
+
+    void takeSnapshot(String teamId) {
+        var latestEvent = jdbcTemplate.query(
+            "SELECT * FROM team_event WHERE team_id = ? ORDER BY id DESC LIMIT 1",
+            EVENT_ROW_MAPPER,
+            teamId
+        ).stream().findFirst();
+        if (latestEvent.isEmpty()) {
+            return;
+        }
+
+        var takenAt = latestEvent.get().occurredAt();
+        var replayed = replay(teamId, takenAt);
+        try {
+            jdbcTemplate.update(
+                "INSERT INTO team_snapshot (team_id, last_event_id, taken_at, state) VALUES (?, ?, ?, ?)",
+                teamId,
+                replayed.lastEventId(),
+                Timestamp.from(takenAt),
+                replayed.state().toJson(mapper)
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Team history for %s could not be written".formatted(teamId), e);
+        }
+    }
+
+    private Replayed replay(String teamId, Instant at) {
+        var snapshot = jdbcTemplate.query(
+            "SELECT last_event_id, state FROM team_snapshot WHERE team_id = ? AND taken_at <= ? ORDER BY last_event_id DESC LIMIT 1",
+            (resultSet, rowNum) -> new StoredSnapshot(resultSet.getLong("last_event_id"), resultSet.getString("state")),
+            teamId,
+            Timestamp.from(at)
+        ).stream().findFirst().orElse(new StoredSnapshot(0L, null));
+
+        try {
+            var state = snapshot.state() == null ? TeamBoardState.empty() : TeamBoardState.fromJson(mapper, snapshot.state());
+            var lastEventId = snapshot.lastEventId();
+            var events = jdbcTemplate.query(
+                "SELECT * FROM team_event WHERE team_id = ? AND id > ? AND occurred_at <= ? ORDER BY id",
+                EVENT_ROW_MAPPER,
+                teamId,
+                lastEventId,
+                Timestamp.from(at)
+            );
+            for (var event : events) {
+                state.apply(mapper, event);
+                lastEventId = event.id();
+            }
+            return new Replayed(lastEventId, state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Team history for %s could not be read".formatted(teamId), e);
+        }
+    }
+
+    private record Replayed(long lastEventId, TeamBoardState state) { }
+
+    private record StoredSnapshot(long lastEventId, String state) { }
+}
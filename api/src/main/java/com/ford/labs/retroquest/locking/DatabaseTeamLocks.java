@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.locking;
+
+import com.ford.labs.retroquest.exception.TeamLockTimeoutException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Cross-node team locks. Inside a transaction the lock is taken on the transaction's own connection and released when
+ * it commits or rolls back, so a request never holds one pooled connection while waiting for another. PostgreSQL uses
+ * a transaction-scoped advisory lock; other databases lock the team's row in team_lock.
+ */
+class DatabaseTeamLocks {
+
+    private static final int ADVISORY_LOCK_NAMESPACE = 0x52515443;
+
+    private final DataSource dataSource;
+    private final int timeoutSeconds;
+    private volatile Boolean postgres;
+
+    DatabaseTeamLocks(DataSource dataSource, Duration timeout) {
+        this.dataSource = dataSource;
+        this.timeoutSeconds = (int) Math.max(1, timeout.toSeconds());
+    }
+
+    /**
+     * Returns the connection that holds the lock when it must be released explicitly, or null when the surrounding
+     * transaction releases it.
+     */
+    Connection acquire(String teamId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            var connection = DataSourceUtils.getConnection(dataSource);
+            try {
+                lock(connection, teamId);
+                return null;
+            } catch (SQLException e) {
+                throw new TeamLockTimeoutException(teamId);
+            } finally {
+                DataSourceUtils.releaseConnection(connection, dataSource);
+            }
+        }
+
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+            lock(connection, teamId);
+            return connection;
+        } catch (SQLException e) {
+            release(connection);
+            throw new TeamLockTimeoutException(teamId);
+        }
+    }
+
+    void release(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try (connection) {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            // Closing the connection ends the transaction and frees the lock either way
+        }
+    }
+
+    private void lock(Connection connection, String teamId) throws SQLException {
+        if (isPostgres(connection)) {
+            try (var statement = connection.prepareStatement("SELECT pg_advisory_xact_lock(?, ?)")) {
+                statement.setQueryTimeout(timeoutSeconds);
+                statement.setInt(1, ADVISORY_LOCK_NAMESPACE);
+                statement.setInt(2, teamId.hashCode());
+                statement.executeQuery().close();
+            }
+            return;
+        }
+
+        insertLockRow(connection, teamId);
+        try (var statement = connection.prepareStatement("SELECT team_id FROM team_lock WHERE team_id = ? FOR UPDATE")) {
+            statement.setQueryTimeout(timeoutSeconds);
+            statement.setString(1, teamId);
+            try (var rows = statement.executeQuery()) {
+                if (!rows.next()) {
+                    throw new SQLException("Lock row for team " + teamId + " is not visible yet");
+                }
+            }
+        }
+    }
+
+    private boolean isPostgres(Connection connection) throws SQLException {
+        if (postgres == null) {
+            postgres = connection.getMetaData().getDatabaseProductName().equalsIgnoreCase("PostgreSQL");
+        }
+        return postgres;
+    }
+
+    private void insertLockRow(Connection connection, String teamId) throws SQLException {
+        // A savepoint keeps a duplicate insert by another node from aborting the surrounding transaction; the
+        // insert waits while another node's transaction still holds a fresh, uncommitted row for the team
+        var savepoint = connection.setSavepoint();
+        try (var statement = connection.prepareStatement(
+            "INSERT INTO team_lock (team_id) SELECT ? WHERE NOT EXISTS (SELECT 1 FROM team_lock WHERE team_id = ?)"
+        )) {
+            statement.setQueryTimeout(timeoutSeconds);
+            statement.setString(1, teamId);
+            statement.setString(2, teamId);
+            statement.executeUpdate();
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            connection.rollback(savepoint);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.locking;
+
+import com.ford.labs.retroquest.exception.TeamLockTimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Component
+@EnableConfigurationProperties(TeamLockProperties.class)
+public class TeamLockManager {
+
+    private final Map<String, TeamLock> locks = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final DatabaseTeamLocks databaseLocks;
+
+    @Autowired
+    public TeamLockManager(TeamLockProperties properties, DataSource dataSource) {
+        this.timeout = properties.getTimeout();
+        this.databaseLocks = properties.getBackend() == TeamLockProperties.Backend.DATABASE
+            ? new DatabaseTeamLocks(dataSource, properties.getTimeout())
+            : null;
+    }
+
+    public TeamLockManager(Duration timeout) {
+        this.timeout = timeout;
+        this.databaseLocks = null;
+    }
+
+    public <T> T withTeamLock(String teamId, Supplier<T> action) {
+        var teamLock = acquire(teamId);
+        var releaseAfterTransaction = teamLock.lock.getHoldCount() == 1 && TransactionSynchronizationManager.isSynchronizationActive();
+        if (releaseAfterTransaction) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release(teamId, teamLock);
+                }
+            });
+            return action.get();
+        }
+        try {
+            return action.get();
+        } finally {
+            release(teamId, teamLock);
+        }
+    }
+
+    public void runWithTeamLock(String teamId, Runnable action) {
+        withTeamLock(teamId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    int lockedTeamCount() {
+        return locks.size();
+    }
+
+    private TeamLock acquire(String teamId) {
+        var teamLock = locks.compute(teamId, (id, existing) -> {
+            var lock = existing != null ? existing : new TeamLock();
+            lock.users++;
+            return lock;
+        });
+
+        try {
+            if (!teamLock.lock.tryLock(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                forget(teamId);
+                throw new TeamLockTimeoutException(teamId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            forget(teamId);
+            throw new TeamLockTimeoutException(teamId);
+        }
+
+        if (databaseLocks != null && teamLock.lock.getHoldCount() == 1) {
+            try {
+                teamLock.connection = databaseLocks.acquire(teamId);
+            } catch (RuntimeException e) {
+                teamLock.lock.unlock();
+                forget(teamId);
+                throw e;
+            }
+        }
+        return teamLock;
+    }
+
+    private void release(String teamId, TeamLock teamLock) {
+        if (teamLock.lock.getHoldCount() == 1 && teamLock.connection != null) {
+            databaseLocks.release(teamLock.connection);
+            teamLock.connection = null;
+        }
+        teamLock.lock.unlock();
+        forget(teamId);
+    }
+
+    private void forget(String teamId) {
+        locks.computeIfPresent(teamId, (id, lock) -> --lock.users == 0 ? null : lock);
+    }
+
+    private static final class TeamLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int users;
+        private Connection connection;
+    }
+}
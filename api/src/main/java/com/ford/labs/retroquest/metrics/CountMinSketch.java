@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size frequency estimator. Estimates never undercount; overcounts are bounded by width.
+ */
+public class CountMinSketch {
+
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+        0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x85EBCA77C2B2AE63L
+    };
+
+    private final int width;
+    private final long[][] counters;
+
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("Sketch width must be positive and depth between 1 and " + SEEDS.length);
+        }
+        this.width = width;
+        this.counters = new long[depth][width];
+    }
+
+    public long add(String key, long weight) {
+        var hash = hash(key);
+        var estimate = Long.MAX_VALUE;
+        for (var row = 0; row < counters.length; row++) {
+            var column = index(hash, row);
+            counters[row][column] += weight;
+            estimate = Math.min(estimate, counters[row][column]);
+        }
+        return estimate;
+    }
+
+    public long estimate(String key) {
+        var hash = hash(key);
+        var estimate = Long.MAX_VALUE;
+        for (var row = 0; row < counters.length; row++) {
+            estimate = Math.min(estimate, counters[row][index(hash, row)]);
+        }
+        return estimate;
+    }
+
+    public void clear() {
+        for (var row : counters) {
+            Arrays.fill(row, 0);
+        }
+    }
+
+    private int index(long hash, int row) {
+        var mixed = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % SEEDS.length];
+        mixed ^= mixed >>> 31;
+        return (int) Long.remainderUnsigned(mixed, width);
+    }
+
+    private static long hash(String key) {
+        var hash = 0xCBF29CE484222325L;
+        for (var i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+}
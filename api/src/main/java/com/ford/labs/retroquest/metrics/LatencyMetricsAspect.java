@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+public class LatencyMetricsAspect {
+
+    public static final String SERVICE_TIMER = "retroquest.service.calls";
+    public static final String REPOSITORY_TIMER = "retroquest.repository.calls";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public LatencyMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.ford.labs.retroquest..*Service.*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        var signature = joinPoint.getSignature();
+        return time(joinPoint, Timer.builder(SERVICE_TIMER)
+            .tag("class", signature.getDeclaringType().getSimpleName())
+            .tag("method", signature.getName()));
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Timer.builder(REPOSITORY_TIMER)
+            .tag("repository", repositoryNames.computeIfAbsent(joinPoint.getTarget().getClass(), this::repositoryName))
+            .tag("method", joinPoint.getSignature().getName()));
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, Timer.Builder timer) throws Throwable {
+        var sample = Timer.start(meterRegistry);
+        var exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            exception = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            sample.stop(timer.tag("exception", exception).register(meterRegistry));
+        }
+    }
+
+    private String repositoryName(Class<?> targetClass) {
+        return Arrays.stream(targetClass.getInterfaces())
+            .filter(Repository.class::isAssignableFrom)
+            .findFirst()
+            .map(Class::getSimpleName)
+            .orElse(targetClass.getSimpleName());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(TeamActivityProperties.class)
+public class MetricsConfig {
+
+    @Bean
+    public LatencyMetricsAspect latencyMetricsAspect(MeterRegistry meterRegistry) {
+        return new LatencyMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public RetroActivityMetrics retroActivityMetrics(MeterRegistry meterRegistry) {
+        return new RetroActivityMetrics(meterRegistry, Clock.systemUTC());
+    }
+
+    @Bean
+    public TeamActivityTracker teamActivityTracker(TeamActivityProperties properties) {
+        return new TeamActivityTracker(properties, Clock.systemUTC());
+    }
+
+    @Bean
+    public TeamActivityEndpoint teamActivityEndpoint(TeamActivityTracker teamActivityTracker, TeamActivityProperties properties) {
+        return new TeamActivityEndpoint(teamActivityTracker, properties.getReportWindows());
+    }
+
+    @Bean
+    public WebMvcConfigurer teamActivityWebMvcConfigurer(TeamActivityTracker teamActivityTracker) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new TeamActivityInterceptor(teamActivityTracker));
+            }
+        };
+    }
+}
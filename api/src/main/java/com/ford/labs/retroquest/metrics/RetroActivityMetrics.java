@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Business throughput metrics maintained as events happen, so dashboards never have to count rows in the database.
+ */
+public class RetroActivityMetrics {
+
+    private static final String NO_TEAM = "";
+
+    private final Counter thoughtsCreated;
+    private final Counter hearts;
+    private final Counter retrosEnded;
+    private final Counter actionItemsCreated;
+    private final Counter actionItemsCompleted;
+    private final RollingWindowCounter thoughtsLastMinute;
+    private final RollingWindowCounter heartsLastMinute;
+    private final RollingWindowCounter retrosEndedLastHour;
+    private final Map<String, String> sessionTeams = new ConcurrentHashMap<>();
+    private final Map<String, Integer> teamSessions = new ConcurrentHashMap<>();
+
+    public RetroActivityMetrics(MeterRegistry meterRegistry, Clock clock) {
+        thoughtsCreated = meterRegistry.counter("retroquest.thoughts.created");
+        hearts = meterRegistry.counter("retroquest.thoughts.hearts");
+        retrosEnded = meterRegistry.counter("retroquest.retros.ended");
+        actionItemsCreated = meterRegistry.counter("retroquest.actionitems.created");
+        actionItemsCompleted = meterRegistry.counter("retroquest.actionitems.completed");
+
+        thoughtsLastMinute = new RollingWindowCounter(Duration.ofMinutes(1), 60, clock);
+        heartsLastMinute = new RollingWindowCounter(Duration.ofMinutes(1), 60, clock);
+        retrosEndedLastHour = new RollingWindowCounter(Duration.ofHours(1), 60, clock);
+        Gauge.builder("retroquest.thoughts.created.per.minute", thoughtsLastMinute, RollingWindowCounter::sum).register(meterRegistry);
+        Gauge.builder("retroquest.thoughts.hearts.per.minute", heartsLastMinute, RollingWindowCounter::sum).register(meterRegistry);
+        Gauge.builder("retroquest.retros.ended.per.hour", retrosEndedLastHour, RollingWindowCounter::sum).register(meterRegistry);
+
+        Gauge.builder("retroquest.participants.connected", sessionTeams, Map::size).register(meterRegistry);
+        Gauge.builder("retroquest.retros.active", teamSessions, Map::size)
+            .description("Teams with at least one connected participant")
+            .register(meterRegistry);
+    }
+
+    public void thoughtCreated() {
+        thoughtsCreated.increment();
+        thoughtsLastMinute.increment();
+    }
+
+    public void heartAdded() {
+        hearts.increment();
+        heartsLastMinute.increment();
+    }
+
+    public void retroEnded() {
+        retrosEnded.increment();
+        retrosEndedLastHour.increment();
+    }
+
+    public void actionItemCreated() {
+        actionItemsCreated.increment();
+    }
+
+    public void actionItemsCompleted(int count) {
+        actionItemsCompleted.increment(count);
+    }
+
+    @EventListener
+    public void onSessionConnected(SessionConnectedEvent event) {
+        sessionTeams.putIfAbsent(StompHeaderAccessor.wrap(event.getMessage()).getSessionId(), NO_TEAM);
+    }
+
+    // A participant counts towards the first team they subscribe to; the UI only ever subscribes to one team
+    @EventListener
+    public void onSessionSubscribe(SessionSubscribeEvent event) {
+        var accessor = StompHeaderAccessor.wrap(event.getMessage());
+        var teamId = teamIdFrom(accessor.getDestination());
+        if (teamId != null && sessionTeams.replace(accessor.getSessionId(), NO_TEAM, teamId)) {
+            teamSessions.merge(teamId, 1, Integer::sum);
+        }
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        var teamId = sessionTeams.remove(event.getSessionId());
+        if (teamId != null && !teamId.equals(NO_TEAM)) {
+            // Counted inside the map so a disconnect removing the last session cannot race a subscribe for the team
+            teamSessions.computeIfPresent(teamId, (key, sessions) -> sessions == 1 ? null : sessions - 1);
+        }
+    }
+
+    private static String teamIdFrom(String destination) {
+        if (destination == null || !destination.startsWith("/topic/")) {
+            return null;
+        }
+        var segments = destination.split("/");
+        return segments.length > 3 ? segments[2] : null;
+    }
+}
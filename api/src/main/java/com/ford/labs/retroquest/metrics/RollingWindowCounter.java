@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.metrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free count of events over a sliding window. Each slot packs its bucket epoch and count into one long so a
+ * slot can be rolled over and incremented with a single compare-and-set.
+ */
+public class RollingWindowCounter {
+
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private final Clock clock;
+    private final long bucketMillis;
+    private final AtomicLongArray slots;
+
+    public RollingWindowCounter(Duration window, int buckets, Clock clock) {
+        this.clock = clock;
+        this.bucketMillis = window.toMillis() / buckets;
+        this.slots = new AtomicLongArray(buckets);
+    }
+
+    public void increment() {
+        var epoch = currentEpoch();
+        var index = (int) (epoch % slots.length());
+        var tag = epoch & COUNT_MASK;
+        while (true) {
+            var current = slots.get(index);
+            var next = (current >>> 32) == tag ? current + 1 : (tag << 32) | 1;
+            if (slots.compareAndSet(index, current, next)) {
+                return;
+            }
+        }
+    }
+
+    public long sum() {
+        var epoch = currentEpoch();
+        var total = 0L;
+        for (var age = 0; age < slots.length(); age++) {
+            var bucketEpoch = epoch - age;
+            var slot = slots.get((int) (bucketEpoch % slots.length()));
+            if ((slot >>> 32) == (bucketEpoch & COUNT_MASK)) {
+                total += slot & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+
+    private long currentEpoch() {
+        return clock.millis() / bucketMillis;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.metrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Tracks the heaviest keys over a sliding window made of fixed time buckets. Each bucket holds a count-min sketch and
+ * a bounded min-heap of candidate keys, so memory does not grow with the number of distinct keys.
+ */
+public class SlidingHeavyHitters {
+
+    private final Clock clock;
+    private final long bucketMillis;
+    private final Bucket[] buckets;
+
+    public SlidingHeavyHitters(Duration bucketDuration, int bucketCount, int topK, int sketchWidth, int sketchDepth, Clock clock) {
+        this.clock = clock;
+        this.bucketMillis = bucketDuration.toMillis();
+        this.buckets = new Bucket[bucketCount];
+        for (var i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket(topK, new CountMinSketch(sketchWidth, sketchDepth));
+        }
+    }
+
+    public synchronized void add(String key, long weight) {
+        var epoch = currentEpoch();
+        var bucket = buckets[(int) (epoch % buckets.length)];
+        if (bucket.epoch != epoch) {
+            bucket.reset(epoch);
+        }
+        bucket.offer(key, bucket.sketch.add(key, weight));
+    }
+
+    /**
+     * Returns the heaviest keys over the most recent window, which is rounded up to whole buckets and capped at the
+     * tracked history.
+     */
+    public synchronized List<HeavyHitter> top(Duration window, int limit) {
+        var epoch = currentEpoch();
+        var bucketsInWindow = Math.min(buckets.length, Math.max(1, (int) Math.ceil((double) window.toMillis() / bucketMillis)));
+        var oldestEpoch = epoch - bucketsInWindow + 1;
+
+        var live = Arrays.stream(buckets)
+            .filter(bucket -> bucket.epoch >= oldestEpoch && bucket.epoch <= epoch)
+            .toList();
+        var candidates = new HashSet<String>();
+        live.forEach(bucket -> candidates.addAll(bucket.candidates.keySet()));
+
+        return candidates.stream()
+            .map(key -> new HeavyHitter(key, live.stream().mapToLong(bucket -> bucket.sketch.estimate(key)).sum()))
+            .sorted(Comparator.comparingLong(HeavyHitter::count).reversed().thenComparing(HeavyHitter::key))
+            .limit(limit)
+            .toList();
+    }
+
+    public Duration trackedHistory() {
+        return Duration.ofMillis(bucketMillis * buckets.length);
+    }
+
+    private long currentEpoch() {
+        return clock.millis() / bucketMillis;
+    }
+
+    public record HeavyHitter(String key, long count) { }
+
+    private static class Bucket {
+        private final int capacity;
+        private final CountMinSketch sketch;
+        private final Map<String, Long> candidates = new HashMap<>();
+        private final PriorityQueue<Map.Entry<String, Long>> smallest = new PriorityQueue<>(Map.Entry.comparingByValue());
+        private long epoch = Long.MIN_VALUE;
+
+        Bucket(int capacity, CountMinSketch sketch) {
+            this.capacity = capacity;
+            this.sketch = sketch;
+        }
+
+        void reset(long epoch) {
+            this.epoch = epoch;
+            sketch.clear();
+            candidates.clear();
+            smallest.clear();
+        }
+
+        void offer(String key, long estimate) {
+            if (candidates.containsKey(key)) {
+                smallest.remove(Map.entry(key, candidates.get(key)));
+            } else if (candidates.size() >= capacity) {
+                if (smallest.isEmpty() || smallest.peek().getValue() >= estimate) {
+                    return;
+                }
+                candidates.remove(smallest.poll().getKey());
+            }
+            candidates.put(key, estimate);
+            smallest.add(Map.entry(key, estimate));
+        }
+    }
+}
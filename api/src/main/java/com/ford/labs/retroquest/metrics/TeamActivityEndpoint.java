@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.metrics;
+
+import com.ford.labs.retroquest.metrics.TeamActivityTracker.TeamRate;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+
+@Endpoint(id = "teamactivity")
+public class TeamActivityEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final TeamActivityTracker tracker;
+    private final List<Duration> windows;
+
+    public TeamActivityEndpoint(TeamActivityTracker tracker, List<Duration> windows) {
+        this.tracker = tracker;
+        this.windows = windows;
+    }
+
+    @ReadOperation
+    public List<WindowReport> busiestTeams(@Nullable Integer limit) {
+        var top = limit == null ? DEFAULT_LIMIT : limit;
+        return windows.stream()
+            .map(window -> new WindowReport(
+                window,
+                tracker.busiestByRequests(window, top),
+                tracker.busiestByWrites(window, top),
+                tracker.busiestByFanout(window, top)
+            ))
+            .toList();
+    }
+
+    public record WindowReport(Duration window, List<TeamRate> requests, List<TeamRate> writes, List<TeamRate> fanoutBytes) { }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.metrics;
+
+import com.ford.labs.retroquest.metrics.SlidingHeavyHitters.HeavyHitter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+public class TeamActivityTracker {
+
+    private final SlidingHeavyHitters requests;
+    private final SlidingHeavyHitters writes;
+    private final SlidingHeavyHitters fanout;
+
+    public TeamActivityTracker(TeamActivityProperties properties, Clock clock) {
+        this.requests = heavyHitters(properties, clock);
+        this.writes = heavyHitters(properties, clock);
+        this.fanout = heavyHitters(properties, clock);
+    }
+
+    public void recordRequest(String teamId, boolean write) {
+        requests.add(teamId, 1);
+        if (write) {
+            writes.add(teamId, 1);
+        }
+    }
+
+    public void recordPublish(String teamId, int messageBytes) {
+        fanout.add(teamId, messageBytes);
+    }
+
+    public List<TeamRate> busiestByRequests(Duration window, int limit) {
+        return rates(requests, window, limit);
+    }
+
+    public List<TeamRate> busiestByWrites(Duration window, int limit) {
+        return rates(writes, window, limit);
+    }
+
+    public List<TeamRate> busiestByFanout(Duration window, int limit) {
+        return rates(fanout, window, limit);
+    }
+
+    private static List<TeamRate> rates(SlidingHeavyHitters heavyHitters, Duration window, int limit) {
+        var seconds = Math.max(1, Math.min(window.toSeconds(), heavyHitters.trackedHistory().toSeconds()));
+        return heavyHitters.top(window, limit).stream()
+            .map(hitter -> TeamRate.of(hitter, seconds))
+            .toList();
+    }
+
+    private static SlidingHeavyHitters heavyHitters(TeamActivityProperties properties, Clock clock) {
+        return new SlidingHeavyHitters(
+            properties.getBucketDuration(),
+            properties.getBuckets(),
+            properties.getTopK(),
+            properties.getSketchWidth(),
+            properties.getSketchDepth(),
+            clock
+        );
+    }
+
+    public record TeamRate(String teamId, long total, double perSecond) {
+        static TeamRate of(HeavyHitter hitter, long seconds) {
+            return new TeamRate(hitter.key(), hitter.count(), (double) hitter.count() / seconds);
+        }
+    }
+}
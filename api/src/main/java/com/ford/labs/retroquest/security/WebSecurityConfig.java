@@ -19,8 +19,11 @@ package com.ford.labs.retroquest.security;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -38,10 +41,15 @@ import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final boolean requireHttps;
+    private final String operatorAuthority;
 
     @Autowired
-    public WebSecurityConfig(@Value("${retroquest.security.require-https}") boolean requireHttps) {
+    public WebSecurityConfig(
+        @Value("${retroquest.security.require-https}") boolean requireHttps,
+        @Value("${retroquest.security.operator-authority:SCOPE_retroquest.operator}") String operatorAuthority
+    ) {
         this.requireHttps = requireHttps;
+        this.operatorAuthority = operatorAuthority;
     }
 
     @Bean
@@ -59,6 +67,8 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
             .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             .and().authorizeRequests()
             .antMatchers("/h2/**").permitAll()
+            .antMatchers(HttpMethod.GET, "/api/contributors/*/avatar").permitAll()
+            .requestMatchers(EndpointRequest.toAnyEndpoint().excluding(HealthEndpoint.class)).hasAuthority(operatorAuthority)
             .anyRequest().authenticated()
             .and().exceptionHandling(e -> e.authenticationEntryPoint(new HttpStatusEntryPoint(UNAUTHORIZED)))
             .oauth2ResourceServer().jwt();
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.servertiming;
+
+import com.ford.labs.retroquest.servertiming.ServerTimingContext.Phase;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+@Aspect
+public class ServerTimingAspect {
+
+    @Around("execution(* com.ford.labs.retroquest.teamusermapping.TeamUserAuthorizationService.isUserMemberOfTeam(..))")
+    public Object timeMembership(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Phase.MEMBERSHIP);
+    }
+
+    @Around("execution(public * com.ford.labs.retroquest..*AuthorizationService.requestIsAuthorized(..))"
+        + " && !within(com.ford.labs.retroquest.security.AuthorizationService)")
+    public Object timeEntityAuthorization(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Phase.ENTITY_AUTHORIZATION);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Phase.DB);
+    }
+
+    private static Object time(ProceedingJoinPoint joinPoint, Phase phase) throws Throwable {
+        var context = ServerTimingContext.current();
+        if (context == null) {
+            return joinPoint.proceed();
+        }
+        context.start(phase);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            context.stop();
+        }
+    }
+}
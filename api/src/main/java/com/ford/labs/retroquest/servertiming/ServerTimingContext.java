@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.servertiming;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Per-request phase timings. Phases record exclusive time: a repository call made while authorizing is charged to
+ * the authorization phase, not to the database phase.
+ */
+public class ServerTimingContext {
+
+    private static final ThreadLocal<ServerTimingContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<Phase, Long> nanos = new EnumMap<>(Phase.class);
+    private final Map<Phase, Integer> calls = new EnumMap<>(Phase.class);
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    static ServerTimingContext begin() {
+        var context = new ServerTimingContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static ServerTimingContext current() {
+        return CURRENT.get();
+    }
+
+    public void start(Phase phase) {
+        frames.push(new Frame(phase, System.nanoTime()));
+    }
+
+    public void stop() {
+        var frame = frames.pop();
+        var elapsed = System.nanoTime() - frame.startNanos;
+        nanos.merge(frame.phase, elapsed - frame.childNanos, Long::sum);
+        calls.merge(frame.phase, 1, Integer::sum);
+        if (!frames.isEmpty()) {
+            frames.peek().childNanos += elapsed;
+        }
+    }
+
+    public double millis(Phase phase) {
+        return nanos.getOrDefault(phase, 0L) / 1_000_000.0;
+    }
+
+    public int calls(Phase phase) {
+        return calls.getOrDefault(phase, 0);
+    }
+
+    public String toHeader(long totalNanos) {
+        var entries = nanos.keySet().stream()
+            .map(phase -> String.format(Locale.ROOT, "%s;dur=%.1f;desc=\"%d calls\"", phase.metricName(), millis(phase), calls(phase)))
+            .collect(Collectors.joining(", "));
+        var total = String.format(Locale.ROOT, "total;dur=%.1f", totalNanos / 1_000_000.0);
+        return entries.isEmpty() ? total : entries + ", " + total;
+    }
+
+    public enum Phase {
+        MEMBERSHIP("auth-membership"),
+        ENTITY_AUTHORIZATION("auth-entity"),
+        DB("db"),
+        SERIALIZATION("serialization");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    private static class Frame {
+        private final Phase phase;
+        private final long startNanos;
+        private long childNanos;
+
+        Frame(Phase phase, long startNanos) {
+            this.phase = phase;
+            this.startNanos = startNanos;
+        }
+    }
+}
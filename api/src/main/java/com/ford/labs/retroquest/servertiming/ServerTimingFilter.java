@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.servertiming;
+
+import com.ford.labs.retroquest.servertiming.ServerTimingContext.Phase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Adds the Server-Timing header just before the response body is first written, so only the phases finished by then
+ * are in it. Serialization time is only known once the body is out and is reported in the slow-request log instead.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    private final ServerTimingProperties properties;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        var context = ServerTimingContext.begin();
+        var start = System.nanoTime();
+        var timedResponse = new ServerTimingResponse(response, context, start);
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            timedResponse.writeHeader();
+            ServerTimingContext.end();
+            logIfSlow(request, timedResponse.getStatus(), context, System.nanoTime() - start);
+        }
+    }
+
+    private void logIfSlow(HttpServletRequest request, int status, ServerTimingContext context, long totalNanos) {
+        if (totalNanos < properties.getSlowRequestThreshold().toNanos()
+            || ThreadLocalRandom.current().nextDouble() >= properties.getSlowRequestLogSampleRate()) {
+            return;
+        }
+        LOGGER.info(String.format(
+            Locale.ROOT,
+            "slow_request method=%s pattern=%s uri=%s status=%d total_ms=%.1f %s",
+            request.getMethod(),
+            request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+            request.getRequestURI(),
+            status,
+            totalNanos / 1_000_000.0,
+            phaseFields(context)
+        ));
+    }
+
+    private static String phaseFields(ServerTimingContext context) {
+        var fields = new StringBuilder();
+        for (var phase : Phase.values()) {
+            var name = phase.metricName().replace('-', '_');
+            fields.append(String.format(Locale.ROOT, "%s_ms=%.1f %s_calls=%d ", name, context.millis(phase), name, context.calls(phase)));
+        }
+        return fields.toString().trim();
+    }
+
+    private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final ServerTimingContext context;
+        private final long startNanos;
+        private boolean headerWritten;
+
+        ServerTimingResponse(HttpServletResponse response, ServerTimingContext context, long startNanos) {
+            super(response);
+            this.context = context;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            writeHeader();
+            super.sendError(status);
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            writeHeader();
+            super.sendError(status, message);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+
+        void writeHeader() {
+            if (!headerWritten && !isCommitted()) {
+                setHeader(HEADER, context.toHeader(System.nanoTime() - startNanos));
+            }
+            headerWritten = true;
+        }
+    }
+}
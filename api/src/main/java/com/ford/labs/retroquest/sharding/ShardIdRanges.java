@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ford.labs.retroquest.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives every shard its own block of ids for the team tables, so a team's rows keep their ids when it moves between
+ * shards. The default shard owns block 0, which is where its identity columns start anyway.
+ */
+public class ShardIdRanges {
+
+    private final Map<String, Range> ranges = new LinkedHashMap<>();
+
+    public ShardIdRanges(ShardingProperties properties) {
+        var size = properties.getIdRangeSize();
+        if (size <= 0) {
+            throw new IllegalStateException("retroquest.sharding.id-range-size must be positive");
+        }
+        ranges.put(ShardMap.DEFAULT_SHARD, Range.ofBlock(0, size));
+        properties.getShards().forEach((shard, config) -> {
+            var range = Range.ofBlock(config.getIdBlock(), size);
+            ranges.forEach((otherShard, otherRange) -> {
+                if (range.overlaps(otherRange)) {
+                    throw new IllegalStateException("Id ranges of shards '%s' and '%s' overlap, give each shard its own id-block".formatted(otherShard, shard));
+                }
+            });
+            ranges.put(shard, range);
+        });
+    }
+
+    /**
+     * Moves the identity columns of a newly created shard to the start of its block. The reservation is recorded on
+     * the shard, so restarts keep the sequence where it is and a changed id-block fails instead of reusing ids.
+     */
+    public void reserve(String shard, DataSource dataSource) {
+        var range = rangeOf(shard);
+        var jdbc = new JdbcTemplate(dataSource);
+        for (var table : TeamShardRebalancer.TEAM_TABLES) {
+            var reserved = jdbc.queryForList("SELECT range_start FROM shard_id_range WHERE table_name = ?", Long.class, table);
+            if (!reserved.isEmpty()) {
+                if (reserved.get(0) != range.start()) {
+                    throw new IllegalStateException("Shard '%s' already allocates %s ids from %d".formatted(shard, table, reserved.get(0)));
+                }
+                continue;
+            }
+            var highestId = highestIdInRange(jdbc, table, range);
+            restartIdentity(jdbc, table, highestId == null ? Math.max(range.start(), 1) : highestId + 1);
+            jdbc.update("INSERT INTO shard_id_range (table_name, range_start) VALUES (?, ?)", table, range.start());
+        }
+    }
+
+    /**
+     * Keeps the shard's identity column above rows copied onto it, which only matters when a team moves back to the
+     * shard that originally allocated its ids.
+     */
+    void advancePast(String shard, JdbcTemplate jdbc, String table, List<Long> copiedIds) {
+        var range = rangeOf(shard);
+        if (copiedIds.stream().anyMatch(range::contains)) {
+            restartIdentity(jdbc, table, highestIdInRange(jdbc, table, range) + 1);
+        }
+    }
+
+    private Range rangeOf(String shard) {
+        var range = ranges.get(shard);
+        if (range == null) {
+            throw new IllegalArgumentException("Unknown shard '%s'".formatted(shard));
+        }
+        return range;
+    }
+
+    private static Long highestIdInRange(JdbcTemplate jdbc, String table, Range range) {
+        return jdbc.queryForObject("SELECT MAX(id) FROM %s WHERE id >= ? AND id < ?".formatted(table), Long.class, range.start(), range.end());
+    }
+
+    private static void restartIdentity(JdbcTemplate jdbc, String table, long nextId) {
+        jdbc.execute("ALTER TABLE %s ALTER COLUMN id RESTART WITH %d".formatted(table, nextId));
+    }
+
+    record Range(long start, long end) {
+        static Range ofBlock(long block, long size) {
+            if (block < 0) {
+                throw new IllegalStateException("Shard id-block must not be negative");
+            }
+            return new Range(Math.multiplyExact(block, size), Math.multiplyExact(block + 1, size));
+        }
+
+        boolean overlaps(Range other) {
+            return start < other.end && other.start < end;
+        }
+
+        boolean contains(long id) {
+            return id >= start && id < end;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ShardMap {
+
+    public static final String DEFAULT_SHARD = "default";
+
+    private final JdbcTemplate globalDatabase;
+    private final Set<String> shards;
+    private final Map<UUID, String> configuredAssignments;
+    private final Map<UUID, String> assignments = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public ShardMap(DataSource globalDataSource, Set<String> shards, Map<UUID, String> configuredAssignments) {
+        this.globalDatabase = new JdbcTemplate(globalDataSource);
+        this.shards = Set.copyOf(shards);
+        this.configuredAssignments = Map.copyOf(configuredAssignments);
+        configuredAssignments.values().forEach(this::requireKnownShard);
+    }
+
+    public String shardFor(UUID teamId) {
+        return loadedAssignments().getOrDefault(teamId, DEFAULT_SHARD);
+    }
+
+    public Map<UUID, String> assignments() {
+        return new TreeMap<>(loadedAssignments());
+    }
+
+    public Set<String> shards() {
+        return shards;
+    }
+
+    public void assign(UUID teamId, String shard) {
+        requireKnownShard(shard);
+        globalDatabase.update("DELETE FROM team_shard WHERE team_id = ?", teamId.toString());
+        globalDatabase.update("INSERT INTO team_shard (team_id, shard) VALUES (?, ?)", teamId.toString(), shard);
+        loadedAssignments().put(teamId, shard);
+    }
+
+    private Map<UUID, String> loadedAssignments() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    assignments.putAll(configuredAssignments);
+                    globalDatabase.query("SELECT team_id, shard FROM team_shard", resultSet -> {
+                        var shard = resultSet.getString("shard");
+                        requireKnownShard(shard);
+                        assignments.put(UUID.fromString(resultSet.getString("team_id")), shard);
+                    });
+                    loaded = true;
+                }
+            }
+        }
+        return assignments;
+    }
+
+    private void requireKnownShard(String shard) {
+        if (!shards.contains(shard)) {
+            throw new IllegalArgumentException("Unknown shard '%s'".formatted(shard));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.sharding;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.regex.Pattern;
+
+/**
+ * Routes team-scoped repositories to the team's shard and keeps each transaction on the single shard it touched
+ * first. A read from the default shard inside a transaction bound to another shard runs outside that transaction;
+ * any other cross-shard call fails instead of silently reading or writing the wrong database. Inside a transaction the
+ * team's move lock is held until it completes, so a move cannot copy a team while it still has uncommitted writes.
+ */
+@Aspect
+public class ShardedRepositoryAspect {
+
+    private static final String TEAM_REPOSITORIES = "target(com.ford.labs.retroquest.thought.ThoughtRepository)"
+        + " || target(com.ford.labs.retroquest.actionitem.ActionItemRepository)"
+        + " || target(com.ford.labs.retroquest.board.BoardRepository)"
+        + " || target(com.ford.labs.retroquest.column.ColumnRepository)";
+    private static final Pattern READ_METHOD = Pattern.compile("^(find|read|get|query|search|stream|count|exists).*");
+    private static final Object TRANSACTION_SHARD = new Object();
+
+    private final TeamMoveLocks moveLocks;
+    private final ShardMap shardMap;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    public ShardedRepositoryAspect(
+        TeamMoveLocks moveLocks,
+        ShardMap shardMap,
+        ObjectProvider<PlatformTransactionManager> transactionManager
+    ) {
+        this.moveLocks = moveLocks;
+        this.shardMap = shardMap;
+        this.transactionManager = transactionManager;
+    }
+
+    @Around(TEAM_REPOSITORIES)
+    public Object routeToTeamShard(ProceedingJoinPoint joinPoint) throws Throwable {
+        var teamId = TeamShardContext.currentTeam();
+        if (teamId == null) {
+            return routeToDefaultShard(joinPoint);
+        }
+        if (TeamShardContext.isShardedCall()) {
+            return joinPoint.proceed();
+        }
+
+        var lock = moveLocks.accessLock(teamId);
+        var heldByTransaction = holdUntilTransactionCompletes(lock);
+        if (!heldByTransaction) {
+            lock.lock();
+        }
+        TeamShardContext.beginShardedCall();
+        try {
+            bindTransactionShard(shardMap.shardFor(teamId), teamId);
+            return joinPoint.proceed();
+        } finally {
+            TeamShardContext.endShardedCall();
+            if (!heldByTransaction) {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Around("target(org.springframework.data.repository.Repository) && !(" + TEAM_REPOSITORIES + ")")
+    public Object routeToDefaultShard(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TeamShardContext.isShardedCall()) {
+            return joinPoint.proceed();
+        }
+
+        var transactionShard = (String) TransactionSynchronizationManager.getResource(TRANSACTION_SHARD);
+        if (transactionShard == null || transactionShard.equals(ShardMap.DEFAULT_SHARD)) {
+            bindTransactionShard(ShardMap.DEFAULT_SHARD, null);
+            return joinPoint.proceed();
+        }
+        if (!READ_METHOD.matcher(joinPoint.getSignature().getName()).matches()) {
+            throw crossShardAccess(transactionShard, ShardMap.DEFAULT_SHARD, null);
+        }
+        return proceedOutsideTransaction(joinPoint);
+    }
+
+    private static boolean holdUntilTransactionCompletes(Lock lock) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+            || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        if (!TransactionSynchronizationManager.hasResource(lock)) {
+            lock.lock();
+            TransactionSynchronizationManager.bindResource(lock, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(lock);
+                    lock.unlock();
+                }
+            });
+        }
+        return true;
+    }
+
+    private void bindTransactionShard(String shard, UUID teamId) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+            || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        var transactionShard = (String) TransactionSynchronizationManager.getResource(TRANSACTION_SHARD);
+        if (transactionShard == null) {
+            TransactionSynchronizationManager.bindResource(TRANSACTION_SHARD, shard);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_SHARD);
+                }
+            });
+        } else if (!transactionShard.equals(shard)) {
+            throw crossShardAccess(transactionShard, shard, teamId);
+        }
+    }
+
+    private Object proceedOutsideTransaction(ProceedingJoinPoint joinPoint) throws Throwable {
+        var template = new TransactionTemplate(transactionManager.getObject());
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        var suspended = TransactionSynchronizationManager.unbindResource(TRANSACTION_SHARD);
+        try {
+            return template.execute(status -> {
+                try {
+                    return joinPoint.proceed();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } finally {
+            TransactionSynchronizationManager.bindResource(TRANSACTION_SHARD, suspended);
+        }
+    }
+
+    private static IllegalStateException crossShardAccess(String transactionShard, String shard, UUID teamId) {
+        var target = teamId != null ? "shard '%s' of team %s".formatted(shard, teamId) : "shard '%s'".formatted(shard);
+        return new IllegalStateException(
+            "Transaction is bound to shard '%s' and cannot also use %s".formatted(transactionShard, target)
+        );
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import liquibase.integration.spring.SpringLiquibase;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+
+@Configuration
+@ConditionalOnProperty(prefix = "retroquest.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({DataSourceProperties.class, LiquibaseProperties.class, ShardingProperties.class})
+public class ShardingConfig {
+
+    public ShardingConfig(Environment environment) {
+        if (environment.containsProperty("retroquest.datasource.replicas[0].url")) {
+            throw new IllegalStateException("Team sharding cannot be combined with read replicas");
+        }
+    }
+
+    @Bean
+    public HikariDataSource globalDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ShardIdRanges shardIdRanges(ShardingProperties properties) {
+        return new ShardIdRanges(properties);
+    }
+
+    @Bean
+    public ShardDataSources shardDataSources(
+        ShardingProperties properties,
+        LiquibaseProperties liquibaseProperties,
+        HikariDataSource globalDataSource,
+        ShardIdRanges shardIdRanges
+    ) throws Exception {
+        var shards = new LinkedHashMap<String, DataSource>();
+        shards.put(ShardMap.DEFAULT_SHARD, globalDataSource);
+        for (var entry : properties.getShards().entrySet()) {
+            var shard = entry.getValue();
+            var dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword())
+                .driverClassName(shard.getDriverClassName())
+                .build();
+            migrate(dataSource, liquibaseProperties.getChangeLog());
+            shardIdRanges.reserve(entry.getKey(), dataSource);
+            shards.put(entry.getKey(), dataSource);
+        }
+        return new ShardDataSources(shards);
+    }
+
+    @Bean
+    public ShardMap shardMap(HikariDataSource globalDataSource, ShardDataSources shardDataSources, ShardingProperties properties) {
+        return new ShardMap(globalDataSource, shardDataSources.asMap().keySet(), properties.getTeams());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources, ShardMap shardMap) {
+        return new LazyConnectionDataSourceProxy(new TeamShardRoutingDataSource(shardDataSources.asMap(), shardMap));
+    }
+
+    @Bean
+    public TeamMoveLocks teamMoveLocks() {
+        return new TeamMoveLocks();
+    }
+
+    @Bean
+    public ShardedRepositoryAspect shardedRepositoryAspect(
+        TeamMoveLocks teamMoveLocks,
+        ShardMap shardMap,
+        ObjectProvider<PlatformTransactionManager> transactionManager
+    ) {
+        return new ShardedRepositoryAspect(teamMoveLocks, shardMap, transactionManager);
+    }
+
+    @Bean
+    public TeamShardRebalancer teamShardRebalancer(
+        ShardDataSources shardDataSources,
+        ShardMap shardMap,
+        TeamMoveLocks teamMoveLocks,
+        ShardIdRanges shardIdRanges
+    ) {
+        return new TeamShardRebalancer(shardDataSources.asMap(), shardMap, teamMoveLocks, shardIdRanges);
+    }
+
+    @Bean
+    public TeamShardEndpoint teamShardEndpoint(ShardMap shardMap, TeamShardRebalancer teamShardRebalancer) {
+        return new TeamShardEndpoint(shardMap, teamShardRebalancer);
+    }
+
+    @Bean
+    public WebMvcConfigurer teamShardWebMvcConfigurer(TeamMoveLocks teamMoveLocks) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new TeamShardInterceptor(teamMoveLocks));
+            }
+        };
+    }
+
+    private static void migrate(DataSource shard, String changeLog) throws Exception {
+        var liquibase = new SpringLiquibase();
+        liquibase.setDataSource(shard);
+        liquibase.setChangeLog(changeLog);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+    }
+}
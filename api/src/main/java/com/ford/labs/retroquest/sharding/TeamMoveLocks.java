@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.sharding;
+
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class TeamMoveLocks {
+
+    private static final int STRIPES = 64;
+
+    private final ReentrantReadWriteLock[] stripes = new ReentrantReadWriteLock[STRIPES];
+
+    public TeamMoveLocks() {
+        for (var i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    public Lock accessLock(UUID teamId) {
+        return stripeFor(teamId).readLock();
+    }
+
+    public Lock moveLock(UUID teamId) {
+        return stripeFor(teamId).writeLock();
+    }
+
+    private ReentrantReadWriteLock stripeFor(UUID teamId) {
+        return stripes[Math.floorMod(teamId.hashCode(), STRIPES)];
+    }
+}
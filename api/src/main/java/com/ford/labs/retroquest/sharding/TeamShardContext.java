@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.sharding;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+public final class TeamShardContext {
+
+    private static final ThreadLocal<UUID> CURRENT_TEAM = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> SHARDED_CALL = ThreadLocal.withInitial(() -> false);
+
+    private TeamShardContext() { }
+
+    public static UUID currentTeam() {
+        return CURRENT_TEAM.get();
+    }
+
+    public static boolean isShardedCall() {
+        return SHARDED_CALL.get();
+    }
+
+    public static void setCurrentTeam(UUID teamId) {
+        CURRENT_TEAM.set(teamId);
+    }
+
+    public static void clear() {
+        CURRENT_TEAM.remove();
+        SHARDED_CALL.remove();
+    }
+
+    static void beginShardedCall() {
+        SHARDED_CALL.set(true);
+    }
+
+    static void endShardedCall() {
+        SHARDED_CALL.set(false);
+    }
+
+    public static <T> T callForTeam(UUID teamId, Supplier<T> call) {
+        var previousTeam = CURRENT_TEAM.get();
+        CURRENT_TEAM.set(teamId);
+        try {
+            return call.get();
+        } finally {
+            CURRENT_TEAM.set(previousTeam);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.sharding;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+@Endpoint(id = "teamshards")
+public class TeamShardEndpoint {
+
+    private final ShardMap shardMap;
+    private final TeamShardRebalancer rebalancer;
+
+    public TeamShardEndpoint(ShardMap shardMap, TeamShardRebalancer rebalancer) {
+        this.shardMap = shardMap;
+        this.rebalancer = rebalancer;
+    }
+
+    @ReadOperation
+    public ShardReport report() {
+        return new ShardReport(new TreeSet<>(shardMap.shards()), shardMap.assignments());
+    }
+
+    @WriteOperation
+    public TeamShardRebalancer.TeamMove moveTeam(String teamId, String shard) {
+        return rebalancer.moveTeam(UUID.fromString(teamId), shard);
+    }
+
+    public record ShardReport(Set<String> shards, Map<UUID, String> assignments) { }
+}
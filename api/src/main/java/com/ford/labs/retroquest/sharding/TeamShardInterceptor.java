@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.sharding;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+
+public class TeamShardInterceptor implements HandlerInterceptor {
+
+    private static final String ACCESS_LOCK_ATTRIBUTE = TeamShardInterceptor.class.getName() + ".accessLock";
+
+    private final TeamMoveLocks moveLocks;
+
+    public TeamShardInterceptor(TeamMoveLocks moveLocks) {
+        this.moveLocks = moveLocks;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        var pathVariables = (Map<?, ?>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables != null && pathVariables.get("teamId") instanceof String teamId) {
+            try {
+                var team = UUID.fromString(teamId);
+                // Held until the request completes so a move cannot delete rows a request transaction still writes
+                var accessLock = moveLocks.accessLock(team);
+                accessLock.lock();
+                request.setAttribute(ACCESS_LOCK_ATTRIBUTE, accessLock);
+                TeamShardContext.setCurrentTeam(team);
+            } catch (IllegalArgumentException e) {
+                TeamShardContext.clear();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        TeamShardContext.clear();
+        if (request.getAttribute(ACCESS_LOCK_ATTRIBUTE) instanceof Lock accessLock) {
+            request.removeAttribute(ACCESS_LOCK_ATTRIBUTE);
+            accessLock.unlock();
+        }
+    }
+}
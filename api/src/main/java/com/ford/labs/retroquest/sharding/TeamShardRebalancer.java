@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+public class TeamShardRebalancer {
+
+    static final List<String> TEAM_TABLES = List.of("rq_column", "board", "thought", "action_item");
+
+    private final Map<String, DataSource> shards;
+    private final ShardMap shardMap;
+    private final TeamMoveLocks moveLocks;
+    private final ShardIdRanges idRanges;
+
+    public TeamShardRebalancer(Map<String, DataSource> shards, ShardMap shardMap, TeamMoveLocks moveLocks, ShardIdRanges idRanges) {
+        this.shards = Map.copyOf(shards);
+        this.shardMap = shardMap;
+        this.moveLocks = moveLocks;
+        this.idRanges = idRanges;
+    }
+
+    public TeamMove moveTeam(UUID teamId, String targetShard) {
+        if (!shards.containsKey(targetShard)) {
+            throw new IllegalArgumentException("Unknown shard '%s'".formatted(targetShard));
+        }
+
+        var lock = moveLocks.moveLock(teamId);
+        lock.lock();
+        try {
+            var sourceShard = shardMap.shardFor(teamId);
+            if (sourceShard.equals(targetShard)) {
+                return new TeamMove(teamId, sourceShard, targetShard, 0);
+            }
+
+            var source = shards.get(sourceShard);
+            var target = shards.get(targetShard);
+            var copiedRows = inTransaction(target, () -> copyTeamRows(teamId, new JdbcTemplate(source), new JdbcTemplate(target), targetShard));
+            shardMap.assign(teamId, targetShard);
+            inTransaction(source, () -> deleteTeamRows(teamId, new JdbcTemplate(source)));
+            return new TeamMove(teamId, sourceShard, targetShard, copiedRows);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int copyTeamRows(UUID teamId, JdbcTemplate source, JdbcTemplate target, String targetShard) {
+        var copiedRows = 0;
+        for (var table : TEAM_TABLES) {
+            var rows = source.queryForList("SELECT * FROM %s WHERE team_id = ?".formatted(table), teamId.toString());
+            for (var row : rows) {
+                var conflicts = target.queryForObject("SELECT COUNT(*) FROM %s WHERE id = ?".formatted(table), Integer.class, row.get("id"));
+                if (conflicts != null && conflicts > 0) {
+                    throw new IllegalStateException("Row %s of %s already exists on the target shard".formatted(row.get("id"), table));
+                }
+                var columns = String.join(", ", row.keySet());
+                var placeholders = String.join(", ", Collections.nCopies(row.size(), "?"));
+                target.update("INSERT INTO %s (%s) VALUES (%s)".formatted(table, columns, placeholders), row.values().toArray());
+                copiedRows++;
+            }
+            idRanges.advancePast(targetShard, target, table, rows.stream().map(row -> ((Number) row.get("id")).longValue()).toList());
+        }
+        return copiedRows;
+    }
+
+    private static int deleteTeamRows(UUID teamId, JdbcTemplate source) {
+        var deletedRows = 0;
+        for (var i = TEAM_TABLES.size() - 1; i >= 0; i--) {
+            var table = TEAM_TABLES.get(i);
+            deletedRows += source.update("DELETE FROM %s WHERE team_id = ?".formatted(table), teamId.toString());
+        }
+        return deletedRows;
+    }
+
+    private static int inTransaction(DataSource dataSource, IntSupplier work) {
+        var result = new TransactionTemplate(new DataSourceTransactionManager(dataSource)).execute(status -> work.getAsInt());
+        return result != null ? result : 0;
+    }
+
+    public record TeamMove(UUID teamId, String sourceShard, String targetShard, int movedRows) { }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+public class TeamShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ShardMap shardMap;
+
+    public TeamShardRoutingDataSource(Map<String, DataSource> shards, ShardMap shardMap) {
+        this.shardMap = shardMap;
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(ShardMap.DEFAULT_SHARD));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        var team = TeamShardContext.currentTeam();
+        if (team == null || !TeamShardContext.isShardedCall()) {
+            return ShardMap.DEFAULT_SHARD;
+        }
+        return shardMap.shardFor(team);
+    }
+}
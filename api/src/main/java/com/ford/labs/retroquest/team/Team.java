@@ -1,9 +1,12 @@
 package com.ford.labs.retroquest.team;
 
+import com.ford.labs.retroquest.config.HibernateCacheConfig;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import javax.persistence.Entity;
@@ -17,6 +20,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.TEAM_REGION)
 public class Team {
 
     @Id
@@ -25,8 +29,17 @@ public class Team {
     private String name;
     @CreationTimestamp
     private LocalDateTime createdAt;
+    private String retroType;
 
     public Team(String name) {
         this.name = name;
     }
+
+    public Team(String name, String retroType) {
+        this(null, name, null, retroType);
+    }
+
+    public Team(UUID id, String name, LocalDateTime createdAt) {
+        this(id, name, createdAt, null);
+    }
 }
@@ -1,6 +1,7 @@
 package com.ford.labs.retroquest.team;
 
 import com.ford.labs.retroquest.column.ColumnService;
+import com.ford.labs.retroquest.column.RetroTypeRegistry;
 import com.ford.labs.retroquest.team.exception.InviteExpiredException;
 import com.ford.labs.retroquest.team.exception.InviteNotFoundException;
 import com.ford.labs.retroquest.team.exception.TeamAlreadyExistsException;
@@ -20,18 +21,26 @@ public class TeamService {
     private final TeamUserMappingService teamUserMappingService;
     private final InviteService inviteService;
     private final ColumnService columnService;
+    private final RetroTypeRegistry retroTypeRegistry;
 
-    public TeamService(TeamRepository repository, TeamUserMappingService teamUserMappingService, InviteService inviteService, ColumnService columnService) {
+    public TeamService(
+        TeamRepository repository,
+        TeamUserMappingService teamUserMappingService,
+        InviteService inviteService,
+        ColumnService columnService,
+        RetroTypeRegistry retroTypeRegistry
+    ) {
         this.repository = repository;
         this.teamUserMappingService = teamUserMappingService;
         this.inviteService = inviteService;
         this.columnService = columnService;
+        this.retroTypeRegistry = retroTypeRegistry;
     }
     public Team createTeam(String teamName, String userId) throws TeamAlreadyExistsException {
         try {
-            var savedTeam = repository.save(new Team(teamName));
+            var savedTeam = repository.save(new Team(teamName, retroTypeRegistry.getDefault().name()));
             teamUserMappingService.addUserToTeam(savedTeam.getId(), userId);
-            columnService.generateInitialColumnsForTeam(savedTeam.getId());
+            columnService.generateInitialColumnsForTeam(savedTeam);
             return savedTeam;
         } catch (DataIntegrityViolationException exception) {
             throw new TeamAlreadyExistsException();
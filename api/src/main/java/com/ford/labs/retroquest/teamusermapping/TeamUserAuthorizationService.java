@@ -1,5 +1,6 @@
 package com.ford.labs.retroquest.teamusermapping;
 
+import com.ford.labs.retroquest.flightrecorder.AuthorizationCheckEvent;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
@@ -15,6 +16,10 @@ public class TeamUserAuthorizationService {
     }
 
     public boolean isUserMemberOfTeam(Authentication authentication, UUID teamId) {
-        return repository.findByTeamIdAndUserId(teamId, authentication.getName()).isPresent();
+        var flightRecorderEvent = new AuthorizationCheckEvent();
+        flightRecorderEvent.begin();
+        var isMember = repository.findByTeamIdAndUserId(teamId, authentication.getName()).isPresent();
+        flightRecorderEvent.finish(String.valueOf(teamId), isMember);
+        return isMember;
     }
 }
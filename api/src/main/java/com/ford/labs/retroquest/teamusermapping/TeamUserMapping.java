@@ -1,9 +1,12 @@
 package com.ford.labs.retroquest.teamusermapping;
 
+import com.ford.labs.retroquest.config.HibernateCacheConfig;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import javax.persistence.*;
@@ -15,6 +18,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @Getter
 @EqualsAndHashCode
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.TEAM_USER_MAPPING_REGION)
 public class TeamUserMapping {
     @Id
     @GeneratedValue
@@ -1,13 +1,18 @@
 package com.ford.labs.retroquest.teamusermapping;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface TeamUserMappingRepository extends JpaRepository<TeamUserMapping, UUID> {
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
     Optional<TeamUserMapping> findByTeamIdAndUserId(UUID teamId, String userId);
     void deleteAllByTeamIdAndUserId(UUID teamId, String userId);
+    List<TeamUserMapping> findAllByUserId(String userId);
 }
@@ -2,11 +2,15 @@ package com.ford.labs.retroquest.teamusermapping;
 
 import com.ford.labs.retroquest.team.exception.TeamNotFoundException;
 import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
+import static com.ford.labs.retroquest.actionitem.ActionItemService.ASSIGNED_ACTION_ITEMS_CACHE;
+
 @Service
 public class TeamUserMappingService {
 
@@ -16,6 +20,7 @@ public class TeamUserMappingService {
         this.repository = repository;
     }
 
+    @CacheEvict(value = ASSIGNED_ACTION_ITEMS_CACHE, key = "#userId")
     public void addUserToTeam(UUID teamId, String userId) {
         try {
             this.repository.save(new TeamUserMapping(null, teamId, userId, null));
@@ -29,6 +34,8 @@ public class TeamUserMappingService {
         }
     }
 
+    @Transactional
+    @CacheEvict(value = ASSIGNED_ACTION_ITEMS_CACHE, key = "#userId")
     public void removeUserFromTeam(UUID teamId, String userId) {
         this.repository.deleteAllByTeamIdAndUserId(teamId, userId);
     }
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.thought;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Component
+@ConditionalOnProperty(prefix = "retroquest.live-board", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(LiveBoardProperties.class)
+public class LiveBoardEngine {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LiveBoardEngine.class);
+
+    private final ThoughtRepository thoughtRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LiveBoardJournal journal;
+    private final Duration boardIdleTimeout;
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+    private final Map<Long, String> thoughtTeams = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+    private final Object checkpointLock = new Object();
+    private Map<Long, LiveBoardJournal.Entry> pending = new HashMap<>();
+
+    public LiveBoardEngine(
+        ThoughtRepository thoughtRepository,
+        DataSource dataSource,
+        PlatformTransactionManager transactionManager,
+        LiveBoardProperties properties,
+        Environment environment
+    ) throws IOException {
+        if (environment.getProperty("retroquest.sharding.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("The live board engine cannot be combined with team sharding");
+        }
+        if (properties.getJournalFile() == null) {
+            throw new IllegalStateException("retroquest.live-board.journal-file must be set");
+        }
+        this.thoughtRepository = thoughtRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Checkpoints can run from inside a caller's transaction; the journal is compacted as soon as they return
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.boardIdleTimeout = properties.getBoardIdleTimeout();
+        this.journal = LiveBoardJournal.open(properties.getJournalFile(), properties.getJournalSize().toBytes(), properties.isSyncWrites());
+        recover();
+    }
+
+    public List<Thought> activeThoughts(String teamId) {
+        return withBoard(teamId, thoughts -> thoughts.values().stream().map(LiveBoardEngine::copy).toList());
+    }
+
+    public Optional<Thought> findThought(long thoughtId) {
+        var teamId = thoughtTeams.get(thoughtId);
+        if (teamId == null) {
+            return thoughtRepository.findById(thoughtId);
+        }
+        return findThought(teamId, thoughtId);
+    }
+
+    public Optional<Thought> findThought(String teamId, long thoughtId) {
+        return withBoard(teamId, thoughts -> Optional.ofNullable(thoughts.get(thoughtId)).map(LiveBoardEngine::copy));
+    }
+
+    public Thought add(Thought createdThought) {
+        withBoard(createdThought.getTeamId(), thoughts -> {
+            thoughts.put(createdThought.getId(), copy(createdThought));
+            thoughtTeams.put(createdThought.getId(), createdThought.getTeamId());
+            return null;
+        });
+        return copy(createdThought);
+    }
+
+    public Optional<Thought> update(String teamId, long thoughtId, Consumer<Thought> change) {
+        return withBoard(teamId, thoughts -> {
+            var current = thoughts.get(thoughtId);
+            if (current == null) {
+                return Optional.empty();
+            }
+            var updated = copy(current);
+            change.accept(updated);
+            record(LiveBoardJournal.Entry.upsert(updated));
+            thoughts.put(thoughtId, updated);
+            return Optional.of(copy(updated));
+        });
+    }
+
+    public void delete(String teamId, long thoughtId) {
+        withBoard(teamId, thoughts -> {
+            if (thoughts.remove(thoughtId) != null) {
+                thoughtTeams.remove(thoughtId);
+                record(LiveBoardJournal.Entry.delete(teamId, thoughtId));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Drops the team's board after its retro ended. Pending journal entries are keyed by thought id, so they are still
+     * written by a later checkpoint if this one fails.
+     */
+    public void release(String teamId) {
+        checkpoint();
+        Optional.ofNullable(boards.get(teamId)).ifPresent(board -> evict(board, true));
+    }
+
+    /**
+     * Drops boards nobody has touched for the idle timeout. The checkpoint first writes their changes to the database
+     * and compacts the journal, so a board reloaded later starts from the persisted rows.
+     */
+    @Scheduled(fixedDelayString = "${retroquest.live-board.eviction-interval:PT1M}")
+    public int evictIdleBoards() {
+        var idleSince = System.nanoTime() - boardIdleTimeout.toNanos();
+        var idleBoards = boards.values().stream().filter(board -> board.lastAccess - idleSince <= 0).toList();
+        if (idleBoards.isEmpty() || !checkpoint()) {
+            return 0;
+        }
+        return (int) idleBoards.stream()
+            .filter(board -> board.lastAccess - idleSince <= 0)
+            .filter(board -> evict(board, false))
+            .count();
+    }
+
+    @Scheduled(fixedDelayString = "${retroquest.live-board.checkpoint-interval:PT1S}")
+    public boolean checkpoint() {
+        synchronized (checkpointLock) {
+            Map<Long, LiveBoardJournal.Entry> batch;
+            int journalPosition;
+            synchronized (journal) {
+                if (pending.isEmpty()) {
+                    return true;
+                }
+                batch = pending;
+                pending = new HashMap<>();
+                journalPosition = journal.position();
+            }
+
+            try {
+                write(batch.values());
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not checkpoint {} live board changes, will retry", batch.size(), e);
+                synchronized (journal) {
+                    batch.forEach(pending::putIfAbsent);
+                }
+                return false;
+            }
+
+            synchronized (journal) {
+                journal.discardUpTo(journalPosition);
+            }
+            return true;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        checkpoint();
+        synchronized (journal) {
+            journal.close();
+        }
+    }
+
+    private <T> T withBoard(String teamId, Function<Map<Long, Thought>, T> action) {
+        while (true) {
+            var board = board(teamId);
+            synchronized (board) {
+                if (!board.evicted) {
+                    board.lastAccess = System.nanoTime();
+                    return action.apply(board.thoughts);
+                }
+            }
+        }
+    }
+
+    private Board board(String teamId) {
+        while (true) {
+            var existing = boards.get(teamId);
+            if (existing != null) {
+                return existing;
+            }
+
+            // Load outside the map so a slow query only holds up callers for this team
+            var evictionsBeforeLoad = evictions.get();
+            var loaded = new Board(teamId);
+            thoughtRepository.findAllByTeamIdAndBoardIdIsNull(teamId)
+                .forEach(thought -> loaded.thoughts.put(thought.getId(), copy(thought)));
+
+            synchronized (loaded) {
+                if (boards.putIfAbsent(teamId, loaded) != null) {
+                    continue;
+                }
+                if (evictions.get() != evictionsBeforeLoad) {
+                    // A board evicted during the load may have had changes our rows predate
+                    boards.remove(teamId, loaded);
+                    loaded.evicted = true;
+                    continue;
+                }
+                loaded.thoughts.keySet().forEach(thoughtId -> thoughtTeams.put(thoughtId, teamId));
+                return loaded;
+            }
+        }
+    }
+
+    private boolean evict(Board board, boolean evenWithPendingChanges) {
+        synchronized (board) {
+            if (board.evicted || (!evenWithPendingChanges && hasPendingChanges(board.teamId))) {
+                return false;
+            }
+            board.evicted = true;
+            evictions.incrementAndGet();
+            boards.remove(board.teamId, board);
+            board.thoughts.keySet().forEach(thoughtTeams::remove);
+            return true;
+        }
+    }
+
+    private boolean hasPendingChanges(String teamId) {
+        synchronized (journal) {
+            return pending.values().stream().anyMatch(entry -> entry.teamId().equals(teamId));
+        }
+    }
+
+    private void record(LiveBoardJournal.Entry entry) {
+        while (true) {
+            synchronized (journal) {
+                if (journal.append(entry)) {
+                    pending.put(entry.thoughtId(), entry);
+                    return;
+                }
+                if (journal.isEmpty()) {
+                    throw new IllegalStateException("Live board journal is too small for a single change");
+                }
+            }
+            if (!checkpoint()) {
+                throw new IllegalStateException("Live board journal is full and could not be checkpointed");
+            }
+        }
+    }
+
+    private void recover() {
+        var entries = new HashMap<Long, LiveBoardJournal.Entry>();
+        journal.replay().forEach(entry -> entries.put(entry.thoughtId(), entry));
+        if (!entries.isEmpty()) {
+            LOGGER.info("Replaying {} live board changes from the journal", entries.size());
+            write(entries.values());
+        }
+        journal.discardUpTo(journal.position());
+    }
+
+    private void write(Collection<LiveBoardJournal.Entry> entries) {
+        var updates = new ArrayList<Object[]>();
+        var deletes = new ArrayList<Object[]>();
+        for (var entry : entries) {
+            if (entry.isDelete()) {
+                deletes.add(new Object[]{entry.thoughtId()});
+            } else {
+                var thought = entry.thought();
+                updates.add(new Object[]{thought.getMessage(), thought.getHearts(), thought.isDiscussed(), thought.getColumnId(), thought.getId()});
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE thought SET message = ?, hearts = ?, discussed = ?, column_id = ? WHERE id = ?", updates);
+            }
+            if (!deletes.isEmpty()) {
+                jdbcTemplate.batchUpdate("DELETE FROM thought WHERE id = ?", deletes);
+            }
+        });
+    }
+
+    private static Thought copy(Thought thought) {
+        return thought.toBuilder().build();
+    }
+
+    private static final class Board {
+        private final String teamId;
+        private final Map<Long, Thought> thoughts = new TreeMap<>();
+        private volatile long lastAccess = System.nanoTime();
+        private boolean evicted;
+
+        private Board(String teamId) {
+            this.teamId = teamId;
+        }
+    }
+}
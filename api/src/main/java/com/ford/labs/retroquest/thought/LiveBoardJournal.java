@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.thought;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+class LiveBoardJournal implements AutoCloseable {
+    private static final int MAGIC = 0x52514A31;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final byte UPSERT = 1;
+    private static final byte DELETE = 2;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final boolean syncWrites;
+    private int writePosition = HEADER_SIZE;
+
+    private LiveBoardJournal(FileChannel channel, MappedByteBuffer buffer, boolean syncWrites) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.syncWrites = syncWrites;
+    }
+
+    static LiveBoardJournal open(Path path, long size, boolean syncWrites) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        var mappedSize = Math.min(Integer.MAX_VALUE, Math.max(size, channel.size()));
+        var journal = new LiveBoardJournal(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize), syncWrites);
+        if (journal.buffer.getInt(0) != MAGIC || journal.buffer.getInt(4) != VERSION) {
+            journal.reset();
+        }
+        return journal;
+    }
+
+    List<Entry> replay() {
+        var entries = new ArrayList<Entry>();
+        var position = HEADER_SIZE;
+        while (position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            var length = buffer.getInt(position);
+            if (length <= 0 || length > buffer.capacity() - position - RECORD_HEADER_SIZE) {
+                break;
+            }
+            var payload = new byte[length];
+            buffer.get(position + RECORD_HEADER_SIZE, payload);
+            if (buffer.getInt(position + 4) != checksum(payload)) {
+                break;
+            }
+            try {
+                entries.add(decode(payload));
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                break;
+            }
+            position += RECORD_HEADER_SIZE + length;
+        }
+        writePosition = position;
+        terminate();
+        return entries;
+    }
+
+    boolean append(Entry entry) {
+        var payload = encode(entry);
+        if (writePosition + RECORD_HEADER_SIZE + payload.length + 4 > buffer.capacity()) {
+            return false;
+        }
+        buffer.put(writePosition + RECORD_HEADER_SIZE, payload);
+        buffer.putInt(writePosition + 4, checksum(payload));
+        buffer.putInt(writePosition + RECORD_HEADER_SIZE + payload.length, 0);
+        buffer.putInt(writePosition, payload.length);
+        writePosition += RECORD_HEADER_SIZE + payload.length;
+        if (syncWrites) {
+            buffer.force();
+        }
+        return true;
+    }
+
+    int position() {
+        return writePosition;
+    }
+
+    boolean isEmpty() {
+        return writePosition == HEADER_SIZE;
+    }
+
+    void discardUpTo(int position) {
+        var remaining = writePosition - position;
+        if (remaining > 0) {
+            var tail = new byte[remaining];
+            buffer.get(position, tail);
+            buffer.put(HEADER_SIZE, tail);
+        }
+        writePosition = HEADER_SIZE + Math.max(remaining, 0);
+        terminate();
+        if (syncWrites) {
+            buffer.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private void reset() {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        writePosition = HEADER_SIZE;
+        terminate();
+    }
+
+    private void terminate() {
+        if (writePosition + 4 <= buffer.capacity()) {
+            buffer.putInt(writePosition, 0);
+        }
+    }
+
+    private static int checksum(byte[] payload) {
+        var crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encode(Entry entry) {
+        try (var bytes = new ByteArrayOutputStream(); var output = new DataOutputStream(bytes)) {
+            output.writeByte(entry.isDelete() ? DELETE : UPSERT);
+            writeString(output, entry.teamId());
+            output.writeLong(entry.thoughtId());
+            if (!entry.isDelete()) {
+                var thought = entry.thought();
+                output.writeBoolean(thought.getMessage() != null);
+                if (thought.getMessage() != null) {
+                    writeString(output, thought.getMessage());
+                }
+                output.writeInt(thought.getHearts());
+                output.writeBoolean(thought.isDiscussed());
+                output.writeLong(thought.getColumnId());
+            }
+            output.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Entry decode(byte[] payload) {
+        var input = ByteBuffer.wrap(payload);
+        var kind = input.get();
+        var teamId = readString(input);
+        var thoughtId = input.getLong();
+        if (kind == DELETE) {
+            return Entry.delete(teamId, thoughtId);
+        }
+        if (kind != UPSERT) {
+            throw new IllegalArgumentException("Unknown journal entry kind " + kind);
+        }
+        var message = input.get() != 0 ? readString(input) : null;
+        var hearts = input.getInt();
+        var discussed = input.get() != 0;
+        var columnId = input.getLong();
+        return Entry.upsert(Thought.builder()
+            .id(thoughtId)
+            .teamId(teamId)
+            .message(message)
+            .hearts(hearts)
+            .discussed(discussed)
+            .columnId(columnId)
+            .build());
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer input) {
+        var length = input.getInt();
+        if (length < 0 || length > input.remaining()) {
+            throw new IllegalArgumentException("Corrupt journal entry");
+        }
+        var bytes = new byte[length];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    record Entry(String teamId, long thoughtId, Thought thought) {
+        static Entry upsert(Thought thought) {
+            return new Entry(thought.getTeamId(), thought.getId(), thought);
+        }
+
+        static Entry delete(String teamId, long thoughtId) {
+            return new Entry(teamId, thoughtId, null);
+        }
+
+        boolean isDelete() {
+            return thought == null;
+        }
+    }
+}
@@ -47,6 +47,7 @@ public class ThoughtController {
         return ResponseEntity.created(uri).build();
     }
 
+    @Transactional(readOnly = true)
     @GetMapping("/api/team/{teamId}/thoughts")
     @PreAuthorize("@authorizationService.requestIsAuthorized(authentication, #teamId)")
     public List<Thought> getThoughtsForTeam(@PathVariable("teamId") UUID teamId) {
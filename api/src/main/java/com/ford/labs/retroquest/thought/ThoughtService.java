@@ -17,15 +17,19 @@
 
 package com.ford.labs.retroquest.thought;
 
-import com.ford.labs.retroquest.column.ColumnRepository;
-import com.ford.labs.retroquest.exception.ColumnNotFoundException;
+import com.ford.labs.retroquest.column.ColumnService;
 import com.ford.labs.retroquest.exception.ThoughtNotFoundException;
+import com.ford.labs.retroquest.flightrecorder.ThoughtCreatedEvent;
+import com.ford.labs.retroquest.flightrecorder.ThoughtHeartEvent;
+import com.ford.labs.retroquest.locking.TeamLockManager;
+import com.ford.labs.retroquest.metrics.RetroActivityMetrics;
 import com.ford.labs.retroquest.websocket.WebsocketService;
 import com.ford.labs.retroquest.websocket.events.WebsocketThoughtEvent;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static com.ford.labs.retroquest.websocket.events.WebsocketEventType.DELETE;
 import static com.ford.labs.retroquest.websocket.events.WebsocketEventType.UPDATE;
@@ -34,69 +38,142 @@ import static com.ford.labs.retroquest.websocket.events.WebsocketEventType.UPDAT
 public class ThoughtService {
 
     private final ThoughtRepository thoughtRepository;
-    private final ColumnRepository columnRepository;
+    private final ColumnService columnService;
     private final WebsocketService websocketService;
-
-    public ThoughtService(ThoughtRepository thoughtRepository, ColumnRepository columnRepository, WebsocketService websocketService) {
+    private final Optional<LiveBoardEngine> liveBoardEngine;
+    private final TeamLockManager teamLockManager;
+    private final RetroActivityMetrics retroActivityMetrics;
+
+    public ThoughtService(
+        ThoughtRepository thoughtRepository,
+        ColumnService columnService,
+        WebsocketService websocketService,
+        Optional<LiveBoardEngine> liveBoardEngine,
+        TeamLockManager teamLockManager,
+        RetroActivityMetrics retroActivityMetrics
+    ) {
         this.thoughtRepository = thoughtRepository;
-        this.columnRepository = columnRepository;
+        this.columnService = columnService;
         this.websocketService = websocketService;
+        this.liveBoardEngine = liveBoardEngine;
+        this.teamLockManager = teamLockManager;
+        this.retroActivityMetrics = retroActivityMetrics;
     }
 
     public List<Thought> fetchAllActiveThoughts(String teamId) {
+        if (liveBoardEngine.isPresent()) {
+            return liveBoardEngine.get().activeThoughts(teamId);
+        }
         return thoughtRepository.findAllByTeamIdAndBoardIdIsNull(teamId);
     }
 
     public Optional<Thought> getThought(Long thoughtId) {
+        if (liveBoardEngine.isPresent()) {
+            return liveBoardEngine.get().findThought(thoughtId);
+        }
         return thoughtRepository.findById(thoughtId);
     }
 
+    public void releaseActiveThoughts(String teamId) {
+        liveBoardEngine.ifPresent(engine -> engine.release(teamId));
+    }
+
     public Thought likeThought(String teamId, Long thoughtId) {
-        thoughtRepository.incrementHeartCount(thoughtId);
-        var thought = fetchThought(teamId, thoughtId);
-        websocketService.publishEvent(new WebsocketThoughtEvent(thought.getTeamId(), UPDATE, thought));
-        return thought;
+        var flightRecorderEvent = new ThoughtHeartEvent();
+        flightRecorderEvent.begin();
+        var likedThought = teamLockManager.withTeamLock(teamId, () -> {
+            if (liveBoardEngine.isPresent()) {
+                return publishUpdate(updateInEngine(teamId, thoughtId, thought -> thought.setHearts(thought.getHearts() + 1)));
+            }
+            thoughtRepository.incrementHeartCount(thoughtId);
+            var thought = fetchThought(teamId, thoughtId);
+            websocketService.publishEvent(new WebsocketThoughtEvent(thought.getTeamId(), UPDATE, thought));
+            return thought;
+        });
+        retroActivityMetrics.heartAdded();
+        flightRecorderEvent.finish(teamId, thoughtId, likedThought.getHearts());
+        return likedThought;
     }
 
     public Thought discussThought(String teamId, Long thoughtId, boolean discussed) {
-        var thought = fetchThought(teamId, thoughtId);
-        thought.setDiscussed(discussed);
-        var savedThought = thoughtRepository.save(thought);
-        websocketService.publishEvent(new WebsocketThoughtEvent(savedThought.getTeamId(), UPDATE, savedThought));
-        return savedThought;
+        return teamLockManager.withTeamLock(teamId, () -> {
+            if (liveBoardEngine.isPresent()) {
+                return publishUpdate(updateInEngine(teamId, thoughtId, thought -> thought.setDiscussed(discussed)));
+            }
+            var thought = fetchThought(teamId, thoughtId);
+            thought.setDiscussed(discussed);
+            var savedThought = thoughtRepository.save(thought);
+            websocketService.publishEvent(new WebsocketThoughtEvent(savedThought.getTeamId(), UPDATE, savedThought));
+            return savedThought;
+        });
     }
 
     public Thought updateColumn(String teamId, Long thoughtId, long columnId) {
-        var column = columnRepository.findByTeamIdAndId(teamId, columnId).orElseThrow(ColumnNotFoundException::new);
-        var thought = fetchThought(teamId, thoughtId);
-        thought.setColumnId(column.getId());
-        var savedThought = thoughtRepository.save(thought);
-        websocketService.publishEvent(new WebsocketThoughtEvent(savedThought.getTeamId(), UPDATE, savedThought));
-        return savedThought;
+        return teamLockManager.withTeamLock(teamId, () -> {
+            var column = columnService.fetchColumn(teamId, columnId);
+            if (liveBoardEngine.isPresent()) {
+                return publishUpdate(updateInEngine(teamId, thoughtId, thought -> thought.setColumnId(column.getId())));
+            }
+            var thought = fetchThought(teamId, thoughtId);
+            thought.setColumnId(column.getId());
+            var savedThought = thoughtRepository.save(thought);
+            websocketService.publishEvent(new WebsocketThoughtEvent(savedThought.getTeamId(), UPDATE, savedThought));
+            return savedThought;
+        });
     }
 
     public Thought updateThoughtMessage(String teamId, Long thoughtId, String updatedMessage) {
-        var returnedThought = fetchThought(teamId, thoughtId);
-        returnedThought.setMessage(updatedMessage);
-        var savedThought = thoughtRepository.save(returnedThought);
-        websocketService.publishEvent(new WebsocketThoughtEvent(savedThought.getTeamId(), UPDATE, savedThought));
-        return savedThought;
+        return teamLockManager.withTeamLock(teamId, () -> {
+            if (liveBoardEngine.isPresent()) {
+                return publishUpdate(updateInEngine(teamId, thoughtId, thought -> thought.setMessage(updatedMessage)));
+            }
+            var returnedThought = fetchThought(teamId, thoughtId);
+            returnedThought.setMessage(updatedMessage);
+            var savedThought = thoughtRepository.save(returnedThought);
+            websocketService.publishEvent(new WebsocketThoughtEvent(savedThought.getTeamId(), UPDATE, savedThought));
+            return savedThought;
+        });
     }
 
     public void deleteThought(String teamId, Long thoughtId) {
-        thoughtRepository.deleteThoughtByTeamIdAndId(teamId, thoughtId);
-        websocketService.publishEvent(new WebsocketThoughtEvent(teamId, DELETE, Thought.builder().id(thoughtId).build()));
+        teamLockManager.runWithTeamLock(teamId, () -> {
+            if (liveBoardEngine.isPresent()) {
+                liveBoardEngine.get().delete(teamId, thoughtId);
+            } else {
+                thoughtRepository.deleteThoughtByTeamIdAndId(teamId, thoughtId);
+            }
+            websocketService.publishEvent(new WebsocketThoughtEvent(teamId, DELETE, Thought.builder().id(thoughtId).build()));
+        });
     }
 
     public Thought createThought(String teamId, CreateThoughtRequest request) {
-        var thought = new Thought();
-        thought.setMessage(request.message());
-        thought.setColumnId(request.columnId());
-        thought.setTeamId(teamId);
-
-        Thought createdThought = thoughtRepository.save(thought);
-        websocketService.publishEvent(new WebsocketThoughtEvent(teamId, UPDATE, createdThought));
-        return createdThought;
+        var flightRecorderEvent = new ThoughtCreatedEvent();
+        flightRecorderEvent.begin();
+        var savedThought = teamLockManager.withTeamLock(teamId, () -> {
+            var thought = new Thought();
+            thought.setMessage(request.message());
+            thought.setColumnId(request.columnId());
+            thought.setTeamId(teamId);
+
+            Thought createdThought = thoughtRepository.save(thought);
+            if (liveBoardEngine.isPresent()) {
+                createdThought = liveBoardEngine.get().add(createdThought);
+            }
+            websocketService.publishEvent(new WebsocketThoughtEvent(teamId, UPDATE, createdThought));
+            return createdThought;
+        });
+        retroActivityMetrics.thoughtCreated();
+        flightRecorderEvent.finish(teamId, request.columnId(), request.message());
+        return savedThought;
+    }
+
+    private Thought updateInEngine(String teamId, Long thoughtId, Consumer<Thought> change) {
+        return liveBoardEngine.get().update(teamId, thoughtId, change).orElseThrow(() -> new ThoughtNotFoundException(thoughtId));
+    }
+
+    private Thought publishUpdate(Thought thought) {
+        websocketService.publishEvent(new WebsocketThoughtEvent(thought.getTeamId(), UPDATE, thought));
+        return thought;
     }
 
     private Thought fetchThought(String teamId, Long thoughtId) throws ThoughtNotFoundException {
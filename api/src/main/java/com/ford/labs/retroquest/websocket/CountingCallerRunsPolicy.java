@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.websocket;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs a message on the sending thread when its channel's queue is full, so a burst slows the sender down instead of
+ * dropping the message, and counts how often that happened.
+ */
+class CountingCallerRunsPolicy extends ThreadPoolExecutor.CallerRunsPolicy {
+
+    private final AtomicLong rejectedTasks = new AtomicLong();
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        rejectedTasks.incrementAndGet();
+        super.rejectedExecution(task, executor);
+    }
+
+    long rejectedTasks() {
+        return rejectedTasks.get();
+    }
+}
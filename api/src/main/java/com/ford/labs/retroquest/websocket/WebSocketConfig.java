@@ -18,7 +18,10 @@
 package com.ford.labs.retroquest.websocket;
 
 
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
@@ -30,24 +33,45 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
 
+import java.util.LinkedHashMap;
 import java.util.Optional;
 
 
 @Configuration
 @EnableWebSocketMessageBroker
+@EnableConfigurationProperties(WebsocketProperties.class)
 @Order(Ordered.HIGHEST_PRECEDENCE + 99)
-public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer, DisposableBean {
 
-    public WebSocketConfig() {}
+    private final WebsocketProperties properties;
+    // Not a bean, so @Scheduled work never lands on the heartbeat thread
+    private final ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+
+    public WebSocketConfig(WebsocketProperties properties) {
+        this.properties = properties;
+        heartbeatScheduler.setPoolSize(1);
+        heartbeatScheduler.setThreadNamePrefix("websocket-heartbeat-");
+        heartbeatScheduler.setDaemon(true);
+        heartbeatScheduler.initialize();
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
+        var heartbeat = properties.getHeartbeat();
         config.setApplicationDestinationPrefixes("/app");
-        config.enableSimpleBroker("/topic");
+        config.enableSimpleBroker("/topic")
+            .setHeartbeatValue(new long[]{heartbeat.getOutgoing().toMillis(), heartbeat.getIncoming().toMillis()})
+            .setTaskScheduler(heartbeatScheduler);
     }
 
     @Override
@@ -58,8 +82,23 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
             .withSockJS();
     }
 
+    // Sessions that fall behind these limits are closed by Spring rather than buffering without bound
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+            .setSendTimeLimit((int) properties.getSendTimeLimit().toMillis())
+            .setSendBufferSizeLimit((int) properties.getSendBufferSizeLimit().toBytes())
+            .setMessageSizeLimit((int) properties.getMessageSizeLimit().toBytes());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        configureExecutor(registration, properties.getOutboundChannel());
+    }
+
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
+        configureExecutor(registration, properties.getInboundChannel());
         registration.interceptors(new ChannelInterceptor() {
             @Override
             public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -74,4 +113,32 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
             }
         });
     }
-}
\ No newline at end of file
+
+    @Bean
+    public WebsocketBrokerEndpoint websocketBrokerEndpoint(
+        @Qualifier("subProtocolWebSocketHandler") WebSocketHandler webSocketHandler,
+        @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inboundExecutor,
+        @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outboundExecutor,
+        @Qualifier("brokerChannelExecutor") ThreadPoolTaskExecutor brokerExecutor
+    ) {
+        var channelExecutors = new LinkedHashMap<String, ThreadPoolTaskExecutor>();
+        channelExecutors.put("clientInbound", inboundExecutor);
+        channelExecutors.put("clientOutbound", outboundExecutor);
+        channelExecutors.put("broker", brokerExecutor);
+        return new WebsocketBrokerEndpoint((SubProtocolWebSocketHandler) WebSocketHandlerDecorator.unwrap(webSocketHandler), channelExecutors);
+    }
+
+    @Override
+    public void destroy() {
+        heartbeatScheduler.shutdown();
+    }
+
+    private static void configureExecutor(ChannelRegistration registration, WebsocketProperties.ChannelExecutor executor) {
+        var taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setRejectedExecutionHandler(new CountingCallerRunsPolicy());
+        registration.taskExecutor(taskExecutor)
+            .corePoolSize(executor.getCorePoolSize())
+            .maxPoolSize(executor.getMaxPoolSize())
+            .queueCapacity(executor.getQueueCapacity());
+    }
+}
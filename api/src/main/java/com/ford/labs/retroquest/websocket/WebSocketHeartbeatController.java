@@ -17,11 +17,17 @@
 
 package com.ford.labs.retroquest.websocket;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * Application-level ping/pong for clients that predate native STOMP heart-beating. Every pong is broadcast to the
+ * whole team, so this is only enabled as a compatibility mode.
+ */
 @RestController
+@ConditionalOnProperty(prefix = "retroquest.websocket.heartbeat", name = "legacy-ping-pong", havingValue = "true")
 public class WebSocketHeartbeatController {
 
     @MessageMapping("/heartbeat/ping/{teamId}")
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.websocket;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Endpoint(id = "websocketbroker")
+public class WebsocketBrokerEndpoint {
+
+    private final SubProtocolWebSocketHandler webSocketHandler;
+    private final Map<String, ThreadPoolTaskExecutor> channelExecutors;
+
+    public WebsocketBrokerEndpoint(SubProtocolWebSocketHandler webSocketHandler, Map<String, ThreadPoolTaskExecutor> channelExecutors) {
+        this.webSocketHandler = webSocketHandler;
+        this.channelExecutors = channelExecutors;
+    }
+
+    @ReadOperation
+    public BrokerReport report() {
+        var channels = new LinkedHashMap<String, ChannelReport>();
+        channelExecutors.forEach((name, executor) -> channels.put(name, ChannelReport.of(executor)));
+        return new BrokerReport(SessionReport.of(webSocketHandler.getStats()), channels);
+    }
+
+    public record BrokerReport(SessionReport sessions, Map<String, ChannelReport> channels) { }
+
+    public record SessionReport(
+        int total,
+        int webSocket,
+        int httpStreaming,
+        int httpPolling,
+        int slowConsumersDropped,
+        int noMessagesReceived,
+        int transportErrors
+    ) {
+        static SessionReport of(SubProtocolWebSocketHandler.Stats stats) {
+            return new SessionReport(
+                stats.getTotalSessions(),
+                stats.getWebSocketSessions(),
+                stats.getHttpStreamingSessions(),
+                stats.getHttpPollingSessions(),
+                stats.getLimitExceededSessions(),
+                stats.getNoMessagesReceivedSessions(),
+                stats.getTransportErrorSessions()
+            );
+        }
+    }
+
+    public record ChannelReport(
+        int activeThreads,
+        int poolSize,
+        int maxPoolSize,
+        int queueDepth,
+        int queueCapacity,
+        long completedTasks,
+        long rejectedTasks
+    ) {
+        static ChannelReport of(ThreadPoolTaskExecutor executor) {
+            var pool = executor.getThreadPoolExecutor();
+            var queueDepth = pool.getQueue().size();
+            var rejectedTasks = pool.getRejectedExecutionHandler() instanceof CountingCallerRunsPolicy policy ? policy.rejectedTasks() : 0;
+            return new ChannelReport(
+                pool.getActiveCount(),
+                pool.getPoolSize(),
+                pool.getMaximumPoolSize(),
+                queueDepth,
+                queueDepth + pool.getQueue().remainingCapacity(),
+                pool.getCompletedTaskCount(),
+                rejectedTasks
+            );
+        }
+    }
+}
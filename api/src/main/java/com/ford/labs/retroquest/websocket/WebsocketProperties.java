@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.websocket;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "retroquest.websocket")
+public class WebsocketProperties {
+    private Duration sendTimeLimit = Duration.ofSeconds(5);
+    private DataSize sendBufferSizeLimit = DataSize.ofKilobytes(256);
+    private DataSize messageSizeLimit = DataSize.ofKilobytes(64);
+    private ChannelExecutor inboundChannel = new ChannelExecutor();
+    private ChannelExecutor outboundChannel = new ChannelExecutor();
+    private Heartbeat heartbeat = new Heartbeat();
+
+    @Data
+    public static class ChannelExecutor {
+        private int corePoolSize = 4;
+        private int maxPoolSize = 16;
+        private int queueCapacity = 1_000;
+    }
+
+    @Data
+    public static class Heartbeat {
+        private Duration outgoing = Duration.ofSeconds(10);
+        private Duration incoming = Duration.ofSeconds(10);
+        private boolean legacyPingPong = false;
+    }
+}
@@ -19,27 +19,73 @@ package com.ford.labs.retroquest.websocket;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.labs.retroquest.flightrecorder.WebsocketPublishEvent;
+import com.ford.labs.retroquest.history.TeamEventLog;
+import com.ford.labs.retroquest.metrics.TeamActivityTracker;
 import com.ford.labs.retroquest.websocket.events.WebsocketEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+
 
 @Service
 public class WebsocketService {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final ObjectMapper mapper;
+    private final TeamEventLog teamEventLog;
+    private final MeterRegistry meterRegistry;
+    private final TeamActivityTracker teamActivityTracker;
 
-    public WebsocketService(SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper) {
+    public WebsocketService(
+        SimpMessagingTemplate messagingTemplate,
+        ObjectMapper objectMapper,
+        TeamEventLog teamEventLog,
+        MeterRegistry meterRegistry,
+        TeamActivityTracker teamActivityTracker
+    ) {
         this.messagingTemplate = messagingTemplate;
         this.mapper = objectMapper;
+        this.teamEventLog = teamEventLog;
+        this.meterRegistry = meterRegistry;
+        this.teamActivityTracker = teamActivityTracker;
     }
 
     public void publishEvent(WebsocketEvent event) {
+        var flightRecorderEvent = new WebsocketPublishEvent();
+        flightRecorderEvent.begin();
+        teamEventLog.record(event);
+        var tags = operationTags(event);
+        String message;
+        var serialization = Timer.start(meterRegistry);
         try {
-            messagingTemplate.convertAndSend(event.getRoute(), mapper.writeValueAsString(event));
+            message = mapper.writeValueAsString(event);
         } catch (JsonProcessingException e) {
             e.printStackTrace();
+            return;
+        } finally {
+            serialization.stop(meterRegistry.timer("retroquest.websocket.serialize", tags));
         }
+        meterRegistry.timer("retroquest.websocket.send", tags)
+            .record(() -> messagingTemplate.convertAndSend(event.getRoute(), message));
+        // STOMP sends the payload as UTF-8, so count encoded bytes rather than chars
+        var messageBytes = message.getBytes(StandardCharsets.UTF_8).length;
+        teamActivityTracker.recordPublish(event.getTeamId(), messageBytes);
+        flightRecorderEvent.finish(event.getTeamId(), eventName(event), event.getType().name(), messageBytes);
+    }
+
+    // Tagged by event kind rather than route so team ids never become tag values
+    static Tags operationTags(WebsocketEvent event) {
+        return Tags.of("event", eventName(event), "type", event.getType().name());
+    }
+
+    private static String eventName(WebsocketEvent event) {
+        return event.getClass().getSimpleName()
+            .replaceFirst("^Websocket", "")
+            .replaceFirst("Event$", "");
     }
 }
@@ -18,10 +18,12 @@
 package com.ford.labs.retroquest.websocket.events;
 
 import com.ford.labs.retroquest.actionitem.ActionItem;
+import lombok.Getter;
 
 public class WebsocketActionItemEvent extends WebsocketEvent{
 
     private static final String ROUTE_STRING = "/topic/%s/action-items";
+    @Getter
     private final String teamId;
 
     public WebsocketActionItemEvent(String teamId, WebsocketEventType type, ActionItem payload) {
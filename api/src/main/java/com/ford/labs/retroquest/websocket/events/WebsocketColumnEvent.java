@@ -18,10 +18,12 @@
 package com.ford.labs.retroquest.websocket.events;
 
 import com.ford.labs.retroquest.column.Column;
+import lombok.Getter;
 
 public class WebsocketColumnEvent extends WebsocketEvent{
 
     private static final String ROUTE_STRING = "/topic/%s/columns";
+    @Getter
     private final String teamId;
 
     public WebsocketColumnEvent(String teamId, WebsocketEventType type, Column payload) {
@@ -17,14 +17,18 @@
 
 package com.ford.labs.retroquest.websocket.events;
 
+import com.ford.labs.retroquest.board.EndRetroSummary;
+import lombok.Getter;
+
 import static com.ford.labs.retroquest.websocket.events.WebsocketEventType.UPDATE;
 
 public class WebsocketEndRetroEvent extends WebsocketEvent {
     private static final String ROUTE_STRING = "/topic/%s/end-retro";
+    @Getter
     private final String teamId;
 
-    public WebsocketEndRetroEvent(String teamId) {
-        super(UPDATE, null);
+    public WebsocketEndRetroEvent(String teamId, EndRetroSummary summary) {
+        super(UPDATE, summary);
         this.teamId = teamId;
     }
 
@@ -37,5 +37,7 @@ public abstract class WebsocketEvent {
     @JsonProperty
     private final Object payload;
 
+    public abstract String getTeamId();
+
     public abstract String getRoute();
 }
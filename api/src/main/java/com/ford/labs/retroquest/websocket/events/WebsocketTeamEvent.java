@@ -18,11 +18,13 @@
 package com.ford.labs.retroquest.websocket.events;
 
 import com.ford.labs.retroquest.team.Team;
+import lombok.Getter;
 
 
 public class WebsocketTeamEvent extends WebsocketEvent {
 
     private static final String ROUTE_STRING = "/topic/%s/team";
+    @Getter
     private final String teamId;
 
     public WebsocketTeamEvent(String teamId, WebsocketEventType type, Team payload) {
@@ -18,11 +18,13 @@
 package com.ford.labs.retroquest.websocket.events;
 
 import com.ford.labs.retroquest.thought.Thought;
+import lombok.Getter;
 
 
 public class WebsocketThoughtEvent extends WebsocketEvent {
 
     private static final String ROUTE_STRING = "/topic/%s/thoughts";
+    @Getter
     private final String teamId;
 
     public WebsocketThoughtEvent(String teamId, WebsocketEventType type, Thought payload) {
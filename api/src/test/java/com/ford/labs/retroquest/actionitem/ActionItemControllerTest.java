@@ -2,9 +2,13 @@ package com.ford.labs.retroquest.actionitem;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ford.labs.retroquest.exception.ActionItemDoesNotExistException;
+import com.ford.labs.retroquest.querybudget.SqlStatementBudget;
 import com.ford.labs.retroquest.teamusermapping.TeamUserAuthorizationService;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -19,9 +23,9 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtAut
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.sql.Date;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.Mockito.*;
@@ -32,6 +36,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@SqlStatementBudget(0)
 class ActionItemControllerTest {
 
     @Autowired
@@ -99,10 +104,12 @@ class ActionItemControllerTest {
         var expectedActionItem = new ActionItem(1L, "task", false, teamId.toString(), "assignee", new Date(100000), false);
         var authentication = createAuthentication();
         when(teamUserAuthorizationService.isUserMemberOfTeam(authentication, teamId)).thenReturn(true);
-        when(actionItemService.getActionItems(teamId.toString(), Optional.empty())).thenReturn(List.of(expectedActionItem));
+        when(actionItemService.getActionItems(teamId.toString(), ActionItemFilter.none(), null, null))
+                .thenReturn(new ActionItemPage(List.of(expectedActionItem), null));
         mockMvc.perform(get("/api/team/%s/action-item".formatted(teamId))
                         .with(jwt()))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Next-Cursor"))
                 .andExpect(jsonPath("$.[0].id").value(1L))
                 .andExpect(jsonPath("$.[0].task").value("task"))
                 .andExpect(jsonPath("$.[0].completed").value(false))
@@ -114,29 +121,54 @@ class ActionItemControllerTest {
     @Test
     void getActionItems_WithArchivedTrue_RetrievesArchivedActionItems() throws Exception {
         var teamId = UUID.randomUUID();
-        var expectedActionItem = new ActionItem(1L, "task", false, teamId.toString(), "assignee", new Date(100000), false);
         var authentication = createAuthentication();
         when(teamUserAuthorizationService.isUserMemberOfTeam(authentication, teamId)).thenReturn(true);
-        when(actionItemService.getActionItems(teamId.toString(), Optional.empty())).thenReturn(List.of(expectedActionItem));
+        when(actionItemService.getActionItems(teamId.toString(), ActionItemFilter.archived(true), null, null))
+                .thenReturn(new ActionItemPage(List.of(), null));
         mockMvc.perform(get("/api/team/%s/action-item".formatted(teamId))
                         .with(jwt())
                         .param("archived", "true"))
                 .andExpect(status().isOk());
-        verify(actionItemService).getActionItems(teamId.toString(), Optional.of(true));
+        verify(actionItemService).getActionItems(teamId.toString(), ActionItemFilter.archived(true), null, null);
     }
 
     @Test
     void getActionItems_WithArchivedFalse_RetrievesUnarchivedActionItems() throws Exception {
         var teamId = UUID.randomUUID();
-        var expectedActionItem = new ActionItem(1L, "task", false, teamId.toString(), "assignee", new Date(100000), false);
         var authentication = createAuthentication();
         when(teamUserAuthorizationService.isUserMemberOfTeam(authentication, teamId)).thenReturn(true);
-        when(actionItemService.getActionItems(teamId.toString(), Optional.empty())).thenReturn(List.of(expectedActionItem));
+        when(actionItemService.getActionItems(teamId.toString(), ActionItemFilter.archived(false), null, null))
+                .thenReturn(new ActionItemPage(List.of(), null));
         mockMvc.perform(get("/api/team/%s/action-item".formatted(teamId))
                         .with(jwt())
                         .param("archived", "false"))
                 .andExpect(status().isOk());
-        verify(actionItemService).getActionItems(teamId.toString(), Optional.of(false));
+        verify(actionItemService).getActionItems(teamId.toString(), ActionItemFilter.archived(false), null, null);
+    }
+
+    @Test
+    void getActionItems_WithFiltersAndCursor_ReturnsPageWithNextCursorHeader() throws Exception {
+        var teamId = UUID.randomUUID();
+        var expectedActionItem = new ActionItem(12L, "task", true, teamId.toString(), "Bob", new Date(100000), true);
+        var expectedFilter = new ActionItemFilter(true, true, "Bob", LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31));
+        var authentication = createAuthentication();
+        when(teamUserAuthorizationService.isUserMemberOfTeam(authentication, teamId)).thenReturn(true);
+        when(actionItemService.getActionItems(teamId.toString(), expectedFilter, 10L, 1))
+                .thenReturn(new ActionItemPage(List.of(expectedActionItem), 12L));
+        mockMvc.perform(get("/api/team/%s/action-item".formatted(teamId))
+                        .with(jwt())
+                        .param("archived", "true")
+                        .param("completed", "true")
+                        .param("assignee", "Bob")
+                        .param("createdOnOrAfter", "2022-01-01")
+                        .param("createdOnOrBefore", "2022-12-31")
+                        .param("cursor", "10")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Access-Control-Expose-Headers", "Next-Cursor"))
+                .andExpect(header().string("Next-Cursor", "12"))
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$.[0].id").value(12L));
     }
 
     @Test
@@ -157,6 +189,24 @@ class ActionItemControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void getOpenActionItemsAssignedToUser_ReturnsActionItemsAcrossTeams() throws Exception {
+        var expectedActionItem = new ActionItem(1L, "task", false, UUID.randomUUID().toString(), "user", new Date(100000), false);
+        when(actionItemService.getOpenActionItemsAssignedTo("user")).thenReturn(List.of(expectedActionItem));
+        mockMvc.perform(get("/api/action-item/assigned-to-me")
+                        .with(jwt().jwt(jwt -> jwt.subject("user"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].id").value(1L))
+                .andExpect(jsonPath("$.[0].assignee").value("user"));
+    }
+
+    @Test
+    void getOpenActionItemsAssignedToUser_WhenUserUnauthorized_Throws401() throws Exception {
+        mockMvc.perform(get("/api/action-item/assigned-to-me")
+                        .with(anonymous()))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     void completeActionItem_UpdatesActionItem() throws Exception {
         var teamId = UUID.randomUUID();
@@ -283,6 +333,74 @@ class ActionItemControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void applyBulkOperation_AppliesOperationAndReturnsAffectedActionItems() throws Exception {
+        var teamId = UUID.randomUUID();
+        var request = new BulkActionItemRequest(List.of(1L, 2L), BulkActionItemOperation.ASSIGN, "Bob");
+        var updatedActionItem = new ActionItem(1L, "task", false, teamId.toString(), "Bob", new Date(100000), false);
+        var authentication = createAuthentication();
+        when(teamUserAuthorizationService.isUserMemberOfTeam(authentication, teamId)).thenReturn(true);
+        when(actionItemService.applyBulkOperation(teamId.toString(), request)).thenReturn(ActionItemBatch.updated(List.of(updatedActionItem)));
+        mockMvc.perform(post("/api/team/%s/action-item/bulk".formatted(teamId.toString()))
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"actionItemIds\": [1, 2], \"operation\": \"assign\", \"assignee\": \"Bob\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.actionItemIds[0]").value(1L))
+                .andExpect(jsonPath("$.actionItems[0].assignee").value("Bob"));
+        verify(actionItemService).applyBulkOperation(teamId.toString(), request);
+    }
+
+    @Test
+    void applyBulkOperation_WithoutActionItemIds_Throws400() throws Exception {
+        var teamId = UUID.randomUUID();
+        var authentication = createAuthentication();
+        when(teamUserAuthorizationService.isUserMemberOfTeam(authentication, teamId)).thenReturn(true);
+        mockMvc.perform(post("/api/team/%s/action-item/bulk".formatted(teamId.toString()))
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkActionItemRequest(List.of(), BulkActionItemOperation.COMPLETE, null))))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(actionItemService);
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "   "})
+    void applyBulkOperation_AssignWithoutAssignee_Throws400(String assignee) throws Exception {
+        var teamId = UUID.randomUUID();
+        var authentication = createAuthentication();
+        when(teamUserAuthorizationService.isUserMemberOfTeam(authentication, teamId)).thenReturn(true);
+        mockMvc.perform(post("/api/team/%s/action-item/bulk".formatted(teamId.toString()))
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkActionItemRequest(List.of(1L), BulkActionItemOperation.ASSIGN, assignee))))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(actionItemService);
+    }
+
+    @Test
+    void applyBulkOperation_WhenUserUnauthorized_Throws401() throws Exception {
+        var teamId = UUID.randomUUID();
+        mockMvc.perform(post("/api/team/%s/action-item/bulk".formatted(teamId.toString()))
+                        .with(anonymous())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkActionItemRequest(List.of(1L), BulkActionItemOperation.COMPLETE, null))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void applyBulkOperation_WhenUserNotOnTeam_Throws403() throws Exception {
+        var teamId = UUID.randomUUID();
+        var authentication = createAuthentication();
+        when(teamUserAuthorizationService.isUserMemberOfTeam(authentication, teamId)).thenReturn(false);
+        mockMvc.perform(post("/api/team/%s/action-item/bulk".formatted(teamId.toString()))
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkActionItemRequest(List.of(1L), BulkActionItemOperation.COMPLETE, null))))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void updateTask_UpdatesActionItem() throws Exception {
         var teamId = UUID.randomUUID();
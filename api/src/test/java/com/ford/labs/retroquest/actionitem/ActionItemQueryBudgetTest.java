@@ -0,0 +1,89 @@
+package com.ford.labs.retroquest.actionitem;
+
+import com.ford.labs.retroquest.column.ColumnService;
+import com.ford.labs.retroquest.querybudget.BudgetTestTeam;
+import com.ford.labs.retroquest.querybudget.SqlStatementBudget;
+import com.ford.labs.retroquest.team.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@SqlStatementBudget(4)
+class ActionItemQueryBudgetTest {
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private ColumnService columnService;
+
+    @Autowired
+    private ActionItemService actionItemService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private BudgetTestTeam team;
+    private ActionItem actionItem;
+
+    @BeforeEach
+    void setUp() {
+        team = BudgetTestTeam.create(teamService, columnService);
+        for (var i = 0; i < 5; i++) {
+            actionItem = actionItemService.createActionItem(team.teamId(), new CreateActionItemRequest("task " + i, false, "assignee", new Date(100000), false));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        team.delete(dataSource);
+    }
+
+    @Test
+    @SqlStatementBudget(2)
+    void getActionItems() throws Exception {
+        mockMvc.perform(get("/api/team/%s/action-item".formatted(team.id())).with(jwt()))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void updateTask() throws Exception {
+        mockMvc.perform(put("/api/team/%s/action-item/%d/task".formatted(team.id(), actionItem.getId()))
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"task\":\"new task\"}"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void updateCompleted() throws Exception {
+        mockMvc.perform(put("/api/team/%s/action-item/%d/completed".formatted(team.id(), actionItem.getId()))
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"completed\":true}"))
+            .andExpect(status().isOk());
+    }
+}
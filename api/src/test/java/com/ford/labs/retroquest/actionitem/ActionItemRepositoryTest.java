@@ -17,10 +17,18 @@
 
 package com.ford.labs.retroquest.actionitem;
 
+import com.ford.labs.retroquest.team.Team;
+import com.ford.labs.retroquest.team.TeamRepository;
+import com.ford.labs.retroquest.teamusermapping.TeamUserMapping;
+import com.ford.labs.retroquest.teamusermapping.TeamUserMappingRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.sql.Date;
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,6 +38,12 @@ class ActionItemRepositoryTest {
     @Autowired
     private ActionItemRepository actionItemRepository;
 
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamUserMappingRepository teamUserMappingRepository;
+
     @Test
     public void findAllByTeamIdAndArchived_WhenArchivedIsFalse() {
         var uncompletedActionItem = ActionItem.builder().teamId("The team").completed(false).archived(false).build();
@@ -77,4 +91,91 @@ class ActionItemRepositoryTest {
         assertThat(results.get(0).isArchived()).isFalse();
         assertThat(results.get(0).isCompleted()).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void findPageByTeamId_AppliesFilters() {
+        var matching = ActionItem.builder().teamId("The team").assignee("Bob").completed(true).archived(true).dateCreated(Date.valueOf("2022-06-01")).build();
+        var wrongAssignee = ActionItem.builder().teamId("The team").assignee("Alice").completed(true).archived(true).dateCreated(Date.valueOf("2022-06-01")).build();
+        var tooOld = ActionItem.builder().teamId("The team").assignee("Bob").completed(true).archived(true).dateCreated(Date.valueOf("2021-06-01")).build();
+        var notCompleted = ActionItem.builder().teamId("The team").assignee("Bob").completed(false).archived(true).dateCreated(Date.valueOf("2022-06-01")).build();
+        var otherTeam = ActionItem.builder().teamId("Other team").assignee("Bob").completed(true).archived(true).dateCreated(Date.valueOf("2022-06-01")).build();
+        actionItemRepository.saveAll(List.of(matching, wrongAssignee, tooOld, notCompleted, otherTeam));
+
+        var filter = new ActionItemFilter(true, true, "Bob", LocalDate.parse("2022-01-01"), LocalDate.parse("2022-12-31"));
+
+        var results = actionItemRepository.findPageByTeamId("The team", filter, null, Pageable.unpaged());
+
+        assertThat(results).containsExactly(matching);
+    }
+
+    @Test
+    public void findPageByTeamId_ReturnsItemsAfterCursorInIdOrder() {
+        var first = ActionItem.builder().teamId("The team").build();
+        var second = ActionItem.builder().teamId("The team").build();
+        var third = ActionItem.builder().teamId("The team").build();
+        var fourth = ActionItem.builder().teamId("The team").build();
+        actionItemRepository.saveAll(List.of(first, second, third, fourth));
+
+        var results = actionItemRepository.findPageByTeamId("The team", ActionItemFilter.none(), first.getId(), PageRequest.of(0, 2));
+
+        assertThat(results).containsExactly(second, third);
+    }
+
+    @Test
+    public void findPageByTeamId_WithoutFilters_ReturnsEveryTeamItem() {
+        var archived = ActionItem.builder().teamId("The team").archived(true).build();
+        var active = ActionItem.builder().teamId("The team").archived(false).build();
+        var otherTeam = ActionItem.builder().teamId("Other team").build();
+        actionItemRepository.saveAll(List.of(archived, active, otherTeam));
+
+        var results = actionItemRepository.findPageByTeamId("The team", ActionItemFilter.none(), null, Pageable.unpaged());
+
+        assertThat(results).containsExactly(archived, active);
+    }
+
+    @Test
+    public void bulkCompleteByTeamIdAndIdIn_OnlyUpdatesActionItemsOnTheTeam() {
+        var teamActionItem = ActionItem.builder().teamId("The team").completed(false).build();
+        var otherTeamActionItem = ActionItem.builder().teamId("Other team").completed(false).build();
+        actionItemRepository.saveAll(List.of(teamActionItem, otherTeamActionItem));
+
+        var updated = actionItemRepository.bulkCompleteByTeamIdAndIdIn("The team", List.of(teamActionItem.getId(), otherTeamActionItem.getId()));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(actionItemRepository.findById(teamActionItem.getId()).orElseThrow().isCompleted()).isTrue();
+        assertThat(actionItemRepository.findById(otherTeamActionItem.getId()).orElseThrow().isCompleted()).isFalse();
+    }
+
+    @Test
+    public void bulkDeleteByTeamIdAndIdIn_OnlyDeletesActionItemsOnTheTeam() {
+        var teamActionItem = ActionItem.builder().teamId("The team").build();
+        var otherTeamActionItem = ActionItem.builder().teamId("Other team").build();
+        actionItemRepository.saveAll(List.of(teamActionItem, otherTeamActionItem));
+
+        var deleted = actionItemRepository.bulkDeleteByTeamIdAndIdIn("The team", List.of(teamActionItem.getId(), otherTeamActionItem.getId()));
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(actionItemRepository.findAll()).containsExactly(otherTeamActionItem);
+    }
+
+    @Test
+    public void findOpenActionItemsAssignedToTeamMember_ReturnsOpenItemsAcrossTheUsersTeams() {
+        var firstTeam = teamRepository.saveAndFlush(new Team("First team"));
+        var secondTeam = teamRepository.saveAndFlush(new Team("Second team"));
+        var notMyTeam = teamRepository.saveAndFlush(new Team("Not my team"));
+        teamUserMappingRepository.saveAndFlush(new TeamUserMapping(null, firstTeam.getId(), "user", null));
+        teamUserMappingRepository.saveAndFlush(new TeamUserMapping(null, secondTeam.getId(), "user", null));
+
+        var firstTeamItem = ActionItem.builder().teamId(firstTeam.getId().toString()).assignee("user").build();
+        var secondTeamItem = ActionItem.builder().teamId(secondTeam.getId().toString()).assignee("user").build();
+        var completedItem = ActionItem.builder().teamId(firstTeam.getId().toString()).assignee("user").completed(true).build();
+        var archivedItem = ActionItem.builder().teamId(firstTeam.getId().toString()).assignee("user").archived(true).build();
+        var someoneElsesItem = ActionItem.builder().teamId(firstTeam.getId().toString()).assignee("other user").build();
+        var teamILeftItem = ActionItem.builder().teamId(notMyTeam.getId().toString()).assignee("user").build();
+        actionItemRepository.saveAllAndFlush(List.of(firstTeamItem, secondTeamItem, completedItem, archivedItem, someoneElsesItem, teamILeftItem));
+
+        var results = actionItemRepository.findOpenActionItemsAssignedToTeamMember("user");
+
+        assertThat(results).containsExactly(firstTeamItem, secondTeamItem);
+    }
+}
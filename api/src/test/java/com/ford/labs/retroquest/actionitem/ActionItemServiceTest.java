@@ -18,20 +18,42 @@
 package com.ford.labs.retroquest.actionitem;
 
 import com.ford.labs.retroquest.exception.ActionItemDoesNotExistException;
+import com.ford.labs.retroquest.locking.TeamLockManager;
+import com.ford.labs.retroquest.metrics.RetroActivityMetrics;
+import com.ford.labs.retroquest.teamusermapping.TeamUserMappingRepository;
 import com.ford.labs.retroquest.websocket.WebsocketService;
+import com.ford.labs.retroquest.websocket.events.WebsocketActionItemBatchEvent;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static com.ford.labs.retroquest.websocket.events.WebsocketEventType.DELETE;
+import static com.ford.labs.retroquest.websocket.events.WebsocketEventType.UPDATE;
 import static org.mockito.Mockito.*;
 
 class ActionItemServiceTest {
     private final ActionItemRepository mockActionItemRepository = mock(ActionItemRepository.class);
     private final WebsocketService mockWebsocketService = mock(WebsocketService.class);
-    private final ActionItemService actionItemService = new ActionItemService(mockActionItemRepository, mockWebsocketService);
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager(ActionItemService.ASSIGNED_ACTION_ITEMS_CACHE);
+    private final RetroActivityMetrics retroActivityMetrics = mock(RetroActivityMetrics.class);
+    private final TeamUserMappingRepository mockTeamUserMappingRepository = mock(TeamUserMappingRepository.class);
+    private final ActionItemService actionItemService = new ActionItemService(
+        mockActionItemRepository,
+        mockWebsocketService,
+        cacheManager,
+        new TeamLockManager(Duration.ofSeconds(1)),
+        retroActivityMetrics,
+        mockTeamUserMappingRepository,
+        Optional.empty()
+    );
 
     @Test
     public void archiveCompletedActionItems_MarksCompletedButUnarchivedActionItemsAsArchived() {
@@ -39,8 +61,9 @@ class ActionItemServiceTest {
         var otherCompletedActionItem = ActionItem.builder().id(2L).teamId("The team").completed(true).archived(false).build();
         when(mockActionItemRepository.findAllByTeamIdAndArchivedIsFalseAndCompletedIsTrue("The team")).thenReturn(List.of(completedActionItem, otherCompletedActionItem));
 
-        actionItemService.archiveCompletedActionItems("The team");
+        var actual = actionItemService.archiveCompletedActionItems("The team");
 
+        assertThat(actual).containsExactly(1L, 2L);
         var expectedCompletedActionItem = ActionItem.builder().id(1L).teamId("The team").completed(true).archived(true).build();
         var otherExpectedCompletedActionItem = ActionItem.builder().id(2L).teamId("The team").completed(true).archived(true).build();
         verify(mockActionItemRepository).saveAll(List.of(expectedCompletedActionItem, otherExpectedCompletedActionItem));
@@ -60,4 +83,167 @@ class ActionItemServiceTest {
         assertThatThrownBy(() -> actionItemService.fetchActionItem("teamId", 1L)).isInstanceOf(ActionItemDoesNotExistException.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    void getActionItems_WithoutLimit_ReturnsEveryMatchingActionItem() {
+        var filter = ActionItemFilter.archived(true);
+        var actionItems = List.of(ActionItem.builder().id(1L).build(), ActionItem.builder().id(2L).build());
+        when(mockActionItemRepository.findPageByTeamId("teamId", filter, null, Pageable.unpaged()))
+            .thenReturn(actionItems);
+
+        var actual = actionItemService.getActionItems("teamId", filter, null, null);
+
+        assertThat(actual).isEqualTo(new ActionItemPage(actionItems, null));
+    }
+
+    @Test
+    void getActionItems_WhenMoreItemsThanLimit_ReturnsPageWithCursorOfLastItem() {
+        var filter = ActionItemFilter.none();
+        var actionItems = List.of(
+            ActionItem.builder().id(5L).build(),
+            ActionItem.builder().id(6L).build(),
+            ActionItem.builder().id(7L).build()
+        );
+        when(mockActionItemRepository.findPageByTeamId("teamId", filter, 4L, PageRequest.of(0, 3)))
+            .thenReturn(actionItems);
+
+        var actual = actionItemService.getActionItems("teamId", filter, 4L, 2);
+
+        assertThat(actual).isEqualTo(new ActionItemPage(actionItems.subList(0, 2), 6L));
+    }
+
+    @Test
+    void getActionItems_WhenLastPage_ReturnsPageWithoutCursor() {
+        var filter = ActionItemFilter.none();
+        var actionItems = List.of(ActionItem.builder().id(5L).build());
+        when(mockActionItemRepository.findPageByTeamId("teamId", filter, null, PageRequest.of(0, 3)))
+            .thenReturn(actionItems);
+
+        var actual = actionItemService.getActionItems("teamId", filter, null, 2);
+
+        assertThat(actual).isEqualTo(new ActionItemPage(actionItems, null));
+    }
+
+    @Test
+    void getActionItems_ClampsLimitToMaxPageSize() {
+        var filter = ActionItemFilter.none();
+        var pageable = PageRequest.of(0, ActionItemService.MAX_PAGE_SIZE + 1);
+        when(mockActionItemRepository.findPageByTeamId("teamId", filter, null, pageable))
+            .thenReturn(List.of());
+
+        actionItemService.getActionItems("teamId", filter, null, 10_000);
+
+        verify(mockActionItemRepository).findPageByTeamId("teamId", filter, null, pageable);
+    }
+
+    @Test
+    void deleteMultipleActionItems_DeletesExistingIdsInOneStatementAndPublishesBatchEvent() {
+        when(mockActionItemRepository.findIdsByTeamIdAndIdIn("teamId", List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 3L));
+
+        var actual = actionItemService.deleteMultipleActionItems("teamId", List.of(1L, 2L, 3L));
+
+        verify(mockActionItemRepository).bulkDeleteByTeamIdAndIdIn("teamId", List.of(1L, 3L));
+        verify(mockWebsocketService).publishEvent(new WebsocketActionItemBatchEvent("teamId", DELETE, ActionItemBatch.deleted(List.of(1L, 3L))));
+        assertThat(actual.actionItemIds()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void deleteMultipleActionItems_WhenNoneBelongToTeam_DoesNotDeleteOrPublish() {
+        when(mockActionItemRepository.findIdsByTeamIdAndIdIn("teamId", List.of(1L))).thenReturn(List.of());
+
+        actionItemService.deleteMultipleActionItems("teamId", List.of(1L));
+
+        verify(mockActionItemRepository, never()).bulkDeleteByTeamIdAndIdIn(any(), any());
+        verifyNoInteractions(mockWebsocketService);
+    }
+
+    @Test
+    void applyBulkOperation_Complete_UpdatesInOneStatementAndPublishesBatchEvent() {
+        var completed = List.of(ActionItem.builder().id(1L).completed(true).build(), ActionItem.builder().id(2L).completed(true).build());
+        when(mockActionItemRepository.findAllByTeamIdAndIdIn("teamId", List.of(1L, 2L))).thenReturn(completed);
+        when(mockActionItemRepository.bulkCompleteByTeamIdAndIdIn("teamId", List.of(1L, 2L))).thenReturn(2);
+
+        var actual = actionItemService.applyBulkOperation("teamId", new BulkActionItemRequest(List.of(1L, 2L), BulkActionItemOperation.COMPLETE, null));
+
+        verify(mockActionItemRepository).bulkCompleteByTeamIdAndIdIn("teamId", List.of(1L, 2L));
+        verify(retroActivityMetrics).actionItemsCompleted(2);
+        verify(mockWebsocketService).publishEvent(new WebsocketActionItemBatchEvent("teamId", UPDATE, ActionItemBatch.updated(completed)));
+        assertThat(actual.actionItemIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void createActionItem_RecordsCreation() {
+        when(mockActionItemRepository.save(any(ActionItem.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        actionItemService.createActionItem("teamId", new CreateActionItemRequest("task", false, null, null, false));
+
+        verify(retroActivityMetrics).actionItemCreated();
+    }
+
+    @Test
+    void updateCompletedStatus_OnlyRecordsNewlyCompletedActionItems() {
+        var open = ActionItem.builder().id(1L).teamId("teamId").completed(false).build();
+        var done = ActionItem.builder().id(2L).teamId("teamId").completed(true).build();
+        when(mockActionItemRepository.findByTeamIdAndId("teamId", 1L)).thenReturn(Optional.of(open));
+        when(mockActionItemRepository.findByTeamIdAndId("teamId", 2L)).thenReturn(Optional.of(done));
+        when(mockActionItemRepository.save(any(ActionItem.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        actionItemService.updateCompletedStatus("teamId", 1L, new UpdateActionItemCompletedRequest(true));
+        actionItemService.updateCompletedStatus("teamId", 2L, new UpdateActionItemCompletedRequest(true));
+
+        verify(retroActivityMetrics, times(1)).actionItemsCompleted(1);
+    }
+
+    @Test
+    void applyBulkOperation_Archive_UpdatesInOneStatement() {
+        when(mockActionItemRepository.findAllByTeamIdAndIdIn("teamId", List.of(1L))).thenReturn(List.of(ActionItem.builder().id(1L).build()));
+
+        actionItemService.applyBulkOperation("teamId", new BulkActionItemRequest(List.of(1L), BulkActionItemOperation.ARCHIVE, null));
+
+        verify(mockActionItemRepository).bulkArchiveByTeamIdAndIdIn("teamId", List.of(1L));
+    }
+
+    @Test
+    void applyBulkOperation_Assign_UpdatesInOneStatement() {
+        when(mockActionItemRepository.findAllByTeamIdAndIdIn("teamId", List.of(1L))).thenReturn(List.of(ActionItem.builder().id(1L).build()));
+
+        actionItemService.applyBulkOperation("teamId", new BulkActionItemRequest(List.of(1L), BulkActionItemOperation.ASSIGN, "Bob"));
+
+        verify(mockActionItemRepository).bulkAssignByTeamIdAndIdIn("teamId", List.of(1L), "Bob");
+    }
+
+    @Test
+    void updateAssignee_EvictsCachedActionItemsForPreviousAndNewAssignee() {
+        var cache = cacheManager.getCache(ActionItemService.ASSIGNED_ACTION_ITEMS_CACHE);
+        cache.put("Alice", List.of());
+        cache.put("Bob", List.of());
+        cache.put("Carol", List.of());
+        var actionItem = ActionItem.builder().id(1L).teamId("teamId").assignee("Alice").build();
+        when(mockActionItemRepository.findByTeamIdAndId("teamId", 1L)).thenReturn(Optional.of(actionItem));
+        when(mockActionItemRepository.save(actionItem)).thenReturn(actionItem);
+
+        actionItemService.updateAssignee("teamId", 1L, new UpdateActionItemAssigneeRequest("Bob"));
+
+        assertThat(cache.get("Alice")).isNull();
+        assertThat(cache.get("Bob")).isNull();
+        assertThat(cache.get("Carol")).isNotNull();
+    }
+
+    @Test
+    void applyBulkOperation_ClearsCachedAssignedActionItems() {
+        var cache = cacheManager.getCache(ActionItemService.ASSIGNED_ACTION_ITEMS_CACHE);
+        cache.put("Alice", List.of());
+        when(mockActionItemRepository.findAllByTeamIdAndIdIn("teamId", List.of(1L))).thenReturn(List.of(ActionItem.builder().id(1L).build()));
+
+        actionItemService.applyBulkOperation("teamId", new BulkActionItemRequest(List.of(1L), BulkActionItemOperation.ASSIGN, "Bob"));
+
+        assertThat(cache.get("Alice")).isNull();
+    }
+
+    @Test
+    void getOpenActionItemsAssignedTo_ReturnsActionItemsFromRepository() {
+        var expected = List.of(ActionItem.builder().id(1L).assignee("Alice").build());
+        when(mockActionItemRepository.findOpenActionItemsAssignedToTeamMember("Alice")).thenReturn(expected);
+
+        assertThat(actionItemService.getOpenActionItemsAssignedTo("Alice")).isEqualTo(expected);
+    }
+}
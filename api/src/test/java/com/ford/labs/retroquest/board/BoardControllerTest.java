@@ -1,6 +1,7 @@
 package com.ford.labs.retroquest.board;
 
 import com.ford.labs.retroquest.column.Column;
+import com.ford.labs.retroquest.querybudget.SqlStatementBudget;
 import com.ford.labs.retroquest.teamusermapping.TeamUserAuthorizationService;
 import com.ford.labs.retroquest.thought.Thought;
 import org.assertj.core.util.Lists;
@@ -33,6 +34,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @AutoConfigureMockMvc
 @SpringBootTest
+@SqlStatementBudget(0)
 class BoardControllerTest {
 
     @MockBean
@@ -217,6 +219,26 @@ class BoardControllerTest {
         verify(boardService).endRetro(teamId.toString());
     }
 
+    @Test
+    void endRetro_ReturnsSummaryOfEndedRetro() throws Exception {
+        var teamId = UUID.randomUUID();
+        var authentication = createAuthentication();
+        when(teamUserAuthorizationService.isUserMemberOfTeam(authentication, teamId)).thenReturn(true);
+        when(boardService.endRetro(teamId.toString())).thenReturn(new EndRetroSummary(
+            new EndRetroSummary.BoardSummary(5L, teamId.toString(), LocalDate.of(2022, 1, 2), 3),
+            List.of(7L),
+            List.of()
+        ));
+        mockMvc.perform(put("/api/team/%s/end-retro".formatted(teamId.toString()))
+                .with(jwt()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.board.id").value(5))
+            .andExpect(jsonPath("$.board.dateCreated").value("2022-01-02"))
+            .andExpect(jsonPath("$.board.thoughtCount").value(3))
+            .andExpect(jsonPath("$.archivedActionItemIds[0]").value(7))
+            .andExpect(jsonPath("$.activeThoughts").isEmpty());
+    }
+
     @Test
     void endRetro_WhenUserIsUnauthorized_Throws401() throws Exception {
         var teamId = UUID.randomUUID();
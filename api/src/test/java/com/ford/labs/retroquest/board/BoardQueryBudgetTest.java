@@ -0,0 +1,110 @@
+package com.ford.labs.retroquest.board;
+
+import com.ford.labs.retroquest.actionitem.ActionItemService;
+import com.ford.labs.retroquest.actionitem.CreateActionItemRequest;
+import com.ford.labs.retroquest.column.ColumnService;
+import com.ford.labs.retroquest.querybudget.BudgetTestTeam;
+import com.ford.labs.retroquest.querybudget.SqlStatementBudget;
+import com.ford.labs.retroquest.team.TeamService;
+import com.ford.labs.retroquest.thought.CreateThoughtRequest;
+import com.ford.labs.retroquest.thought.ThoughtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@SqlStatementBudget(4)
+class BoardQueryBudgetTest {
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private ColumnService columnService;
+
+    @Autowired
+    private ThoughtService thoughtService;
+
+    @Autowired
+    private ActionItemService actionItemService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private BudgetTestTeam team;
+
+    @BeforeEach
+    void setUp() {
+        team = BudgetTestTeam.create(teamService, columnService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        team.delete(dataSource);
+    }
+
+    // Board.thoughts is EAGER, so each board on the page is loaded with its own select
+    @Test
+    @SqlStatementBudget(8)
+    void getBoards() throws Exception {
+        for (var board = 0; board < 5; board++) {
+            addThoughts(3);
+            boardService.endRetro(team.teamId());
+        }
+
+        mockMvc.perform(get("/api/team/%s/boards".formatted(team.id())).with(jwt()))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void getBoard() throws Exception {
+        addThoughts(3);
+        var board = boardService.endRetro(team.teamId()).board();
+
+        mockMvc.perform(get("/api/team/%s/boards/%d".formatted(team.id(), board.id())).with(jwt()))
+            .andExpect(status().isOk());
+    }
+
+    // Grows with every thought moved onto the new board and every action item archived
+    @Test
+    @SqlStatementBudget(13)
+    void endRetro() throws Exception {
+        addThoughts(5);
+        for (var i = 0; i < 3; i++) {
+            actionItemService.createActionItem(team.teamId(), new CreateActionItemRequest("task " + i, true, "assignee", new Date(100000), false));
+        }
+
+        mockMvc.perform(put("/api/team/%s/end-retro".formatted(team.id())).with(jwt()))
+            .andExpect(status().isOk());
+    }
+
+    private void addThoughts(int count) {
+        for (var i = 0; i < count; i++) {
+            thoughtService.createThought(team.teamId(), new CreateThoughtRequest("thought " + i, team.columns().get(i % team.columns().size()).getId()));
+        }
+    }
+}
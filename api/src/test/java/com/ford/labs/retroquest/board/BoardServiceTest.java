@@ -19,6 +19,8 @@ package com.ford.labs.retroquest.board;
 
 import com.ford.labs.retroquest.actionitem.ActionItemService;
 import com.ford.labs.retroquest.column.ColumnService;
+import com.ford.labs.retroquest.locking.TeamLockManager;
+import com.ford.labs.retroquest.metrics.RetroActivityMetrics;
 import com.ford.labs.retroquest.thought.Thought;
 import com.ford.labs.retroquest.thought.ThoughtService;
 import com.ford.labs.retroquest.websocket.events.WebsocketEndRetroEvent;
@@ -27,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.*;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -45,8 +48,9 @@ class BoardServiceTest {
     private final ThoughtService thoughtService = mock(ThoughtService.class);
     private final ActionItemService actionItemService = mock(ActionItemService.class);
     private final WebsocketService websocketService = mock(WebsocketService.class);
+    private final RetroActivityMetrics retroActivityMetrics = mock(RetroActivityMetrics.class);
 
-    private final BoardService boardService = new BoardService(boardRepository, columnService, thoughtService, actionItemService, websocketService);
+    private final BoardService boardService = new BoardService(boardRepository, columnService, thoughtService, actionItemService, websocketService, new TeamLockManager(Duration.ofSeconds(1)), retroActivityMetrics);
 
     @Test
     void getPaginatedBoardList_ShouldReturnPagedBoardsSortedByDateInDescendingOrder() {
@@ -185,11 +189,39 @@ class BoardServiceTest {
     @Test
     public void endRetro_emitsEndRetroEvent() {
         var expectedTeamId = "team1";
-        var expectedEvent = new WebsocketEndRetroEvent(expectedTeamId);
+        var expectedEvent = new WebsocketEndRetroEvent(expectedTeamId, new EndRetroSummary(null, List.of(), List.of()));
         when(thoughtService.fetchAllActiveThoughts(eq(expectedTeamId))).thenReturn(new ArrayList<>());
+        when(actionItemService.archiveCompletedActionItems(expectedTeamId)).thenReturn(List.of());
 
         boardService.endRetro(expectedTeamId);
 
         verify(websocketService).publishEvent(expectedEvent);
+        verify(retroActivityMetrics).retroEnded();
+    }
+
+    @Test
+    public void endRetro_ReturnsAndPublishesEverythingClientsNeedToUpdate() {
+        var expectedTeamId = "team1";
+        var expectedBoardId = 1234L;
+        when(thoughtService.fetchAllActiveThoughts(eq(expectedTeamId))).thenReturn(List.of(
+            new Thought(1L, "one", 0, false, expectedTeamId, null, null),
+            new Thought(2L, "two", 0, false, expectedTeamId, null, null)
+        ));
+        when(boardRepository.save(any(Board.class))).thenAnswer(a -> {
+            var board = a.<Board>getArgument(0);
+            board.setId(expectedBoardId);
+            return board;
+        });
+        when(actionItemService.archiveCompletedActionItems(expectedTeamId)).thenReturn(List.of(7L, 9L));
+
+        var actual = boardService.endRetro(expectedTeamId);
+
+        var expectedSummary = new EndRetroSummary(
+            new EndRetroSummary.BoardSummary(expectedBoardId, expectedTeamId, LocalDate.now(), 2),
+            List.of(7L, 9L),
+            List.of()
+        );
+        assertThat(actual).isEqualTo(expectedSummary);
+        verify(websocketService).publishEvent(new WebsocketEndRetroEvent(expectedTeamId, expectedSummary));
     }
 }
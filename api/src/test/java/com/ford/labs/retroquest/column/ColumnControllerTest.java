@@ -1,6 +1,7 @@
 package com.ford.labs.retroquest.column;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.labs.retroquest.querybudget.SqlStatementBudget;
 import com.ford.labs.retroquest.teamusermapping.TeamUserAuthorizationService;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@SqlStatementBudget(0)
 class ColumnControllerTest {
 
     @MockBean
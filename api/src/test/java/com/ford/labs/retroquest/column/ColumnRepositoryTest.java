@@ -0,0 +1,26 @@
+package com.ford.labs.retroquest.column;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ColumnRepositoryTest {
+
+    @Autowired
+    private ColumnRepository subject;
+
+    @Test
+    void insertColumnsForTeam_InsertsOneRowPerTemplateWithoutTitle() {
+        subject.insertColumnsForTeam("team-id", List.of(new ColumnTemplate("happy", "Happy"), new ColumnTemplate("unhappy", "Sad")));
+
+        var actual = subject.findAllByTeamId("team-id");
+
+        assertThat(actual).extracting(Column::getTopic).containsExactlyInAnyOrder("happy", "unhappy");
+        assertThat(actual).extracting(Column::getTitle).containsOnlyNulls();
+    }
+}
@@ -17,15 +17,24 @@
 
 package com.ford.labs.retroquest.column;
 
+import com.ford.labs.retroquest.datasource.DataSourceRouting;
 import com.ford.labs.retroquest.exception.ColumnNotFoundException;
+import com.ford.labs.retroquest.locking.TeamLockManager;
+import com.ford.labs.retroquest.team.Team;
+import com.ford.labs.retroquest.team.TeamRepository;
 import com.ford.labs.retroquest.websocket.events.WebsocketColumnEvent;
 import com.ford.labs.retroquest.websocket.events.WebsocketEventType;
 import com.ford.labs.retroquest.websocket.WebsocketService;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -35,25 +44,29 @@ import static org.mockito.Mockito.*;
 
 class ColumnServiceTest {
 
+    private static final String TEAM_ID = UUID.randomUUID().toString();
+
     private final ColumnRepository columnRepository = mock(ColumnRepository.class);
     private final MeterRegistry meterRegistry = mock(MeterRegistry.class);
     private final WebsocketService websocketService = mock(WebsocketService.class);
-    private final ColumnService service = new ColumnService(columnRepository, meterRegistry, websocketService);
+    private final TeamRepository teamRepository = mock(TeamRepository.class);
+    private final RetroTypeRegistry retroTypeRegistry = new RetroTypeRegistry(new RetroTypeProperties());
+    private final ColumnService service = new ColumnService(columnRepository, meterRegistry, websocketService, teamRepository, retroTypeRegistry, new TeamLockManager(Duration.ofSeconds(1)));
 
     @Test
     public void getColumns_ReturnsSortedListOfColumns() {
-        var expectedColumns = List.of(new Column(1L, "happy", "title 1", "teamId"), new Column(2L, "unhappy", "title 2", "teamId"));
-        var savedColumns = List.of(new Column(2L, "unhappy", "title 2", "teamId"), new Column(1L, "happy", "title 1", "teamId"));
-        when(columnRepository.findAllByTeamId("team id")).thenReturn(savedColumns);
+        var expectedColumns = List.of(new Column(1L, "happy", "title 1", TEAM_ID), new Column(2L, "unhappy", "title 2", TEAM_ID));
+        var savedColumns = List.of(new Column(2L, "unhappy", "title 2", TEAM_ID), new Column(1L, "happy", "title 1", TEAM_ID));
+        when(columnRepository.findAllByTeamId(TEAM_ID)).thenReturn(savedColumns);
 
-        var actualColumns = service.getColumns("team id");
+        var actualColumns = service.getColumns(TEAM_ID);
 
         assertThat(actualColumns).containsExactlyElementsOf(expectedColumns);
     }
 
     @Test
     void given_column_id_and_column_title_rename_column_in_db_and_return_new_column_title() {
-        var teamId = "some team ID";
+        var teamId = UUID.randomUUID().toString();
         var newColumnName = "Some new Title";
         var columnId = 42L;
         var savedColumn = new Column(columnId, "happy", "Some Title", teamId);
@@ -75,34 +88,181 @@ class ColumnServiceTest {
     @Test
     void throws_column_title_not_found_exception_when_column_title_not_in_db() {
         assertThatThrownBy(() ->
-                service.editTitle(42L, "some name", "some team id")
+                service.editTitle(42L, "some name", TEAM_ID)
         ).isInstanceOf(ColumnNotFoundException.class);
     }
 
+    @Test
+    public void getColumns_OnlyLoadsColumnsFromRepositoryOnce() {
+        when(columnRepository.findAllByTeamId(TEAM_ID)).thenReturn(List.of(new Column(1L, "happy", "title 1", TEAM_ID)));
+
+        service.getColumns(TEAM_ID);
+        service.getColumns(TEAM_ID);
+
+        verify(columnRepository, times(1)).findAllByTeamId(TEAM_ID);
+    }
+
+    @Test
+    public void getColumns_ReturnsImmutableList() {
+        when(columnRepository.findAllByTeamId(TEAM_ID)).thenReturn(List.of(new Column(1L, "happy", "title 1", TEAM_ID)));
+
+        var columns = service.getColumns(TEAM_ID);
+
+        assertThatThrownBy(() -> columns.add(new Column())).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void editTitle_InvalidatesCachedColumnsForTeam() {
+        var teamId = UUID.randomUUID().toString();
+        var savedColumn = new Column(42L, "happy", "Old title", teamId);
+        var updatedColumn = new Column(42L, "happy", "New title", teamId);
+        when(columnRepository.findAllByTeamId(teamId))
+            .thenReturn(List.of(savedColumn))
+            .thenReturn(List.of(updatedColumn));
+        when(columnRepository.findByTeamIdAndId(teamId, 42L)).thenReturn(Optional.of(new Column(42L, "happy", "Old title", teamId)));
+        when(columnRepository.save(updatedColumn)).thenReturn(updatedColumn);
+        when(meterRegistry.counter("retroquest.columns.changed.count")).thenReturn(mock(Counter.class));
+
+        service.getColumns(teamId);
+        service.editTitle(42L, "New title", teamId);
+
+        assertThat(service.getColumns(teamId)).containsExactly(updatedColumn);
+        verify(columnRepository, times(2)).findAllByTeamId(teamId);
+    }
+
+    @Test
+    public void editTitle_InTransaction_KeepsCachedColumnsUntilCommit() {
+        var teamId = UUID.randomUUID().toString();
+        var savedColumn = new Column(42L, "happy", "Old title", teamId);
+        var updatedColumn = new Column(42L, "happy", "New title", teamId);
+        when(columnRepository.findAllByTeamId(teamId))
+            .thenReturn(List.of(savedColumn))
+            .thenReturn(List.of(updatedColumn));
+        when(columnRepository.findByTeamIdAndId(teamId, 42L)).thenReturn(Optional.of(new Column(42L, "happy", "Old title", teamId)));
+        when(columnRepository.save(updatedColumn)).thenReturn(updatedColumn);
+        when(meterRegistry.counter("retroquest.columns.changed.count")).thenReturn(mock(Counter.class));
+        service.getColumns(teamId);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.editTitle(42L, "New title", teamId);
+            assertThat(service.getColumns(teamId)).containsExactly(savedColumn);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(service.getColumns(teamId)).containsExactly(updatedColumn);
+    }
+
+    @Test
+    public void getColumns_InReadOnlyTransaction_OnlyCachesPrimaryReads() {
+        when(columnRepository.findAllByTeamId(TEAM_ID)).thenReturn(List.of());
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            service.getColumns(TEAM_ID);
+            service.getColumns(TEAM_ID);
+            verify(columnRepository, times(2)).findAllByTeamId(TEAM_ID);
+
+            DataSourceRouting.requirePrimary();
+            service.getColumns(TEAM_ID);
+            service.getColumns(TEAM_ID);
+            verify(columnRepository, times(3)).findAllByTeamId(TEAM_ID);
+        } finally {
+            DataSourceRouting.clear();
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    public void getColumns_KeepsAtMostMaxCachedTeams() {
+        when(columnRepository.findAllByTeamId(anyString())).thenReturn(List.of());
+
+        service.getColumns(TEAM_ID);
+        for (var i = 0; i < ColumnService.MAX_CACHED_TEAMS; i++) {
+            service.getColumns(UUID.randomUUID().toString());
+        }
+        service.getColumns(TEAM_ID);
+
+        verify(columnRepository, times(2)).findAllByTeamId(TEAM_ID);
+    }
+
     @Test
     public void fetchColumn() {
-        var expected = new Column(42L, "topic", "title", "teamId");
-        when(columnRepository.findByTeamIdAndId("teamId", 42L)).thenReturn(Optional.of(expected));
-        var actual = service.fetchColumn("teamId", 42L);
+        var expected = new Column(42L, "topic", "title", TEAM_ID);
+        when(columnRepository.findAllByTeamId(TEAM_ID)).thenReturn(List.of(new Column(41L, "topic", "other", TEAM_ID), expected));
+        var actual = service.fetchColumn(TEAM_ID, 42L);
         assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
     }
 
     @Test
     public void fetchColumn_WithMissingColumn_ThrowsColumnNotFoundException() {
         assertThatThrownBy(() ->
-                service.fetchColumn("some team id", 42L)
+                service.fetchColumn(TEAM_ID, 42L)
         ).isInstanceOf(ColumnNotFoundException.class);
     }
 
     @Test
-    void generateInitialColumnsForTeam_createsHappyMehAndSadColumnWithTeamId() {
+    void generateInitialColumnsForTeam_insertsDefaultRetroTypeColumnsWithTeamId() {
         var teamId = UUID.randomUUID();
-        var expectedHappyColumn = new Column(null, "happy", "Happy", teamId.toString());
-        var expectedConfusedColumn = new Column(null, "confused", "Confused", teamId.toString());
-        var expectedSadColumn = new Column(null, "unhappy", "Sad", teamId.toString());
-        service.generateInitialColumnsForTeam(teamId);
-        verify(columnRepository).save(expectedHappyColumn);
-        verify(columnRepository).save(expectedConfusedColumn);
-        verify(columnRepository).save(expectedSadColumn);
-    }
-}
\ No newline at end of file
+        service.generateInitialColumnsForTeam(new Team(teamId, "team", LocalDateTime.now()));
+        verify(columnRepository).insertColumnsForTeam(teamId.toString(), RetroTypeRegistry.STANDARD_RETRO_TYPE.columns());
+        verify(columnRepository, never()).save(any());
+    }
+
+    @Test
+    void generateInitialColumnsForTeam_insertsColumnsOfTheTeamsRetroType() {
+        var properties = new RetroTypeProperties();
+        properties.setTypes(Map.of("start-stop", List.of(new ColumnTemplate("start", "Start"), new ColumnTemplate("stop", "Stop"))));
+        var serviceWithTypes = new ColumnService(columnRepository, meterRegistry, websocketService, teamRepository, new RetroTypeRegistry(properties), new TeamLockManager(Duration.ofSeconds(1)));
+        var teamId = UUID.randomUUID();
+
+        serviceWithTypes.generateInitialColumnsForTeam(new Team(teamId, "team", LocalDateTime.now(), "start-stop"));
+
+        verify(columnRepository).insertColumnsForTeam(teamId.toString(), properties.getTypes().get("start-stop"));
+    }
+
+    @Test
+    public void getColumns_WithoutOverriddenTitle_UsesTitleFromTeamRetroType() {
+        var properties = new RetroTypeProperties();
+        properties.setTypes(Map.of("start-stop", List.of(new ColumnTemplate("start", "Start"), new ColumnTemplate("stop", "Stop"))));
+        var serviceWithTypes = new ColumnService(columnRepository, meterRegistry, websocketService, teamRepository, new RetroTypeRegistry(properties), new TeamLockManager(Duration.ofSeconds(1)));
+        when(teamRepository.findById(UUID.fromString(TEAM_ID)))
+            .thenReturn(Optional.of(new Team(UUID.fromString(TEAM_ID), "team", LocalDateTime.now(), "start-stop")));
+        when(columnRepository.findAllByTeamId(TEAM_ID)).thenReturn(List.of(
+            new Column(1L, "start", null, TEAM_ID),
+            new Column(2L, "stop", "Quit it", TEAM_ID)
+        ));
+
+        assertThat(serviceWithTypes.getColumns(TEAM_ID)).containsExactly(
+            new Column(1L, "start", "Start", TEAM_ID),
+            new Column(2L, "stop", "Quit it", TEAM_ID)
+        );
+    }
+
+    @Test
+    public void getColumns_ForTeamWithoutRetroType_UsesDefaultRetroTypeTitles() {
+        when(columnRepository.findAllByTeamId(TEAM_ID)).thenReturn(List.of(
+            new Column(1L, "happy", null, TEAM_ID),
+            new Column(2L, "confused", null, TEAM_ID),
+            new Column(3L, "unhappy", null, TEAM_ID)
+        ));
+
+        assertThat(service.getColumns(TEAM_ID)).extracting(Column::getTitle).containsExactly("Happy", "Confused", "Sad");
+    }
+
+    @Test
+    void editTitle_WithDefaultTitle_ClearsOverride() {
+        var savedColumn = new Column(42L, "happy", "Glad", TEAM_ID);
+        when(columnRepository.findByTeamIdAndId(TEAM_ID, 42L)).thenReturn(Optional.of(savedColumn));
+        when(columnRepository.save(new Column(42L, "happy", null, TEAM_ID))).thenReturn(new Column(42L, "happy", null, TEAM_ID));
+        when(meterRegistry.counter("retroquest.columns.changed.count")).thenReturn(mock(Counter.class));
+
+        var actualColumn = service.editTitle(42L, "Happy", TEAM_ID);
+
+        assertThat(actualColumn).isEqualTo(new Column(42L, "happy", "Happy", TEAM_ID));
+        verify(columnRepository).save(new Column(42L, "happy", null, TEAM_ID));
+    }
+}
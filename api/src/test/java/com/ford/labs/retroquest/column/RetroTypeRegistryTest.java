@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.column;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetroTypeRegistryTest {
+
+    @Test
+    void withoutConfiguration_DefaultsToStandardRetroType() {
+        var registry = new RetroTypeRegistry(new RetroTypeProperties());
+
+        assertThat(registry.getDefault()).isEqualTo(RetroTypeRegistry.STANDARD_RETRO_TYPE);
+        assertThat(registry.get(null)).isEqualTo(RetroTypeRegistry.STANDARD_RETRO_TYPE);
+        assertThat(registry.get("unknown")).isEqualTo(RetroTypeRegistry.STANDARD_RETRO_TYPE);
+    }
+
+    @Test
+    void bindsRetroTypesFromConfiguration() {
+        var source = new MapConfigurationPropertySource(Map.of(
+            "retroquest.retro-types.default-type", "start-stop",
+            "retroquest.retro-types.types.start-stop[0].topic", "start",
+            "retroquest.retro-types.types.start-stop[0].title", "Start",
+            "retroquest.retro-types.types.start-stop[1].topic", "stop",
+            "retroquest.retro-types.types.start-stop[1].title", "Stop"
+        ));
+        var properties = new Binder(source).bind("retroquest.retro-types", RetroTypeProperties.class).get();
+
+        var registry = new RetroTypeRegistry(properties);
+
+        var expected = new RetroType("start-stop", List.of(new ColumnTemplate("start", "Start"), new ColumnTemplate("stop", "Stop")));
+        assertThat(registry.getDefault()).isEqualTo(expected);
+        assertThat(registry.get("standard")).isEqualTo(RetroTypeRegistry.STANDARD_RETRO_TYPE);
+    }
+
+    @Test
+    void withUnknownDefaultType_FailsAtStartup() {
+        var properties = new RetroTypeProperties();
+        properties.setDefaultType("missing");
+
+        assertThatThrownBy(() -> new RetroTypeRegistry(properties)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void retroTypeColumnsAreImmutable() {
+        var columns = RetroTypeRegistry.STANDARD_RETRO_TYPE.columns();
+
+        assertThatThrownBy(() -> columns.add(new ColumnTemplate("new", "New"))).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.ford.labs.retroquest.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.ford.labs.retroquest.actionitem.ActionItemService.ASSIGNED_ACTION_ITEMS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationCacheConfigTest {
+
+    private final ApplicationCacheConfig config = new ApplicationCacheConfig();
+    private javax.cache.CacheManager applicationCacheManager;
+
+    @AfterEach
+    void tearDown() {
+        applicationCacheManager.close();
+    }
+
+    @Test
+    void evictInsideTransaction_IsAppliedAfterCommit() {
+        var cache = cacheManager(new ApplicationCacheProperties()).getCache(ASSIGNED_ACTION_ITEMS_CACHE);
+        cache.put("user", List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict("user");
+            assertThat(cache.get("user")).isNotNull();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.get("user")).isNull();
+    }
+
+    @Test
+    void cache_KeepsAtMostMaxEntries() {
+        var properties = new ApplicationCacheProperties();
+        properties.setCaches(Map.of(ASSIGNED_ACTION_ITEMS_CACHE, new ApplicationCacheProperties.Cache(2, Duration.ofMinutes(5))));
+        var cache = cacheManager(properties).getCache(ASSIGNED_ACTION_ITEMS_CACHE);
+
+        Stream.of("first", "second", "third").forEach(user -> cache.put(user, List.of()));
+
+        assertThat(Stream.of("first", "second", "third").filter(user -> cache.get(user) != null)).hasSizeLessThanOrEqualTo(2);
+    }
+
+    private org.springframework.cache.CacheManager cacheManager(ApplicationCacheProperties properties) {
+        applicationCacheManager = config.applicationCacheManager(properties);
+        return config.cacheManager(applicationCacheManager);
+    }
+}
@@ -0,0 +1,120 @@
+package com.ford.labs.retroquest.config;
+
+import com.ford.labs.retroquest.column.ColumnRepository;
+import com.ford.labs.retroquest.column.ColumnService;
+import com.ford.labs.retroquest.team.Team;
+import com.ford.labs.retroquest.team.TeamRepository;
+import com.ford.labs.retroquest.team.TeamService;
+import com.ford.labs.retroquest.teamusermapping.TeamUserAuthorizationService;
+import com.ford.labs.retroquest.teamusermapping.TeamUserMappingService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class HibernateCacheConfigTest {
+
+    private static final SimpleGrantedAuthority OPERATOR = new SimpleGrantedAuthority("SCOPE_retroquest.operator");
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TeamUserMappingService teamUserMappingService;
+
+    @Autowired
+    private TeamUserAuthorizationService teamUserAuthorizationService;
+
+    @Autowired
+    private ColumnService columnService;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void repeatedReadsOfTeamColumnAndMembership_DoNotExecuteSql() {
+        var team = teamRepository.save(new Team("Cached Team " + UUID.randomUUID(), "standard"));
+        var teamId = team.getId();
+        teamUserMappingService.addUserToTeam(teamId, "user");
+        columnService.generateInitialColumnsForTeam(team);
+        var authentication = new TestingAuthenticationToken("user", null);
+        var columnId = columnRepository.findAllByTeamId(teamId.toString()).get(0).getId();
+        readEverything(teamId, columnId, authentication);
+
+        statistics.clear();
+        for (var i = 0; i < 3; i++) {
+            readEverything(teamId, columnId, authentication);
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void removingUserFromTeam_InvalidatesCachedMembership() {
+        var teamId = teamRepository.save(new Team("Membership Team " + UUID.randomUUID())).getId();
+        teamUserMappingService.addUserToTeam(teamId, "member");
+        var authentication = new TestingAuthenticationToken("member", null);
+        assertThat(teamUserAuthorizationService.isUserMemberOfTeam(authentication, teamId)).isTrue();
+
+        teamUserMappingService.removeUserFromTeam(teamId, "member");
+
+        assertThat(teamUserAuthorizationService.isUserMemberOfTeam(authentication, teamId)).isFalse();
+    }
+
+    @Test
+    void hibernateCacheEndpoint_ReportsRegionStatistics() throws Exception {
+        mockMvc.perform(get("/actuator/hibernatecache").with(jwt().authorities(OPERATOR)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.secondLevelCacheHitCount").isNumber())
+            .andExpect(jsonPath("$.regions.team.hitCount").isNumber())
+            .andExpect(jsonPath("$.regions.rq_column.putCount").isNumber())
+            .andExpect(jsonPath("$.regions.team_user_mapping.missCount").isNumber());
+    }
+
+    private void readEverything(UUID teamId, Long columnId, TestingAuthenticationToken authentication) {
+        assertThat(teamService.getTeam(teamId)).isPresent();
+        assertThat(teamUserAuthorizationService.isUserMemberOfTeam(authentication, teamId)).isTrue();
+        assertThat(columnRepository.findAllByTeamId(teamId.toString())).hasSize(3);
+        assertThat(columnRepository.findByTeamIdAndId(teamId.toString(), columnId)).isPresent();
+    }
+}
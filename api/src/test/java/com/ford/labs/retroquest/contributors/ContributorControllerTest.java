@@ -0,0 +1,77 @@
+package com.ford.labs.retroquest.contributors;
+
+import com.ford.labs.retroquest.querybudget.SqlStatementBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@SqlStatementBudget(0)
+class ContributorControllerTest {
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @MockBean
+    private ContributorsService contributorsService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final ContributorAvatar avatar = new ContributorAvatar(new byte[]{1, 2, 3}, "\"abc123\"");
+
+    @Test
+    void getContributors_ReturnsContributorMetadataWithImageUrls() throws Exception {
+        when(contributorsService.getContributors())
+            .thenReturn(List.of(new Contributor("/api/contributors/one/avatar?v=abc123", "https://github.com/one")));
+
+        mockMvc.perform(get("/api/contributors").with(jwt()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].imageUrl").value("/api/contributors/one/avatar?v=abc123"))
+            .andExpect(jsonPath("$.[0].accountUrl").value("https://github.com/one"))
+            .andExpect(jsonPath("$.[0].image").doesNotExist());
+    }
+
+    @Test
+    void getAvatar_ReturnsImageWithETagAndLongLivedCacheHeaders() throws Exception {
+        when(contributorsService.getAvatar("one")).thenReturn(Optional.of(avatar));
+
+        mockMvc.perform(get("/api/contributors/one/avatar").with(anonymous()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("image/png"))
+            .andExpect(content().bytes(avatar.image()))
+            .andExpect(header().string("ETag", "\"abc123\""))
+            .andExpect(header().string("Cache-Control", "max-age=31536000, public"));
+    }
+
+    @Test
+    void getAvatar_WithMatchingETag_ReturnsNotModified() throws Exception {
+        when(contributorsService.getAvatar("one")).thenReturn(Optional.of(avatar));
+
+        mockMvc.perform(get("/api/contributors/one/avatar").header("If-None-Match", "\"abc123\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void getAvatar_WithUnknownContributor_Returns404() throws Exception {
+        when(contributorsService.getAvatar("nobody")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/contributors/nobody/avatar"))
+            .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,66 @@
+package com.ford.labs.retroquest.contributors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContributorSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    private final ContributorSnapshot snapshot = new ContributorSnapshot(List.of(
+        new ContributorSnapshot.Entry("one", "https://github.com/one", new ContributorAvatar(new byte[]{1, 2, 3}, "\"abc\"")),
+        new ContributorSnapshot.Entry("two", "https://github.com/two", new ContributorAvatar(new byte[]{4}, "\"def\""))
+    ));
+
+    @Test
+    void write_ThenRead_ReturnsSameContributorsAndAvatars() throws IOException {
+        var file = new ContributorSnapshotFile(directory.resolve("nested/contributors.cache"));
+
+        file.write(snapshot);
+        var actual = file.read().orElseThrow();
+
+        assertThat(actual.contributors()).isEqualTo(snapshot.contributors());
+        assertThat(actual.avatars().get("one").image()).containsExactly(1, 2, 3);
+        assertThat(actual.avatars().get("one").eTag()).isEqualTo("\"abc\"");
+        assertThat(actual.avatars().get("two").image()).containsExactly(4);
+    }
+
+    @Test
+    void write_ReplacesPreviousFileWithoutLeavingTemporaryFiles() throws IOException {
+        var path = directory.resolve("contributors.cache");
+        var file = new ContributorSnapshotFile(path);
+
+        file.write(snapshot);
+        file.write(new ContributorSnapshot(List.of()));
+
+        assertThat(file.read().orElseThrow().contributors()).isEmpty();
+        try (var files = Files.list(directory)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    void read_WhenFileIsMissing_ReturnsEmpty() throws IOException {
+        assertThat(new ContributorSnapshotFile(directory.resolve("missing.cache")).read()).isEmpty();
+    }
+
+    @Test
+    void read_WhenFileIsCorrupt_ReturnsEmpty() throws IOException {
+        var path = directory.resolve("contributors.cache");
+        var file = new ContributorSnapshotFile(path);
+        file.write(snapshot);
+        var bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 2));
+
+        assertThat(file.read()).isEmpty();
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2022 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.contributors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.ResourceAccessException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContributorsServiceTest {
+
+    private HttpServer github;
+    private ContributorsService subject;
+    private final AtomicInteger contributorRequests = new AtomicInteger();
+    private volatile String contributorsJson = "[]";
+    private volatile int contributorsStatus = 200;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        github = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        github.setExecutor(Executors.newCachedThreadPool());
+        github.createContext("/contributors", exchange -> {
+            contributorRequests.incrementAndGet();
+            respond(exchange, contributorsStatus, contributorsJson.replace("{base}", baseUrl()));
+        });
+        github.createContext("/avatars/", exchange -> {
+            var name = exchange.getRequestURI().getPath().substring("/avatars/".length());
+            switch (name) {
+                case "missing" -> respond(exchange, 404, "");
+                case "text" -> respond(exchange, 200, "not an image");
+                case "large" -> respond(exchange, 200, png(400, 200));
+                default -> respond(exchange, 200, png(10, 10));
+            }
+        });
+        github.start();
+
+        subject = createService(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        subject.shutdown();
+        github.stop(0);
+    }
+
+    @Test
+    void given_a_list_of_two_contributors_when_fetching_return_the_contributors() {
+        contributorsJson = """
+            [{"login": "one", "avatar_url": "{base}/avatars/one", "html_url": "account1/email-address"},
+             {"login": "two", "avatar_url": "{base}/avatars/two", "html_url": "account2/email-address"}]""";
+
+        var result = subject.getContributors();
+        assertThat(result).extracting(Contributor::accountUrl).containsExactly("account1/email-address", "account2/email-address");
+        assertThat(result.get(0).imageUrl()).startsWith("/api/contributors/one/avatar?v=");
+        assertThat(result.get(1).imageUrl()).startsWith("/api/contributors/two/avatar?v=");
+    }
+
+    @Test
+    void given_a_list_of_two_contributors_with_one_invalid_email_address_when_fetching_return_one_valid_contributor() {
+        contributorsJson = """
+            [{"login": "one", "avatar_url": "{base}/avatars/one", "html_url": "account1/email-address"},
+             {"login": "two", "avatar_url": "{base}/avatars/two", "html_url": "account2/invalid-email-address"}]""";
+
+        assertThat(subject.getContributors()).extracting(Contributor::accountUrl).containsExactly("account1/email-address");
+    }
+
+    @Test
+    void given_a_call_to_github_contributors_returns_null_when_fetching_contributors_return_empty_list() {
+        contributorsJson = "null";
+
+        assertThat(subject.getContributors()).isEmpty();
+    }
+
+    @Test
+    void getContributors_OnlyCallsGithubOnce() {
+        subject.getContributors();
+        subject.getContributors();
+
+        assertThat(contributorRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void getContributors_SkipsContributorsWhoseAvatarCannotBeFetched() {
+        contributorsJson = """
+            [{"login": "one", "avatar_url": "{base}/avatars/one", "html_url": "account1/email-address"},
+             {"login": "missing", "avatar_url": "{base}/avatars/missing", "html_url": "account2/email-address"}]""";
+
+        assertThat(subject.getContributors()).extracting(Contributor::accountUrl).containsExactly("account1/email-address");
+    }
+
+    @Test
+    void getContributors_SkipsContributorsWhoseAvatarIsNotAnImage() {
+        contributorsJson = """
+            [{"login": "one", "avatar_url": "{base}/avatars/one", "html_url": "account1/email-address"},
+             {"login": "text", "avatar_url": "{base}/avatars/text", "html_url": "account2/email-address"}]""";
+
+        assertThat(subject.getContributors()).extracting(Contributor::accountUrl).containsExactly("account1/email-address");
+    }
+
+    @Test
+    void getAvatar_ReturnsDownscaledPngWithStrongETag() throws IOException {
+        contributorsJson = """
+            [{"login": "large", "avatar_url": "{base}/avatars/large", "html_url": "account1/email-address"}]""";
+
+        var avatar = subject.getAvatar("large").orElseThrow();
+
+        var image = ImageIO.read(new ByteArrayInputStream(avatar.image()));
+        assertThat(image.getWidth()).isEqualTo(96);
+        assertThat(image.getHeight()).isEqualTo(48);
+        assertThat(avatar.eTag()).matches("\"[0-9a-f]{32}\"");
+        assertThat(subject.getContributors().get(0).imageUrl()).endsWith("?v=" + avatar.eTag().replace("\"", ""));
+    }
+
+    @Test
+    void getAvatar_WithUnknownLogin_ReturnsEmpty() {
+        assertThat(subject.getAvatar("nobody")).isEmpty();
+    }
+
+    @Test
+    void getContributors_WhenAvatarCacheIsFull_LeavesOutRemainingContributors() throws IOException {
+        subject.shutdown();
+        var avatarBytes = AvatarImages.toAvatar(png(10, 10), 96).image().length;
+        var properties = createProperties(Duration.ofSeconds(5));
+        properties.setMaxAvatarCacheSize(DataSize.ofBytes(avatarBytes + 1L));
+        subject = new ContributorsService(new RestTemplateBuilder(), properties);
+        contributorsJson = """
+            [{"login": "one", "avatar_url": "{base}/avatars/one", "html_url": "account1/email-address"},
+             {"login": "two", "avatar_url": "{base}/avatars/two", "html_url": "account2/email-address"}]""";
+
+        assertThat(subject.getContributors()).extracting(Contributor::accountUrl).containsExactly("account1/email-address");
+        assertThat(subject.getAvatar("two")).isEmpty();
+    }
+
+    @Test
+    void getContributors_FetchesAvatarsConcurrently() {
+        var waitingAvatars = new CountDownLatch(2);
+        github.createContext("/slow-avatars/", exchange -> {
+            waitingAvatars.countDown();
+            try {
+                var bothRequested = waitingAvatars.await(2, TimeUnit.SECONDS);
+                respond(exchange, bothRequested ? 200 : 500, png(10, 10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        contributorsJson = """
+            [{"login": "one", "avatar_url": "{base}/slow-avatars/one", "html_url": "account1/email-address"},
+             {"login": "two", "avatar_url": "{base}/slow-avatars/two", "html_url": "account2/email-address"}]""";
+
+        assertThat(subject.getContributors()).hasSize(2);
+    }
+
+    @Test
+    void getContributors_WhenAvatarTimesOut_SkipsContributor() {
+        subject.shutdown();
+        subject = createService(Duration.ofSeconds(1));
+        github.createContext("/hanging-avatars/", exchange -> {
+            try {
+                Thread.sleep(3000);
+                respond(exchange, 200, png(10, 10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        contributorsJson = """
+            [{"login": "one", "avatar_url": "{base}/avatars/one", "html_url": "account1/email-address"},
+             {"login": "two", "avatar_url": "{base}/hanging-avatars/two", "html_url": "account2/email-address"}]""";
+
+        assertThat(subject.getContributors()).extracting(Contributor::accountUrl).containsExactly("account1/email-address");
+    }
+
+    @Test
+    void getContributors_WhenGithubHangs_FailsAfterRequestTimeout() {
+        github.createContext("/hanging-contributors", exchange -> {
+            try {
+                Thread.sleep(5000);
+                respond(exchange, 200, "[]");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        subject.shutdown();
+        var properties = createProperties(Duration.ofSeconds(1));
+        properties.setGithubUrl(baseUrl() + "/hanging-contributors");
+        subject = new ContributorsService(new RestTemplateBuilder(), properties);
+
+        var startedAt = System.nanoTime();
+        assertThatThrownBy(() -> subject.getContributors()).isInstanceOf(ResourceAccessException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(4));
+    }
+
+    @Test
+    void refreshContributors_ReplacesServedContributorsOnceRebuilt() {
+        contributorsJson = """
+            [{"login": "one", "avatar_url": "{base}/avatars/one", "html_url": "account1/email-address"}]""";
+        subject.getContributors();
+
+        contributorsJson = """
+            [{"login": "two", "avatar_url": "{base}/avatars/two", "html_url": "account2/email-address"}]""";
+        subject.refreshContributors();
+
+        assertThat(subject.getContributors()).extracting(Contributor::accountUrl).containsExactly("account2/email-address");
+    }
+
+    @Test
+    void refreshContributors_WhenGithubFails_KeepsServingPreviousContributors() {
+        contributorsJson = """
+            [{"login": "one", "avatar_url": "{base}/avatars/one", "html_url": "account1/email-address"}]""";
+        subject.getContributors();
+
+        contributorsStatus = 500;
+        subject.refreshContributors();
+
+        assertThat(subject.getContributors()).extracting(Contributor::accountUrl).containsExactly("account1/email-address");
+    }
+
+    @Test
+    void getContributors_WhenGithubFailsBeforeFirstLoad_Throws() {
+        contributorsStatus = 500;
+
+        assertThatThrownBy(() -> subject.getContributors()).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void getContributors_WithCacheFileFromPreviousRun_ServesFromDiskWithoutCallingGithub(@TempDir Path directory) {
+        contributorsJson = """
+            [{"login": "one", "avatar_url": "{base}/avatars/one", "html_url": "account1/email-address"}]""";
+        var properties = createProperties(Duration.ofSeconds(5));
+        properties.setCacheFile(directory.resolve("contributors.cache"));
+        var firstRun = new ContributorsService(new RestTemplateBuilder(), properties);
+        var expected = firstRun.getContributors();
+        firstRun.shutdown();
+        contributorRequests.set(0);
+
+        var secondRun = new ContributorsService(new RestTemplateBuilder(), properties);
+        try {
+            assertThat(secondRun.getContributors()).isEqualTo(expected);
+            assertThat(secondRun.getAvatar("one")).isPresent();
+            assertThat(contributorRequests.get()).isZero();
+        } finally {
+            secondRun.shutdown();
+        }
+    }
+
+    @Test
+    void refreshContributors_WritesRefreshedContributorsToCacheFile(@TempDir Path directory) throws IOException {
+        var cacheFile = directory.resolve("contributors.cache");
+        var properties = createProperties(Duration.ofSeconds(5));
+        properties.setCacheFile(cacheFile);
+        subject.shutdown();
+        subject = new ContributorsService(new RestTemplateBuilder(), properties);
+        contributorsJson = """
+            [{"login": "two", "avatar_url": "{base}/avatars/two", "html_url": "account2/email-address"}]""";
+
+        subject.refreshContributors();
+
+        var persisted = new ContributorSnapshotFile(cacheFile).read().orElseThrow();
+        assertThat(persisted.contributors()).isEqualTo(subject.getContributors());
+    }
+
+    private ContributorsService createService(Duration requestTimeout) {
+        var properties = createProperties(requestTimeout);
+        return new ContributorsService(new RestTemplateBuilder(), properties);
+    }
+
+    private ContributorsProperties createProperties(Duration requestTimeout) {
+        var properties = new ContributorsProperties();
+        properties.setGithubUrl(baseUrl() + "/contributors");
+        properties.setRequestTimeout(requestTimeout);
+        return properties;
+    }
+
+    private String baseUrl() {
+        return "http://localhost:" + github.getAddress().getPort();
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        var output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", output);
+        return output.toByteArray();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        respond(exchange, status, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] bytes) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
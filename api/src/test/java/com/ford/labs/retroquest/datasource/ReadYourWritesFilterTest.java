@@ -0,0 +1,106 @@
+package com.ford.labs.retroquest.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2022-05-01T12:00:00Z"));
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock);
+    private final ReadYourWritesFilter subject = new ReadYourWritesFilter(tracker);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readAfterWriteFromSameUser_RequiresPrimary() throws Exception {
+        perform("POST", "user");
+
+        assertThat(perform("GET", "user")).isTrue();
+    }
+
+    @Test
+    void readAfterWriteFromOtherUser_CanUseReplica() throws Exception {
+        perform("POST", "user");
+
+        assertThat(perform("GET", "other user")).isFalse();
+    }
+
+    @Test
+    void readAfterWindowExpires_CanUseReplica() throws Exception {
+        perform("PUT", "user");
+        clock.advance(Duration.ofSeconds(6));
+
+        assertThat(perform("GET", "user")).isFalse();
+    }
+
+    @Test
+    void routingIsClearedAfterRequest() throws Exception {
+        perform("DELETE", "user");
+        perform("GET", "user");
+
+        assertThat(DataSourceRouting.isPrimaryRequired()).isFalse();
+    }
+
+    @Test
+    void purgeExpired_ForgetsOldWrites() {
+        tracker.recordWrite("user");
+        clock.advance(Duration.ofSeconds(6));
+
+        tracker.purgeExpired();
+        clock.advance(Duration.ofSeconds(-6));
+
+        assertThat(tracker.requiresPrimary("user")).isFalse();
+    }
+
+    private boolean perform(String method, String user) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user, null));
+        var primaryRequired = new AtomicBoolean();
+        FilterChain chain = (request, response) -> primaryRequired.set(DataSourceRouting.isPrimaryRequired());
+        subject.doFilter(new MockHttpServletRequest(method, "/api/anything"), new MockHttpServletResponse(), chain);
+        return primaryRequired.get();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
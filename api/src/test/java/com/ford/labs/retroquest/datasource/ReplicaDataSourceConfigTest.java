@@ -0,0 +1,41 @@
+package com.ford.labs.retroquest.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "retroquest.datasource.replicas[0].name=test-replica",
+    "retroquest.datasource.replicas[0].url=jdbc:h2:mem:replica-config-test;DB_CLOSE_DELAY=-1",
+    "retroquest.datasource.replicas[0].username=sa",
+    "retroquest.datasource.replicas[0].password="
+})
+class ReplicaDataSourceConfigTest {
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReadYourWritesFilter readYourWritesFilter;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Test
+    void withReplicasConfigured_UsesRoutingDataSource() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource()).isInstanceOf(ReplicaRoutingDataSource.class);
+        assertThat(readYourWritesFilter).isNotNull();
+        assertThat(replicaLagMonitor).isNotNull();
+    }
+}
@@ -0,0 +1,70 @@
+package com.ford.labs.retroquest.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaLagMonitorTest {
+
+    private final Instant now = Instant.parse("2022-05-01T12:00:00Z");
+    private final Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+    private final EmbeddedDatabase primary = heartbeatDatabase();
+    private final EmbeddedDatabase replica = heartbeatDatabase();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReplicaLagMonitor subject = new ReplicaLagMonitor(primary, Map.of("replica", replica), meterRegistry, clock);
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void checkLag_WritesHeartbeatToPrimary() {
+        subject.checkLag();
+
+        var beat = new JdbcTemplate(primary).queryForObject("SELECT beat_at FROM replication_heartbeat WHERE id = 1", Timestamp.class);
+        assertThat(beat.toInstant()).isEqualTo(now);
+    }
+
+    @Test
+    void checkLag_ReportsAgeOfReplicaHeartbeatAsGauge() {
+        new JdbcTemplate(replica).update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", Timestamp.from(now.minusSeconds(30)));
+
+        subject.checkLag();
+
+        assertThat(subject.getLagSeconds("replica")).isEqualTo(30.0);
+        assertThat(meterRegistry.get(ReplicaLagMonitor.LAG_METRIC).tag("replica", "replica").gauge().value()).isEqualTo(30.0);
+    }
+
+    @Test
+    void checkLag_WhenReplicaHasNoHeartbeat_ReportsNaN() {
+        subject.checkLag();
+
+        assertThat(subject.getLagSeconds("replica")).isNaN();
+    }
+
+    private static EmbeddedDatabase heartbeatDatabase() {
+        var database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .setName("heartbeat-" + UUID.randomUUID())
+            .build();
+        var jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE replication_heartbeat (id INT PRIMARY KEY, beat_at TIMESTAMP)");
+        jdbc.update("INSERT INTO replication_heartbeat (id) VALUES (1)");
+        return database;
+    }
+}
@@ -0,0 +1,101 @@
+package com.ford.labs.retroquest.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final EmbeddedDatabase primary = database("primary");
+    private final EmbeddedDatabase replica = database("replica");
+    private final LazyConnectionDataSourceProxy dataSource =
+        new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, Map.of("replica", replica)));
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final TransactionTemplate readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    private final TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+    ReplicaRoutingDataSourceTest() {
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRouting.clear();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readOnlyTransaction_RoutesToReplica() {
+        assertThat(inTransaction(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransaction_RoutesToPrimary() {
+        assertThat(inTransaction(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    void withoutTransaction_RoutesToPrimary() {
+        assertThat(currentDatabase()).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_WhenPrimaryIsRequired_RoutesToPrimary() {
+        DataSourceRouting.requirePrimary();
+
+        assertThat(inTransaction(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactions_AlternateBetweenReplicas() {
+        var secondReplica = database("second-replica");
+        try {
+            var routing = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, Map.of("replica", replica, "second-replica", secondReplica))
+            );
+            var template = new TransactionTemplate(new DataSourceTransactionManager(routing));
+            template.setReadOnly(true);
+            var jdbc = new JdbcTemplate(routing);
+
+            var first = template.execute(status -> jdbc.queryForObject("SELECT name FROM marker", String.class));
+            var second = template.execute(status -> jdbc.queryForObject("SELECT name FROM marker", String.class));
+
+            assertThat(first).isNotEqualTo(second);
+            assertThat(first).isIn("replica", "second-replica");
+            assertThat(second).isIn("replica", "second-replica");
+        } finally {
+            secondReplica.shutdown();
+        }
+    }
+
+    private String inTransaction(TransactionTemplate template) {
+        return template.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        var database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .setName(name + "-" + UUID.randomUUID())
+            .build();
+        var jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(255))");
+        jdbc.update("INSERT INTO marker (name) VALUES (?)", name);
+        return database;
+    }
+}
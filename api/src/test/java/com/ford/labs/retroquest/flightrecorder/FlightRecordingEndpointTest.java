@@ -0,0 +1,107 @@
+package com.ford.labs.retroquest.flightrecorder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class FlightRecordingEndpointTest {
+
+    private static final SimpleGrantedAuthority OPERATOR = new SimpleGrantedAuthority("SCOPE_retroquest.operator");
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private FlightRecordingEndpoint flightRecordingEndpoint;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        flightRecordingEndpoint.destroy();
+    }
+
+    @Test
+    void recording_CapturesAuthorizationChecksAndCanBeDownloaded() throws Exception {
+        var teamId = UUID.randomUUID();
+        var started = mockMvc.perform(post("/actuator/flightrecording").with(jwt().authorities(OPERATOR)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("RUNNING"))
+            .andReturn();
+        var id = objectMapper.readTree(started.getResponse().getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(get("/api/team/{teamId}/thoughts", teamId).with(jwt()))
+            .andExpect(status().isForbidden());
+
+        mockMvc.perform(delete("/actuator/flightrecording").with(jwt().authorities(OPERATOR)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("STOPPED"));
+
+        var download = mockMvc.perform(get("/actuator/flightrecording/{id}", id).with(jwt().authorities(OPERATOR)))
+            .andExpect(status().isOk())
+            .andReturn();
+        var file = Files.createTempFile("flight-recording-test", ".jfr");
+        try {
+            Files.write(file, download.getResponse().getContentAsByteArray());
+            assertThat(RecordingFile.readAllEvents(file))
+                .filteredOn(event -> event.getEventType().getName().equals("com.ford.labs.retroquest.AuthorizationCheck"))
+                .anySatisfy(event -> {
+                    assertThat(event.getString("teamId")).isEqualTo(teamId.toString());
+                    assertThat(event.getBoolean("granted")).isFalse();
+                });
+            assertThat(RecordingFile.readAllEvents(file))
+                .extracting(event -> event.getEventType().getName())
+                .doesNotContainAnyElementsOf(FlightRecordingEndpoint.SENSITIVE_EVENTS);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void recording_IsForbiddenWithoutTheOperatorAuthority() throws Exception {
+        mockMvc.perform(post("/actuator/flightrecording").with(jwt()))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/flightrecording/{id}", 1L).with(jwt()))
+            .andExpect(status().isForbidden());
+
+        assertThat(flightRecordingEndpoint.status().state()).isEqualTo("NONE");
+    }
+
+    @Test
+    void download_ReturnsNotFoundForUnknownRecording() throws Exception {
+        mockMvc.perform(get("/actuator/flightrecording/{id}", Long.MAX_VALUE).with(jwt().authorities(OPERATOR)))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void status_ReportsNoRecordingBeforeStart() throws Exception {
+        mockMvc.perform(get("/actuator/flightrecording").with(jwt().authorities(OPERATOR)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("NONE"));
+    }
+}
@@ -0,0 +1,186 @@
+package com.ford.labs.retroquest.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.labs.retroquest.actionitem.ActionItem;
+import com.ford.labs.retroquest.actionitem.ActionItemBatch;
+import com.ford.labs.retroquest.board.EndRetroSummary;
+import com.ford.labs.retroquest.thought.Thought;
+import com.ford.labs.retroquest.websocket.events.WebsocketActionItemBatchEvent;
+import com.ford.labs.retroquest.websocket.events.WebsocketActionItemEvent;
+import com.ford.labs.retroquest.websocket.events.WebsocketEndRetroEvent;
+import com.ford.labs.retroquest.websocket.events.WebsocketThoughtEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static com.ford.labs.retroquest.websocket.events.WebsocketEventType.DELETE;
+import static com.ford.labs.retroquest.websocket.events.WebsocketEventType.UPDATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class TeamEventLogTest {
+
+    private static final Instant START = Instant.parse("2022-03-01T10:00:00Z");
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private TeamHistoryService historyService;
+
+    private final SteppingClock clock = new SteppingClock();
+    private final HistoryProperties properties = new HistoryProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TeamEventLog subject;
+    private String teamId;
+
+    @BeforeEach
+    void setUp() {
+        subject = new TeamEventLog(dataSource, mapper, historyService, properties, meterRegistry, clock);
+        teamId = UUID.randomUUID().toString();
+    }
+
+    @Test
+    void getBoardAt_ReplaysEventsUpToRequestedTime() {
+        subject.record(new WebsocketThoughtEvent(teamId, UPDATE, thought(1L, "first", 0)));
+        subject.record(new WebsocketThoughtEvent(teamId, UPDATE, thought(1L, "first", 3)));
+        subject.record(new WebsocketThoughtEvent(teamId, UPDATE, thought(2L, "second", 0)));
+        subject.record(new WebsocketThoughtEvent(teamId, DELETE, Thought.builder().id(2L).build()));
+        subject.flush();
+
+        assertThat(historyService.getBoardAt(teamId, START.minusSeconds(1)).thoughts()).isEmpty();
+        assertThat(historyService.getBoardAt(teamId, START.plusSeconds(1)).thoughts())
+            .containsExactly(thought(1L, "first", 3));
+        assertThat(historyService.getBoardAt(teamId, START.plusSeconds(2)).thoughts()).hasSize(2);
+        assertThat(historyService.getBoardAt(teamId, START.plusSeconds(3)).thoughts())
+            .extracting(Thought::getId).containsExactly(1L);
+    }
+
+    @Test
+    void getBoardAt_AfterEndRetro_ClearsThoughtsAndArchivesCompletedActionItems() {
+        subject.record(new WebsocketThoughtEvent(teamId, UPDATE, thought(1L, "first", 0)));
+        subject.record(new WebsocketActionItemEvent(teamId, UPDATE, actionItem(10L, true)));
+        subject.record(new WebsocketActionItemBatchEvent(teamId, UPDATE, ActionItemBatch.updated(List.of(actionItem(11L, false)))));
+        subject.record(new WebsocketEndRetroEvent(teamId, EndRetroSummary.of(null, List.of(10L))));
+        subject.flush();
+
+        var actual = historyService.getBoardAt(teamId, START.plusSeconds(10));
+
+        assertThat(actual.thoughts()).isEmpty();
+        assertThat(actual.actionItems()).extracting(ActionItem::getId, ActionItem::isArchived)
+            .containsExactly(tuple(10L, true), tuple(11L, false));
+    }
+
+    @Test
+    void getBoardAt_AfterEndRetroWithoutSummary_ArchivesCompletedActionItems() {
+        subject.record(new WebsocketThoughtEvent(teamId, UPDATE, thought(1L, "first", 0)));
+        subject.record(new WebsocketActionItemEvent(teamId, UPDATE, actionItem(10L, true)));
+        subject.record(new WebsocketActionItemBatchEvent(teamId, UPDATE, ActionItemBatch.updated(List.of(actionItem(11L, false)))));
+        subject.record(new WebsocketEndRetroEvent(teamId, null));
+        subject.flush();
+
+        var actual = historyService.getBoardAt(teamId, START.plusSeconds(10));
+
+        assertThat(actual.thoughts()).isEmpty();
+        assertThat(actual.actionItems()).extracting(ActionItem::getId, ActionItem::isArchived)
+            .containsExactly(tuple(10L, true), tuple(11L, false));
+    }
+
+    @Test
+    void flush_TakesSnapshotsSoHistoryReadsSkipEarlierEvents() {
+        properties.setSnapshotEvery(3);
+        for (var hearts = 0; hearts < 4; hearts++) {
+            subject.record(new WebsocketThoughtEvent(teamId, UPDATE, thought(1L, "first", hearts)));
+        }
+        subject.flush();
+
+        var jdbc = new JdbcTemplate(dataSource);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM team_snapshot WHERE team_id = ?", Integer.class, teamId)).isEqualTo(1);
+        jdbc.update("DELETE FROM team_event WHERE team_id = ? AND id < (SELECT MAX(id) FROM team_event WHERE team_id = ?)", teamId, teamId);
+
+        var actual = historyService.getBoardAt(teamId, START.plusSeconds(10));
+
+        assertThat(actual.thoughts()).containsExactly(thought(1L, "first", 3));
+    }
+
+    @Test
+    void record_WhenBufferIsFull_DropsAndCountsEvents() {
+        properties.setMaxBufferedEvents(2);
+        subject = new TeamEventLog(dataSource, mapper, historyService, properties, meterRegistry, clock);
+
+        for (var hearts = 0; hearts < 3; hearts++) {
+            subject.record(new WebsocketThoughtEvent(teamId, UPDATE, thought(1L, "first", hearts)));
+        }
+        subject.flush();
+
+        assertThat(meterRegistry.counter("retroquest.history.events.dropped").count()).isEqualTo(1);
+        var jdbc = new JdbcTemplate(dataSource);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM team_event WHERE team_id = ?", Integer.class, teamId)).isEqualTo(2);
+    }
+
+    @Test
+    void flush_TracksSnapshotCountsForAtMostMaxTrackedTeams() {
+        properties.setSnapshotEvery(2);
+        properties.setMaxTrackedTeams(1);
+        var otherTeamId = UUID.randomUUID().toString();
+
+        subject.record(new WebsocketThoughtEvent(teamId, UPDATE, thought(1L, "first", 0)));
+        subject.flush();
+        subject.record(new WebsocketThoughtEvent(otherTeamId, UPDATE, thought(2L, "second", 0)));
+        subject.flush();
+        subject.record(new WebsocketThoughtEvent(teamId, UPDATE, thought(1L, "first", 1)));
+        subject.flush();
+
+        var jdbc = new JdbcTemplate(dataSource);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM team_snapshot WHERE team_id = ?", Integer.class, teamId)).isZero();
+    }
+
+    private Thought thought(Long id, String message, int hearts) {
+        return Thought.builder().id(id).teamId(teamId).message(message).hearts(hearts).columnId(5L).build();
+    }
+
+    private ActionItem actionItem(Long id, boolean completed) {
+        return ActionItem.builder().id(id).teamId(teamId).task("task").completed(completed).build();
+    }
+
+    private static class SteppingClock extends Clock {
+        private Instant next = START;
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            var instant = next;
+            next = next.plusSeconds(1);
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.ford.labs.retroquest.history;
+
+import com.ford.labs.retroquest.querybudget.SqlStatementBudget;
+import com.ford.labs.retroquest.teamusermapping.TeamUserAuthorizationService;
+import com.ford.labs.retroquest.thought.Thought;
+import org.assertj.core.util.Lists;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@SqlStatementBudget(0)
+class TeamHistoryControllerTest {
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @MockBean
+    private TeamUserAuthorizationService teamUserAuthorizationService;
+
+    @MockBean
+    private TeamHistoryService teamHistoryService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void getBoardAt_ReturnsReconstructedBoard() throws Exception {
+        var teamId = UUID.randomUUID();
+        var at = Instant.parse("2022-03-01T10:00:00Z");
+        var thought = Thought.builder().id(1L).teamId(teamId.toString()).message("a thought").columnId(5L).build();
+        when(teamUserAuthorizationService.isUserMemberOfTeam(createAuthentication(), teamId)).thenReturn(true);
+        when(teamHistoryService.getBoardAt(teamId.toString(), at))
+            .thenReturn(new BoardAtTime(teamId.toString(), at, 42L, List.of(thought), List.of(), List.of()));
+
+        mockMvc.perform(get("/api/team/%s/history/board".formatted(teamId)).param("at", "2022-03-01T10:00:00Z")
+                .with(jwt()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.lastEventId").value(42))
+            .andExpect(jsonPath("$.thoughts[0].message").value("a thought"));
+    }
+
+    @Test
+    void getBoardAt_WhenUserIsNotOnTeam_Throws403() throws Exception {
+        var teamId = UUID.randomUUID();
+        when(teamUserAuthorizationService.isUserMemberOfTeam(createAuthentication(), teamId)).thenReturn(false);
+
+        mockMvc.perform(get("/api/team/%s/history/board".formatted(teamId)).param("at", "2022-03-01T10:00:00Z")
+                .with(jwt()))
+            .andExpect(status().isForbidden());
+    }
+
+    Authentication createAuthentication() {
+        var headers = new HashMap<String, Object>();
+        headers.put("alg", "none");
+        var claims = new HashMap<String, Object>();
+        claims.put("sub", "user");
+        claims.put("scope", "read");
+        var authorities = Lists.list(new SimpleGrantedAuthority("SCOPE_read"));
+        return new JwtAuthenticationToken(
+                new Jwt(
+                        "token",
+                        null,
+                        null,
+                        headers,
+                        claims
+                ),
+                authorities,
+                "user"
+        );
+    }
+}
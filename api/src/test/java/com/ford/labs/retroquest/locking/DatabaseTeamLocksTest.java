@@ -0,0 +1,76 @@
+package com.ford.labs.retroquest.locking;
+
+import com.ford.labs.retroquest.exception.TeamLockTimeoutException;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseTeamLocksTest {
+
+    private final EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .setName("team-locks-" + UUID.randomUUID())
+        .build();
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void secondNode_WaitsForLockHeldByFirstNode() {
+        new JdbcTemplate(database).execute("CREATE TABLE team_lock (team_id VARCHAR(255) PRIMARY KEY)");
+        var firstNode = new TeamLockManager(databaseProperties(), database);
+        var secondNode = new TeamLockManager(databaseProperties(), database);
+
+        firstNode.runWithTeamLock("team-a", () -> {
+            assertThatThrownBy(() -> secondNode.runWithTeamLock("team-a", () -> { }))
+                .isInstanceOf(TeamLockTimeoutException.class);
+            assertThat(secondNode.withTeamLock("team-b", () -> "other team")).isEqualTo("other team");
+        });
+
+        assertThat(secondNode.withTeamLock("team-a", () -> "released")).isEqualTo("released");
+    }
+
+    @Test
+    void lockInsideTransaction_UsesTheTransactionsConnection() {
+        try (var pool = new HikariDataSource()) {
+            pool.setJdbcUrl("jdbc:h2:mem:team-locks-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+            pool.setMaximumPoolSize(2);
+            pool.setConnectionTimeout(250);
+            new JdbcTemplate(pool).execute("CREATE TABLE team_lock (team_id VARCHAR(255) PRIMARY KEY)");
+            var transactions = new TransactionTemplate(new DataSourceTransactionManager(pool));
+            var firstNode = new TeamLockManager(databaseProperties(), pool);
+            var secondNode = new TeamLockManager(databaseProperties(), pool);
+
+            transactions.executeWithoutResult(status -> firstNode.runWithTeamLock("team-a", () -> {
+                assertThat(pool.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+                var otherNode = CompletableFuture.runAsync(() -> secondNode.runWithTeamLock("team-a", () -> { }));
+                assertThatThrownBy(otherNode::join).hasCauseInstanceOf(TeamLockTimeoutException.class);
+            }));
+
+            transactions.executeWithoutResult(status -> secondNode.runWithTeamLock("team-a", () -> { }));
+            assertThat(pool.getHikariPoolMXBean().getActiveConnections()).isZero();
+        }
+    }
+
+    private static TeamLockProperties databaseProperties() {
+        var properties = new TeamLockProperties();
+        properties.setBackend(TeamLockProperties.Backend.DATABASE);
+        properties.setTimeout(Duration.ofSeconds(1));
+        return properties;
+    }
+}
@@ -0,0 +1,85 @@
+package com.ford.labs.retroquest.locking;
+
+import com.ford.labs.retroquest.exception.TeamLockTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TeamLockManagerTest {
+
+    private final TeamLockManager subject = new TeamLockManager(Duration.ofMillis(200));
+    private final CountDownLatch locked = new CountDownLatch(1);
+    private final CountDownLatch finish = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        finish.countDown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void withTeamLock_WhileSameTeamIsLocked_TimesOut() throws Exception {
+        holdLockInBackground("team-a");
+
+        assertThatThrownBy(() -> subject.withTeamLock("team-a", () -> "never"))
+            .isInstanceOf(TeamLockTimeoutException.class);
+    }
+
+    @Test
+    void withTeamLock_WhileOtherTeamIsLocked_RunsImmediately() throws Exception {
+        holdLockInBackground("team-a");
+
+        assertThat(subject.withTeamLock("team-b", () -> "done")).isEqualTo("done");
+    }
+
+    @Test
+    void withTeamLock_IsReentrantAndForgetsUnusedLocks() {
+        var actual = subject.withTeamLock("team-a", () -> subject.withTeamLock("team-a", () -> "nested"));
+
+        assertThat(actual).isEqualTo("nested");
+        assertThat(subject.lockedTeamCount()).isZero();
+    }
+
+    @Test
+    void withTeamLock_InsideTransaction_HoldsLockUntilTransactionCompletes() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        subject.runWithTeamLock("team-a", () -> { });
+
+        var otherThread = CompletableFuture.supplyAsync(() -> subject.withTeamLock("team-a", () -> "after commit"));
+        assertThatThrownBy(otherThread::join).hasCauseInstanceOf(TeamLockTimeoutException.class);
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+            TransactionSynchronizationManager.getSynchronizations(),
+            TransactionSynchronization.STATUS_COMMITTED
+        );
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(CompletableFuture.supplyAsync(() -> subject.withTeamLock("team-a", () -> "after commit")).get())
+            .isEqualTo("after commit");
+        assertThat(subject.lockedTeamCount()).isZero();
+    }
+
+    private void holdLockInBackground(String teamId) throws InterruptedException {
+        CompletableFuture.runAsync(() -> subject.runWithTeamLock(teamId, () -> {
+            locked.countDown();
+            try {
+                finish.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ford.labs.retroquest.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CountMinSketchTest {
+
+    @Test
+    void estimate_NeverUndercounts() {
+        var sketch = new CountMinSketch(64, 4);
+        for (var i = 0; i < 1_000; i++) {
+            sketch.add("team-" + (i % 200), 1);
+        }
+
+        for (var i = 0; i < 200; i++) {
+            assertThat(sketch.estimate("team-" + i)).isGreaterThanOrEqualTo(5);
+        }
+    }
+
+    @Test
+    void estimate_IsExactForASingleKey() {
+        var sketch = new CountMinSketch(64, 4);
+        sketch.add("team", 3);
+        assertThat(sketch.add("team", 4)).isEqualTo(7);
+        assertThat(sketch.estimate("team")).isEqualTo(7);
+        assertThat(sketch.estimate("other-team")).isZero();
+    }
+
+    @Test
+    void clear_ResetsAllCounters() {
+        var sketch = new CountMinSketch(64, 4);
+        sketch.add("team", 3);
+        sketch.clear();
+        assertThat(sketch.estimate("team")).isZero();
+    }
+
+    @Test
+    void constructor_RejectsUnsupportedDimensions() {
+        assertThatThrownBy(() -> new CountMinSketch(0, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CountMinSketch(64, 9)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
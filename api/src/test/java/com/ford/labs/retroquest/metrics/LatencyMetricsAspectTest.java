@@ -0,0 +1,87 @@
+package com.ford.labs.retroquest.metrics;
+
+import com.ford.labs.retroquest.column.ColumnService;
+import com.ford.labs.retroquest.thought.ThoughtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.ford.labs.retroquest.metrics.LatencyMetricsAspect.REPOSITORY_TIMER;
+import static com.ford.labs.retroquest.metrics.LatencyMetricsAspect.SERVICE_TIMER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class LatencyMetricsAspectTest {
+
+    private static final SimpleGrantedAuthority OPERATOR = new SimpleGrantedAuthority("SCOPE_retroquest.operator");
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private ThoughtService thoughtService;
+
+    @Autowired
+    private ColumnService columnService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void serviceCall_RecordsTimerWithSloBuckets() {
+        thoughtService.fetchAllActiveThoughts("latency-metrics-team");
+
+        var timer = meterRegistry.get(SERVICE_TIMER)
+            .tags("class", "ThoughtService", "method", "fetchAllActiveThoughts", "exception", "none")
+            .timer();
+        assertThat(timer.count()).isPositive();
+        assertThat(timer.takeSnapshot().histogramCounts()).hasSize(9);
+    }
+
+    @Test
+    void serviceCall_TagsThrownException() {
+        var thrown = catchThrowable(() -> columnService.fetchColumn("latency-metrics-team", -1L));
+        assertThat(thrown).isNotNull();
+
+        assertThat(meterRegistry.get(SERVICE_TIMER)
+            .tags("class", "ColumnService", "method", "fetchColumn", "exception", thrown.getClass().getSimpleName())
+            .timer()
+            .count()).isPositive();
+    }
+
+    @Test
+    void repositoryCall_RecordsTimerTaggedByRepositoryInterface() {
+        thoughtService.fetchAllActiveThoughts("latency-metrics-team");
+
+        var timer = meterRegistry.get(REPOSITORY_TIMER)
+            .tags("repository", "ThoughtRepository", "exception", "none")
+            .timer();
+        assertThat(timer.count()).isPositive();
+        assertThat(timer.takeSnapshot().histogramCounts()).hasSize(8);
+    }
+
+    @Test
+    void metricsEndpoint_ExposesServiceTimers() throws Exception {
+        thoughtService.fetchAllActiveThoughts("latency-metrics-team");
+
+        mockMvc.perform(get("/actuator/metrics/" + SERVICE_TIMER).with(jwt().authorities(OPERATOR)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.availableTags[?(@.tag == 'class')].values[*]").value(hasItem("ThoughtService")));
+    }
+}
@@ -0,0 +1,110 @@
+package com.ford.labs.retroquest.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.time.Clock;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetroActivityMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RetroActivityMetrics metrics = new RetroActivityMetrics(meterRegistry, Clock.systemUTC());
+
+    @Test
+    void thoughtsAndHearts_UpdateCountersAndPerMinuteGauges() {
+        metrics.thoughtCreated();
+        metrics.thoughtCreated();
+        metrics.heartAdded();
+
+        assertThat(meterRegistry.get("retroquest.thoughts.created").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("retroquest.thoughts.created.per.minute").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("retroquest.thoughts.hearts").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("retroquest.thoughts.hearts.per.minute").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void retrosAndActionItems_UpdateCounters() {
+        metrics.retroEnded();
+        metrics.actionItemCreated();
+        metrics.actionItemsCompleted(3);
+
+        assertThat(meterRegistry.get("retroquest.retros.ended").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("retroquest.retros.ended.per.hour").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("retroquest.actionitems.created").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("retroquest.actionitems.completed").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void sessionLifecycle_TracksConnectedParticipantsAndActiveRetros() {
+        metrics.onSessionConnected(new SessionConnectedEvent(this, message(StompCommand.CONNECTED, "session-1", null)));
+        metrics.onSessionConnected(new SessionConnectedEvent(this, message(StompCommand.CONNECTED, "session-2", null)));
+        metrics.onSessionConnected(new SessionConnectedEvent(this, message(StompCommand.CONNECTED, "session-3", null)));
+        metrics.onSessionSubscribe(new SessionSubscribeEvent(this, message(StompCommand.SUBSCRIBE, "session-1", "/topic/team-a/thoughts")));
+        metrics.onSessionSubscribe(new SessionSubscribeEvent(this, message(StompCommand.SUBSCRIBE, "session-1", "/topic/team-a/action-items")));
+        metrics.onSessionSubscribe(new SessionSubscribeEvent(this, message(StompCommand.SUBSCRIBE, "session-2", "/topic/team-a/thoughts")));
+        metrics.onSessionSubscribe(new SessionSubscribeEvent(this, message(StompCommand.SUBSCRIBE, "session-3", "/topic/team-b/thoughts")));
+
+        assertThat(meterRegistry.get("retroquest.participants.connected").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("retroquest.retros.active").gauge().value()).isEqualTo(2);
+
+        metrics.onSessionDisconnect(disconnect("session-1"));
+        metrics.onSessionDisconnect(disconnect("session-1"));
+        metrics.onSessionDisconnect(disconnect("session-3"));
+
+        assertThat(meterRegistry.get("retroquest.participants.connected").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("retroquest.retros.active").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void sessionLifecycle_ConcurrentSubscribesAndDisconnects_KeepTheTeamActive() throws Exception {
+        metrics.onSessionConnected(new SessionConnectedEvent(this, message(StompCommand.CONNECTED, "staying", null)));
+        metrics.onSessionSubscribe(new SessionSubscribeEvent(this, message(StompCommand.SUBSCRIBE, "staying", "/topic/team-a/thoughts")));
+
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var sessions = IntStream.range(0, 2_000).mapToObj(index -> "session-" + index).toList();
+            var tasks = sessions.stream().<Callable<Void>>map(sessionId -> () -> {
+                metrics.onSessionConnected(new SessionConnectedEvent(this, message(StompCommand.CONNECTED, sessionId, null)));
+                metrics.onSessionSubscribe(new SessionSubscribeEvent(this, message(StompCommand.SUBSCRIBE, sessionId, "/topic/team-b/thoughts")));
+                metrics.onSessionDisconnect(disconnect(sessionId));
+                return null;
+            }).toList();
+            for (var result : executor.invokeAll(tasks)) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        metrics.onSessionConnected(new SessionConnectedEvent(this, message(StompCommand.CONNECTED, "late", null)));
+        metrics.onSessionSubscribe(new SessionSubscribeEvent(this, message(StompCommand.SUBSCRIBE, "late", "/topic/team-b/thoughts")));
+
+        assertThat(meterRegistry.get("retroquest.participants.connected").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("retroquest.retros.active").gauge().value()).isEqualTo(2);
+    }
+
+    private static SessionDisconnectEvent disconnect(String sessionId) {
+        return new SessionDisconnectEvent(new Object(), message(StompCommand.DISCONNECT, sessionId, null), sessionId, CloseStatus.NORMAL);
+    }
+
+    private static Message<byte[]> message(StompCommand command, String sessionId, String destination) {
+        var accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,91 @@
+package com.ford.labs.retroquest.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RollingWindowCounterTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2022-05-01T12:00:00Z"));
+    private final RollingWindowCounter counter = new RollingWindowCounter(Duration.ofMinutes(1), 60, clock);
+
+    @Test
+    void sum_CountsEventsInsideTheWindow() {
+        counter.increment();
+        clock.advance(Duration.ofSeconds(30));
+        counter.increment();
+        counter.increment();
+
+        assertThat(counter.sum()).isEqualTo(3);
+    }
+
+    @Test
+    void sum_DropsEventsOlderThanTheWindow() {
+        counter.increment();
+        clock.advance(Duration.ofSeconds(30));
+        counter.increment();
+        clock.advance(Duration.ofSeconds(31));
+
+        assertThat(counter.sum()).isEqualTo(1);
+    }
+
+    @Test
+    void increment_ReusesExpiredSlots() {
+        counter.increment();
+        clock.advance(Duration.ofMinutes(1));
+        counter.increment();
+
+        assertThat(counter.sum()).isEqualTo(1);
+    }
+
+    @Test
+    void increment_DoesNotLoseConcurrentUpdates() throws InterruptedException {
+        var executor = Executors.newFixedThreadPool(4);
+        for (var i = 0; i < 4; i++) {
+            executor.submit(() -> {
+                for (var j = 0; j < 10_000; j++) {
+                    counter.increment();
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(counter.sum()).isEqualTo(40_000);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
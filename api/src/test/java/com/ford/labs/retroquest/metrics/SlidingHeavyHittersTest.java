@@ -0,0 +1,84 @@
+package com.ford.labs.retroquest.metrics;
+
+import com.ford.labs.retroquest.metrics.SlidingHeavyHitters.HeavyHitter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingHeavyHittersTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2022-05-01T12:00:00Z"));
+    private final SlidingHeavyHitters heavyHitters = new SlidingHeavyHitters(Duration.ofMinutes(1), 5, 3, 256, 4, clock);
+
+    @Test
+    void top_ReturnsHeaviestKeysInOrder() {
+        heavyHitters.add("quiet", 1);
+        heavyHitters.add("busy", 10);
+        heavyHitters.add("medium", 5);
+
+        assertThat(heavyHitters.top(Duration.ofMinutes(1), 2))
+            .containsExactly(new HeavyHitter("busy", 10), new HeavyHitter("medium", 5));
+    }
+
+    @Test
+    void top_KeepsHeavyKeysWhenManyLightKeysArrive() {
+        heavyHitters.add("busy", 100);
+        for (var i = 0; i < 10_000; i++) {
+            heavyHitters.add("light-" + i, 1);
+        }
+
+        assertThat(heavyHitters.top(Duration.ofMinutes(1), 1)).extracting(HeavyHitter::key).containsExactly("busy");
+    }
+
+    @Test
+    void top_SumsBucketsInsideTheWindowOnly() {
+        heavyHitters.add("team", 4);
+        clock.advance(Duration.ofMinutes(1));
+        heavyHitters.add("team", 2);
+
+        assertThat(heavyHitters.top(Duration.ofMinutes(1), 1)).containsExactly(new HeavyHitter("team", 2));
+        assertThat(heavyHitters.top(Duration.ofMinutes(2), 1)).containsExactly(new HeavyHitter("team", 6));
+    }
+
+    @Test
+    void top_ForgetsBucketsThatSlideOutOfHistory() {
+        heavyHitters.add("old", 50);
+        clock.advance(Duration.ofMinutes(5));
+        heavyHitters.add("new", 1);
+
+        assertThat(heavyHitters.top(Duration.ofMinutes(5), 5)).containsExactly(new HeavyHitter("new", 1));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ford.labs.retroquest.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TeamActivityEndpointTest {
+
+    private static final SimpleGrantedAuthority OPERATOR = new SimpleGrantedAuthority("SCOPE_retroquest.operator");
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private TeamActivityTracker teamActivityTracker;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void teamActivityEndpoint_ListsBusiestTeamsPerWindow() throws Exception {
+        var teamId = UUID.randomUUID().toString();
+        for (var i = 0; i < 1_000; i++) {
+            teamActivityTracker.recordRequest(teamId, true);
+        }
+        teamActivityTracker.recordPublish(teamId, 1_000_000);
+
+        mockMvc.perform(get("/actuator/teamactivity").param("limit", "1").with(jwt().authorities(OPERATOR)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[0].window").value("PT1M"))
+            .andExpect(jsonPath("$[0].requests[0].teamId").value(teamId))
+            .andExpect(jsonPath("$[0].writes[0].teamId").value(teamId))
+            .andExpect(jsonPath("$[2].fanoutBytes[0].teamId").value(teamId));
+    }
+}
@@ -0,0 +1,44 @@
+package com.ford.labs.retroquest.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class TeamActivityInterceptorTest {
+
+    private final TeamActivityTracker tracker = mock(TeamActivityTracker.class);
+    private final TeamActivityInterceptor interceptor = new TeamActivityInterceptor(tracker);
+
+    @Test
+    void preHandle_RecordsReadsForTeamPaths() {
+        interceptor.preHandle(teamRequest("GET"), new MockHttpServletResponse(), new Object());
+        verify(tracker).recordRequest("team-id", false);
+    }
+
+    @Test
+    void preHandle_RecordsWritesForMutatingMethods() {
+        interceptor.preHandle(teamRequest("PUT"), new MockHttpServletResponse(), new Object());
+        verify(tracker).recordRequest("team-id", true);
+    }
+
+    @Test
+    void preHandle_IgnoresRequestsWithoutATeam() {
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/contributors"), new MockHttpServletResponse(), new Object());
+        verify(tracker, never()).recordRequest(anyString(), anyBoolean());
+    }
+
+    private static MockHttpServletRequest teamRequest(String method) {
+        var request = new MockHttpServletRequest(method, "/api/team/team-id/thoughts");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("teamId", "team-id"));
+        return request;
+    }
+}
@@ -0,0 +1,33 @@
+package com.ford.labs.retroquest.querybudget;
+
+import com.ford.labs.retroquest.column.Column;
+import com.ford.labs.retroquest.column.ColumnService;
+import com.ford.labs.retroquest.team.TeamService;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A real team, with its columns, that the default MockMvc {@code jwt()} user belongs to.
+ */
+public record BudgetTestTeam(UUID id, List<Column> columns) {
+    private static final List<String> TEAM_TABLES = List.of("thought", "action_item", "board", "rq_column");
+
+    public static BudgetTestTeam create(TeamService teamService, ColumnService columnService) {
+        var team = teamService.createTeam("Budget " + UUID.randomUUID(), "user");
+        return new BudgetTestTeam(team.getId(), columnService.getColumns(team.getId().toString()));
+    }
+
+    public String teamId() {
+        return id.toString();
+    }
+
+    public void delete(DataSource dataSource) {
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        TEAM_TABLES.forEach(table -> jdbcTemplate.update("DELETE FROM %s WHERE team_id = ?".formatted(table), teamId()));
+        jdbcTemplate.update("DELETE FROM team_user_mapping WHERE team_id = ?", id);
+        jdbcTemplate.update("DELETE FROM team WHERE id = ?", id);
+    }
+}
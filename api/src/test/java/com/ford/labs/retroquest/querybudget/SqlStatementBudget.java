@@ -0,0 +1,22 @@
+package com.ford.labs.retroquest.querybudget;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test when any single request it makes through MockMvc executes more SQL statements than allowed.
+ * Put it on the test class to count statements for the whole suite; a method-level annotation overrides the
+ * class-level budget for that test.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Import(SqlStatementBudgetConfig.class)
+@ExtendWith(SqlStatementBudgetExtension.class)
+public @interface SqlStatementBudget {
+    int value();
+}
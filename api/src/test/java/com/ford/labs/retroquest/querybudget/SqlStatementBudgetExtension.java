@@ -0,0 +1,36 @@
+package com.ford.labs.retroquest.querybudget;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.util.stream.Collectors;
+
+class SqlStatementBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        SqlStatementCounter.clear();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        var budget = AnnotatedElementUtils.findMergedAnnotation(context.getRequiredTestMethod(), SqlStatementBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(context.getRequiredTestClass(), SqlStatementBudget.class);
+        }
+        if (budget == null) {
+            return;
+        }
+        var max = budget.value();
+        var overBudget = SqlStatementCounter.recorded().stream()
+            .filter(request -> request.statements() > max)
+            .map(request -> "%s executed %d statements".formatted(request.request(), request.statements()))
+            .collect(Collectors.joining(", "));
+        SqlStatementCounter.clear();
+        if (!overBudget.isEmpty()) {
+            throw new AssertionError("SQL statement budget of %d per request exceeded: %s".formatted(max, overBudget));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ford.labs.retroquest.querybudget;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+final class SqlStatementCounter {
+    private static final ThreadLocal<int[]> CURRENT_REQUEST = new ThreadLocal<>();
+    private static final Queue<RequestStatements> RECORDED = new ConcurrentLinkedQueue<>();
+
+    private SqlStatementCounter() {
+    }
+
+    static void statementExecuted() {
+        var count = CURRENT_REQUEST.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    static void startRequest() {
+        CURRENT_REQUEST.set(new int[1]);
+    }
+
+    static void endRequest(String request) {
+        var count = CURRENT_REQUEST.get();
+        CURRENT_REQUEST.remove();
+        if (count != null) {
+            RECORDED.add(new RequestStatements(request, count[0]));
+        }
+    }
+
+    static void clear() {
+        RECORDED.clear();
+    }
+
+    static List<RequestStatements> recorded() {
+        return List.copyOf(RECORDED);
+    }
+
+    record RequestStatements(String request, int statements) { }
+}
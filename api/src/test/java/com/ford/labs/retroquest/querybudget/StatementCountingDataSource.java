@@ -0,0 +1,70 @@
+package com.ford.labs.retroquest.querybudget;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+class StatementCountingDataSource extends DelegatingDataSource {
+
+    StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            StatementCountingDataSource.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                var result = invoke(connection, method, args);
+                if (result instanceof CallableStatement statement) {
+                    return countingStatement(statement, CallableStatement.class);
+                }
+                if (result instanceof PreparedStatement statement) {
+                    return countingStatement(statement, PreparedStatement.class);
+                }
+                if (result instanceof Statement statement) {
+                    return countingStatement(statement, Statement.class);
+                }
+                return result;
+            }
+        );
+    }
+
+    private static <T extends Statement> T countingStatement(T statement, Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(
+            StatementCountingDataSource.class.getClassLoader(),
+            new Class<?>[]{type},
+            (proxy, method, args) -> {
+                if (method.getName().startsWith("execute")) {
+                    SqlStatementCounter.statementExecuted();
+                }
+                return invoke(statement, method, args);
+            }
+        ));
+    }
+
+    private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ford.labs.retroquest.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+
+    private static final SimpleGrantedAuthority OPERATOR = new SimpleGrantedAuthority("SCOPE_retroquest.operator");
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void health_IsAvailableToAnyAuthenticatedUser() throws Exception {
+        mockMvc.perform(get("/actuator/health").with(jwt()))
+            .andExpect(jsonPath("$.status").exists());
+    }
+
+    @Test
+    void managementEndpoints_RequireTheOperatorAuthority() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").with(jwt()))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").with(jwt().authorities(OPERATOR)))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void managementEndpoints_RequireAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+            .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,52 @@
+package com.ford.labs.retroquest.servertiming;
+
+import com.ford.labs.retroquest.servertiming.ServerTimingContext.Phase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingContextTest {
+
+    @AfterEach
+    void tearDown() {
+        ServerTimingContext.end();
+    }
+
+    @Test
+    void nestedPhases_AreChargedExclusively() throws InterruptedException {
+        var context = ServerTimingContext.begin();
+
+        context.start(Phase.ENTITY_AUTHORIZATION);
+        context.start(Phase.DB);
+        Thread.sleep(50);
+        context.stop();
+        context.stop();
+
+        assertThat(context.millis(Phase.DB)).isGreaterThanOrEqualTo(50);
+        assertThat(context.millis(Phase.ENTITY_AUTHORIZATION)).isLessThan(50);
+        assertThat(context.calls(Phase.DB)).isEqualTo(1);
+        assertThat(context.calls(Phase.ENTITY_AUTHORIZATION)).isEqualTo(1);
+    }
+
+    @Test
+    void toHeader_ListsRecordedPhasesAndTotal() {
+        var context = ServerTimingContext.begin();
+        context.start(Phase.DB);
+        context.stop();
+        context.start(Phase.DB);
+        context.stop();
+
+        assertThat(context.toHeader(12_340_000))
+            .matches("db;dur=\\d+\\.\\d;desc=\"2 calls\", total;dur=12\\.3");
+    }
+
+    @Test
+    void current_IsOnlySetBetweenBeginAndEnd() {
+        assertThat(ServerTimingContext.current()).isNull();
+        var context = ServerTimingContext.begin();
+        assertThat(ServerTimingContext.current()).isSameAs(context);
+        ServerTimingContext.end();
+        assertThat(ServerTimingContext.current()).isNull();
+    }
+}
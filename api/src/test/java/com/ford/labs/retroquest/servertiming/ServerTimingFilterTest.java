@@ -0,0 +1,110 @@
+package com.ford.labs.retroquest.servertiming;
+
+import com.ford.labs.retroquest.board.BoardService;
+import com.ford.labs.retroquest.column.ColumnService;
+import com.ford.labs.retroquest.querybudget.BudgetTestTeam;
+import com.ford.labs.retroquest.team.TeamService;
+import com.ford.labs.retroquest.thought.CreateThoughtRequest;
+import com.ford.labs.retroquest.thought.ThoughtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "retroquest.server-timing.enabled=true",
+    "retroquest.server-timing.slow-request-threshold=0ms",
+    "retroquest.server-timing.slow-request-log-sample-rate=1.0"
+})
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class ServerTimingFilterTest {
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private ColumnService columnService;
+
+    @Autowired
+    private ThoughtService thoughtService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private BudgetTestTeam team;
+
+    @BeforeEach
+    void setUp() {
+        team = BudgetTestTeam.create(teamService, columnService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        team.delete(dataSource);
+    }
+
+    @Test
+    void getBoard_ReportsPhasesFinishedBeforeTheBodyInServerTimingHeader(CapturedOutput output) throws Exception {
+        thoughtService.createThought(team.teamId(), new CreateThoughtRequest("a thought", team.columns().get(0).getId()));
+        var boardId = boardService.endRetro(team.teamId()).board().id();
+
+        mockMvc.perform(get("/api/team/{teamId}/boards/{boardId}", team.id(), boardId).with(jwt()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(boardId))
+            .andExpect(header().string(ServerTimingFilter.HEADER, allOf(
+                containsString("auth-membership;dur="),
+                containsString("auth-entity;dur="),
+                containsString("db;dur="),
+                not(containsString("serialization;dur=")),
+                containsString("total;dur=")
+            )));
+
+        assertThat(output.getOut()).contains("serialization_calls=1");
+    }
+
+    @Test
+    void slowRequests_AreLoggedWithPhaseBreakdown(CapturedOutput output) throws Exception {
+        mockMvc.perform(get("/api/team/{teamId}/boards", team.id()).with(jwt()))
+            .andExpect(status().isOk());
+
+        assertThat(output.getOut())
+            .contains("slow_request method=GET pattern=/api/team/{teamId}/boards")
+            .contains("auth_membership_calls=1");
+    }
+
+    @Test
+    void nonApiRequests_AreNotTimed() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+            .andExpect(header().doesNotExist(ServerTimingFilter.HEADER));
+    }
+}
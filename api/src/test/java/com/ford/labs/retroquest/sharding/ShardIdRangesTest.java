@@ -0,0 +1,70 @@
+package com.ford.labs.retroquest.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.ford.labs.retroquest.sharding.ShardingTestDatabases.migratedDatabase;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardIdRangesTest {
+
+    private final EmbeddedDatabase blue = migratedDatabase("blue");
+
+    @AfterEach
+    void tearDown() {
+        blue.shutdown();
+    }
+
+    @Test
+    void new_WithShardsSharingABlock_Fails() {
+        assertThatThrownBy(() -> new ShardIdRanges(properties(Map.of("blue", 1L, "green", 1L))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("overlap");
+    }
+
+    @Test
+    void new_WithShardInTheDefaultShardsBlock_Fails() {
+        assertThatThrownBy(() -> new ShardIdRanges(properties(Map.of("blue", 0L))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("overlap");
+    }
+
+    @Test
+    void reserve_StartsNewShardIdsAtItsBlock() {
+        var idRanges = new ShardIdRanges(properties(Map.of("blue", 2L)));
+
+        idRanges.reserve("blue", blue);
+        idRanges.reserve("blue", blue);
+
+        var jdbc = new JdbcTemplate(blue);
+        jdbc.update("INSERT INTO action_item (task, completed, archived, team_id) VALUES ('task', false, false, 'team')");
+        assertThat(jdbc.queryForObject("SELECT id FROM action_item", Long.class)).isEqualTo(2000);
+    }
+
+    @Test
+    void reserve_WithADifferentBlockThanBefore_Fails() {
+        new ShardIdRanges(properties(Map.of("blue", 2L))).reserve("blue", blue);
+
+        assertThatThrownBy(() -> new ShardIdRanges(properties(Map.of("blue", 3L))).reserve("blue", blue))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static ShardingProperties properties(Map<String, Long> blocks) {
+        var properties = new ShardingProperties();
+        properties.setIdRangeSize(1000);
+        var shards = new LinkedHashMap<String, ShardingProperties.Shard>();
+        blocks.forEach((name, block) -> {
+            var shard = new ShardingProperties.Shard();
+            shard.setIdBlock(block);
+            shards.put(name, shard);
+        });
+        properties.setShards(shards);
+        return properties;
+    }
+}
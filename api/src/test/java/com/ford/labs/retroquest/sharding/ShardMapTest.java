@@ -0,0 +1,59 @@
+package com.ford.labs.retroquest.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.ford.labs.retroquest.sharding.ShardingTestDatabases.migratedDatabase;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardMapTest {
+
+    private static final Set<String> SHARDS = Set.of(ShardMap.DEFAULT_SHARD, "blue", "green");
+
+    private final EmbeddedDatabase global = migratedDatabase("global");
+
+    @AfterEach
+    void tearDown() {
+        global.shutdown();
+    }
+
+    @Test
+    void shardFor_UnassignedTeam_ReturnsDefaultShard() {
+        var subject = new ShardMap(global, SHARDS, Map.of());
+
+        assertThat(subject.shardFor(UUID.randomUUID())).isEqualTo(ShardMap.DEFAULT_SHARD);
+    }
+
+    @Test
+    void shardFor_ConfiguredTeam_ReturnsConfiguredShard() {
+        var teamId = UUID.randomUUID();
+        var subject = new ShardMap(global, SHARDS, Map.of(teamId, "blue"));
+
+        assertThat(subject.shardFor(teamId)).isEqualTo("blue");
+    }
+
+    @Test
+    void assign_PersistsAssignmentAndOverridesConfiguration() {
+        var teamId = UUID.randomUUID();
+        new ShardMap(global, SHARDS, Map.of(teamId, "blue")).assign(teamId, "green");
+
+        var reloaded = new ShardMap(global, SHARDS, Map.of(teamId, "blue"));
+
+        assertThat(reloaded.shardFor(teamId)).isEqualTo("green");
+        assertThat(reloaded.assignments()).containsEntry(teamId, "green");
+    }
+
+    @Test
+    void assign_UnknownShard_Throws() {
+        var subject = new ShardMap(global, SHARDS, Map.of());
+
+        assertThatThrownBy(() -> subject.assign(UUID.randomUUID(), "purple"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,261 @@
+package com.ford.labs.retroquest.sharding;
+
+import com.ford.labs.retroquest.actionitem.ActionItem;
+import com.ford.labs.retroquest.actionitem.ActionItemRepository;
+import com.ford.labs.retroquest.actionitem.ActionItemService;
+import com.ford.labs.retroquest.column.Column;
+import com.ford.labs.retroquest.column.ColumnRepository;
+import com.ford.labs.retroquest.column.ColumnService;
+import com.ford.labs.retroquest.column.RetroTypeRegistry;
+import com.ford.labs.retroquest.team.Team;
+import com.ford.labs.retroquest.team.TeamRepository;
+import com.ford.labs.retroquest.teamusermapping.TeamUserMappingService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "retroquest.sharding.enabled=true",
+    "retroquest.sharding.shards.blue.url=jdbc:h2:mem:sharding-config-test-blue;DB_CLOSE_DELAY=-1",
+    "retroquest.sharding.shards.blue.username=sa",
+    "retroquest.sharding.shards.blue.password=",
+    "retroquest.sharding.shards.blue.id-block=1",
+    "retroquest.sharding.teams[6f1c2a7e-5b1d-4c4e-9a51-3f1b6f0e7d21]=blue",
+    "retroquest.retro-types.types.glad-meh-mad[0].topic=happy",
+    "retroquest.retro-types.types.glad-meh-mad[0].title=Glad",
+    "retroquest.retro-types.types.glad-meh-mad[1].topic=confused",
+    "retroquest.retro-types.types.glad-meh-mad[1].title=Meh",
+    "retroquest.retro-types.types.glad-meh-mad[2].topic=unhappy",
+    "retroquest.retro-types.types.glad-meh-mad[2].title=Mad"
+})
+@AutoConfigureMockMvc
+class ShardingConfigTest {
+
+    private static final UUID BLUE_TEAM = UUID.fromString("6f1c2a7e-5b1d-4c4e-9a51-3f1b6f0e7d21");
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private ActionItemRepository actionItemRepository;
+
+    @Autowired
+    private ShardDataSources shardDataSources;
+
+    @Autowired
+    private HikariDataSource globalDataSource;
+
+    @Autowired
+    private TeamShardRebalancer rebalancer;
+
+    @Autowired
+    private ShardMap shardMap;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private ColumnService columnService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ActionItemService actionItemService;
+
+    @Autowired
+    private TeamUserMappingService teamUserMappingService;
+
+    private JdbcTemplate blue;
+    private JdbcTemplate global;
+
+    @BeforeEach
+    void setUp() {
+        blue = new JdbcTemplate(shardDataSources.asMap().get("blue"));
+        global = new JdbcTemplate(globalDataSource);
+    }
+
+    @Test
+    void repositoryCallForAssignedTeam_WritesToTeamShard() {
+        var saved = TeamShardContext.callForTeam(BLUE_TEAM, () -> actionItemRepository.save(actionItem(BLUE_TEAM)));
+
+        assertThat(rowExists(blue, saved.getId())).isTrue();
+        assertThat(rowExists(global, saved.getId())).isFalse();
+        assertThat(TeamShardContext.callForTeam(BLUE_TEAM, () -> actionItemRepository.findById(saved.getId()))).isPresent();
+    }
+
+    @Test
+    void secondLevelAndQueryCaches_AreOff() {
+        var options = entityManagerFactory.unwrap(SessionFactory.class).getSessionFactoryOptions();
+
+        assertThat(options.isSecondLevelCacheEnabled()).isFalse();
+        assertThat(options.isQueryCacheEnabled()).isFalse();
+    }
+
+    @Test
+    void repositoryCallForUnassignedTeam_WritesToDefaultShard() {
+        var teamId = UUID.randomUUID();
+
+        var saved = TeamShardContext.callForTeam(teamId, () -> actionItemRepository.save(actionItem(teamId)));
+
+        assertThat(rowExists(global, saved.getId())).isTrue();
+    }
+
+    @Test
+    void moveTeam_KeepsTeamDataReadableThroughRepositories() {
+        var teamId = UUID.randomUUID();
+        TeamShardContext.callForTeam(teamId, () -> actionItemRepository.save(actionItem(teamId)));
+
+        rebalancer.moveTeam(teamId, "blue");
+
+        var actual = TeamShardContext.callForTeam(teamId, () -> actionItemRepository.findAllByTeamIdAndArchived(teamId.toString(), false));
+        assertThat(actual).hasSize(1);
+        assertThat(blue.queryForObject("SELECT COUNT(*) FROM action_item WHERE team_id = ?", Integer.class, teamId.toString())).isEqualTo(1);
+    }
+
+    @Test
+    void moveTeamEndpoint_RequiresTheOperatorAuthority() throws Exception {
+        var teamId = UUID.randomUUID();
+        var request = "{\"teamId\":\"" + teamId + "\",\"shard\":\"blue\"}";
+
+        mockMvc.perform(post("/actuator/teamshards").contentType("application/json").content(request).with(jwt()))
+            .andExpect(status().isForbidden());
+        assertThat(shardMap.shardFor(teamId)).isEqualTo(ShardMap.DEFAULT_SHARD);
+
+        mockMvc.perform(post("/actuator/teamshards")
+                .contentType("application/json")
+                .content(request)
+                .with(jwt().authorities(new SimpleGrantedAuthority("SCOPE_retroquest.operator"))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.targetShard").value("blue"));
+    }
+
+    @Test
+    void moveTeam_WaitsForOpenTransactionsOfTheTeam() throws Exception {
+        var teamId = UUID.randomUUID();
+        var transaction = new TransactionTemplate(transactionManager);
+
+        var move = transaction.execute(status -> TeamShardContext.callForTeam(teamId, () -> {
+            actionItemRepository.save(actionItem(teamId));
+            var pendingMove = CompletableFuture.supplyAsync(() -> rebalancer.moveTeam(teamId, "blue"));
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            assertThat(pendingMove).isNotDone();
+            actionItemRepository.save(actionItem(teamId));
+            return pendingMove;
+        }));
+
+        assertThat(move.get(10, TimeUnit.SECONDS).movedRows()).isEqualTo(2);
+        assertThat(blue.queryForObject("SELECT COUNT(*) FROM action_item WHERE team_id = ?", Integer.class, teamId.toString())).isEqualTo(2);
+    }
+
+    @Test
+    void transactionBoundToTeamShard_ReadsTeamFromDefaultShard() {
+        var teamId = blueTeamWithRetroType("glad-meh-mad");
+
+        var titles = new TransactionTemplate(transactionManager).execute(status -> TeamShardContext.callForTeam(teamId, () -> {
+            actionItemRepository.findAllByTeamIdAndArchived(teamId.toString(), false);
+            return columnService.getColumns(teamId.toString()).stream().map(Column::getTitle).toList();
+        }));
+
+        assertThat(titles).containsExactly("Glad", "Meh", "Mad");
+    }
+
+    @Test
+    void transactionBoundToTeamShard_RejectsWritesToDefaultShard() {
+        var teamId = blueTeamWithRetroType(null);
+        var transaction = new TransactionTemplate(transactionManager);
+
+        assertThatThrownBy(() -> transaction.execute(status -> TeamShardContext.callForTeam(teamId, () -> {
+            actionItemRepository.findAllByTeamIdAndArchived(teamId.toString(), false);
+            return teamRepository.save(new Team("Cross shard " + UUID.randomUUID()));
+        }))).isInstanceOf(IllegalStateException.class).hasMessageContaining("bound to shard 'blue'");
+    }
+
+    @Test
+    void transactionBoundToDefaultShard_RejectsTeamShardCalls() {
+        var teamId = blueTeamWithRetroType(null);
+        var transaction = new TransactionTemplate(transactionManager);
+
+        assertThatThrownBy(() -> transaction.execute(status -> TeamShardContext.callForTeam(teamId, () -> {
+            teamRepository.findById(teamId);
+            return actionItemRepository.findAllByTeamIdAndArchived(teamId.toString(), false);
+        }))).isInstanceOf(IllegalStateException.class).hasMessageContaining("bound to shard 'default'");
+    }
+
+    @Test
+    void openActionItemsAssignedToUser_IncludeEveryShard() {
+        var userId = "user-" + UUID.randomUUID();
+        var blueTeam = blueTeamWithRetroType(null);
+        var defaultTeam = teamRepository.save(new Team("Default " + UUID.randomUUID())).getId();
+        teamUserMappingService.addUserToTeam(blueTeam, userId);
+        teamUserMappingService.addUserToTeam(defaultTeam, userId);
+        var onBlue = TeamShardContext.callForTeam(blueTeam, () -> actionItemRepository.save(assignedActionItem(blueTeam, userId)));
+        var onDefault = TeamShardContext.callForTeam(defaultTeam, () -> actionItemRepository.save(assignedActionItem(defaultTeam, userId)));
+
+        assertThat(actionItemService.getOpenActionItemsAssignedTo(userId))
+            .extracting(ActionItem::getId)
+            .containsExactlyInAnyOrder(onBlue.getId(), onDefault.getId());
+    }
+
+    private UUID blueTeamWithRetroType(String retroType) {
+        var teamId = UUID.randomUUID();
+        global.update(
+            "INSERT INTO team (id, name, created_at, retro_type) VALUES (?, ?, CURRENT_TIMESTAMP, ?)",
+            teamId, "Team " + teamId, retroType
+        );
+        shardMap.assign(teamId, "blue");
+        TeamShardContext.callForTeam(teamId, () -> {
+            columnRepository.insertColumnsForTeam(teamId.toString(), RetroTypeRegistry.STANDARD_RETRO_TYPE.columns());
+            return null;
+        });
+        return teamId;
+    }
+
+    private static ActionItem actionItem(UUID teamId) {
+        return ActionItem.builder().teamId(teamId.toString()).task("a task").build();
+    }
+
+    private static ActionItem assignedActionItem(UUID teamId, String assignee) {
+        return ActionItem.builder().teamId(teamId.toString()).task("a task").assignee(assignee).build();
+    }
+
+    private static boolean rowExists(JdbcTemplate database, Long id) {
+        return database.queryForObject("SELECT COUNT(*) FROM action_item WHERE id = ?", Integer.class, id) > 0;
+    }
+}
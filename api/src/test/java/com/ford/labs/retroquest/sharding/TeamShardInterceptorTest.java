@@ -0,0 +1,69 @@
+package com.ford.labs.retroquest.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamShardInterceptorTest {
+
+    private final TeamMoveLocks moveLocks = new TeamMoveLocks();
+    private final TeamShardInterceptor interceptor = new TeamShardInterceptor(moveLocks);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        TeamShardContext.clear();
+    }
+
+    @Test
+    void teamRequest_HoldsMoveLockUntilCompletion() throws Exception {
+        var teamId = UUID.randomUUID();
+        var request = requestForTeam(teamId.toString());
+
+        interceptor.preHandle(request, response, new Object());
+
+        assertThat(TeamShardContext.currentTeam()).isEqualTo(teamId);
+        assertThat(tryMoveLock(teamId)).isFalse();
+
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(TeamShardContext.currentTeam()).isNull();
+        assertThat(tryMoveLock(teamId)).isTrue();
+    }
+
+    @Test
+    void invalidTeamId_DoesNotTakeALock() {
+        var request = requestForTeam("not-a-uuid");
+
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(TeamShardContext.currentTeam()).isNull();
+    }
+
+    private static MockHttpServletRequest requestForTeam(String teamId) {
+        var request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("teamId", teamId));
+        return request;
+    }
+
+    private boolean tryMoveLock(UUID teamId) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            var lock = moveLocks.moveLock(teamId);
+            if (!lock.tryLock()) {
+                return false;
+            }
+            lock.unlock();
+            return true;
+        }).get(5, TimeUnit.SECONDS);
+    }
+}
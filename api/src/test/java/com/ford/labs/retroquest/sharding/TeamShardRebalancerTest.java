@@ -0,0 +1,104 @@
+package com.ford.labs.retroquest.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.ford.labs.retroquest.sharding.ShardingTestDatabases.migratedDatabase;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TeamShardRebalancerTest {
+
+    private final UUID teamId = UUID.randomUUID();
+    private final EmbeddedDatabase global = migratedDatabase("global");
+    private final EmbeddedDatabase blue = migratedDatabase("blue");
+    private final Map<String, DataSource> shards = Map.of(ShardMap.DEFAULT_SHARD, global, "blue", blue);
+    private final ShardMap shardMap = new ShardMap(global, shards.keySet(), Map.of());
+    private final ShardIdRanges idRanges = new ShardIdRanges(blueInSecondBlock());
+    private final TeamShardRebalancer subject = new TeamShardRebalancer(shards, shardMap, new TeamMoveLocks(), idRanges);
+
+    @AfterEach
+    void tearDown() {
+        global.shutdown();
+        blue.shutdown();
+    }
+
+    @Test
+    void moveTeam_CopiesTeamRowsToTargetAndRemovesThemFromSource() {
+        insertTeamRows(new JdbcTemplate(global), teamId, 10);
+        insertTeamRows(new JdbcTemplate(global), UUID.randomUUID(), 20);
+
+        var actual = subject.moveTeam(teamId, "blue");
+
+        assertThat(actual).isEqualTo(new TeamShardRebalancer.TeamMove(teamId, ShardMap.DEFAULT_SHARD, "blue", 3));
+        assertThat(shardMap.shardFor(teamId)).isEqualTo("blue");
+        assertThat(teamRowCount(blue, teamId)).isEqualTo(3);
+        assertThat(teamRowCount(global, teamId)).isZero();
+        assertThat(new JdbcTemplate(blue).queryForObject("SELECT message FROM thought WHERE id = 10", String.class))
+            .isEqualTo("message");
+        assertThat(new JdbcTemplate(global).queryForObject("SELECT COUNT(*) FROM thought", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void moveTeam_WithConflictingIdsOnTarget_LeavesTeamOnSource() {
+        insertTeamRows(new JdbcTemplate(global), teamId, 10);
+        insertTeamRows(new JdbcTemplate(blue), UUID.randomUUID(), 10);
+
+        assertThatThrownBy(() -> subject.moveTeam(teamId, "blue")).isInstanceOf(IllegalStateException.class);
+
+        assertThat(shardMap.shardFor(teamId)).isEqualTo(ShardMap.DEFAULT_SHARD);
+        assertThat(teamRowCount(global, teamId)).isEqualTo(3);
+        assertThat(teamRowCount(blue, teamId)).isZero();
+    }
+
+    @Test
+    void moveTeam_BackToTheShardThatAllocatedItsIds_KeepsNewIdsAboveTheCopiedRows() {
+        idRanges.reserve("blue", blue);
+        insertTeamRows(new JdbcTemplate(global), teamId, 1005);
+
+        subject.moveTeam(teamId, "blue");
+
+        var blueJdbc = new JdbcTemplate(blue);
+        blueJdbc.update("INSERT INTO action_item (task, completed, archived, team_id) VALUES ('new', false, false, ?)", teamId.toString());
+        assertThat(blueJdbc.queryForObject("SELECT id FROM action_item WHERE task = 'new'", Long.class)).isEqualTo(1006);
+    }
+
+    @Test
+    void moveTeam_ToUnknownShard_Throws() {
+        assertThatThrownBy(() -> subject.moveTeam(teamId, "purple")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ShardingProperties blueInSecondBlock() {
+        var blueShard = new ShardingProperties.Shard();
+        blueShard.setIdBlock(1);
+        var properties = new ShardingProperties();
+        properties.setIdRangeSize(1000);
+        properties.setShards(Map.of("blue", blueShard));
+        return properties;
+    }
+
+    private static void insertTeamRows(JdbcTemplate database, UUID teamId, long id) {
+        database.update("INSERT INTO rq_column (id, topic, team_id) VALUES (?, 'happy', ?)", id, teamId.toString());
+        database.update(
+            "INSERT INTO thought (id, message, hearts, discussed, team_id, column_id) VALUES (?, 'message', 0, false, ?, ?)",
+            id, teamId.toString(), id
+        );
+        database.update(
+            "INSERT INTO action_item (id, task, completed, archived, team_id) VALUES (?, 'task', false, false, ?)",
+            id, teamId.toString()
+        );
+    }
+
+    private static int teamRowCount(EmbeddedDatabase database, UUID teamId) {
+        var jdbc = new JdbcTemplate(database);
+        return TeamShardRebalancer.TEAM_TABLES.stream()
+            .mapToInt(table -> jdbc.queryForObject("SELECT COUNT(*) FROM %s WHERE team_id = ?".formatted(table), Integer.class, teamId.toString()))
+            .sum();
+    }
+}
@@ -0,0 +1,76 @@
+package com.ford.labs.retroquest.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.ford.labs.retroquest.sharding.ShardingTestDatabases.migratedDatabase;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamShardRoutingDataSourceTest {
+
+    private final UUID blueTeam = UUID.randomUUID();
+    private final EmbeddedDatabase global = migratedDatabase("global");
+    private final EmbeddedDatabase blue = migratedDatabase("blue");
+    private final ShardMap shardMap = new ShardMap(global, Set.of(ShardMap.DEFAULT_SHARD, "blue"), Map.of(blueTeam, "blue"));
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+        new TeamShardRoutingDataSource(Map.of(ShardMap.DEFAULT_SHARD, global, "blue", blue), shardMap)
+    );
+
+    @AfterEach
+    void tearDown() {
+        TeamShardContext.clear();
+        global.shutdown();
+        blue.shutdown();
+    }
+
+    @Test
+    void shardedCallForAssignedTeam_RoutesToTeamShard() {
+        TeamShardContext.setCurrentTeam(blueTeam);
+        TeamShardContext.beginShardedCall();
+        try {
+            insertAction();
+        } finally {
+            TeamShardContext.endShardedCall();
+        }
+
+        assertThat(actionCount(blue)).isEqualTo(1);
+        assertThat(actionCount(global)).isZero();
+    }
+
+    @Test
+    void unshardedCallForAssignedTeam_RoutesToDefaultShard() {
+        TeamShardContext.setCurrentTeam(blueTeam);
+
+        insertAction();
+
+        assertThat(actionCount(global)).isEqualTo(1);
+        assertThat(actionCount(blue)).isZero();
+    }
+
+    @Test
+    void shardedCallForUnassignedTeam_RoutesToDefaultShard() {
+        TeamShardContext.setCurrentTeam(UUID.randomUUID());
+        TeamShardContext.beginShardedCall();
+        try {
+            insertAction();
+        } finally {
+            TeamShardContext.endShardedCall();
+        }
+
+        assertThat(actionCount(global)).isEqualTo(1);
+    }
+
+    private void insertAction() {
+        jdbcTemplate.update("INSERT INTO action_item (task, completed, archived) VALUES ('task', false, false)");
+    }
+
+    private static Integer actionCount(EmbeddedDatabase database) {
+        return new JdbcTemplate(database).queryForObject("SELECT COUNT(*) FROM action_item", Integer.class);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ford.labs.retroquest.team;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.labs.retroquest.querybudget.SqlStatementBudget;
 import com.ford.labs.retroquest.team.exception.InviteExpiredException;
 import com.ford.labs.retroquest.team.exception.InviteNotFoundException;
 import com.ford.labs.retroquest.team.exception.TeamAlreadyExistsException;
@@ -36,6 +37,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @AutoConfigureMockMvc
 @SpringBootTest
+@SqlStatementBudget(0)
 class TeamControllerTest {
 
     @MockBean
@@ -1,6 +1,8 @@
 package com.ford.labs.retroquest.team;
 
 import com.ford.labs.retroquest.column.ColumnService;
+import com.ford.labs.retroquest.column.RetroTypeProperties;
+import com.ford.labs.retroquest.column.RetroTypeRegistry;
 import com.ford.labs.retroquest.team.exception.InviteExpiredException;
 import com.ford.labs.retroquest.team.exception.InviteNotFoundException;
 import com.ford.labs.retroquest.team.exception.TeamAlreadyExistsException;
@@ -24,26 +26,32 @@ class TeamServiceTest {
     private final TeamUserMappingService mockTeamUserMappingService = mock(TeamUserMappingService.class);
     private final InviteService mockInviteService = mock(InviteService.class);
     private final ColumnService mockColumnService = mock(ColumnService.class);
-    private final TeamService service = new TeamService(mockTeamRepository, mockTeamUserMappingService, mockInviteService, mockColumnService);
+    private final TeamService service = new TeamService(
+        mockTeamRepository,
+        mockTeamUserMappingService,
+        mockInviteService,
+        mockColumnService,
+        new RetroTypeRegistry(new RetroTypeProperties())
+    );
 
     @Test
     void createTeam_ShouldReturnCreatedTeam() {
         var expected = new Team(UUID.randomUUID(), "expected name", LocalDateTime.now());
-        when(mockTeamRepository.save(new Team(null, "expected name", null))).thenReturn(expected);
+        when(mockTeamRepository.save(new Team("expected name", "standard"))).thenReturn(expected);
         var actual = service.createTeam("expected name", "User ID");
         assertThat(actual).isEqualTo(expected);
     }
 
     @Test
     void createTeam_WhenTeamAlreadyExists_ShouldThrowException() {
-        when(mockTeamRepository.save(new Team(null, "team already exists", null))).thenThrow(DataIntegrityViolationException.class);
+        when(mockTeamRepository.save(new Team("team already exists", "standard"))).thenThrow(DataIntegrityViolationException.class);
         assertThatExceptionOfType(TeamAlreadyExistsException.class).isThrownBy(() -> service.createTeam("team already exists", "user ID"));
     }
 
     @Test
     void createTeam_ShouldAddCreatingUserToTeam() {
         var expected = new Team(UUID.randomUUID(), "expected team name", LocalDateTime.now());
-        when(mockTeamRepository.save(new Team(null, "expected team name", null))).thenReturn(expected);
+        when(mockTeamRepository.save(new Team("expected team name", "standard"))).thenReturn(expected);
         var actual = service.createTeam("expected team name", "User ID");
         assertThat(actual).isEqualTo(expected);
         verify(mockTeamUserMappingService).addUserToTeam(actual.getId(), "User ID");
@@ -52,9 +60,9 @@ class TeamServiceTest {
     @Test
     void createTeam_GeneratesInitialColumns() {
         var expectedTeam = new Team(UUID.randomUUID(), "expected team name", LocalDateTime.now());
-        when(mockTeamRepository.save(new Team(null, "expected team name", null))).thenReturn(expectedTeam);
+        when(mockTeamRepository.save(new Team("expected team name", "standard"))).thenReturn(expectedTeam);
         service.createTeam("expected team name", "User ID");
-        verify(mockColumnService).generateInitialColumnsForTeam(expectedTeam.getId());
+        verify(mockColumnService).generateInitialColumnsForTeam(expectedTeam);
     }
 
     @Test
@@ -1,5 +1,6 @@
 package com.ford.labs.retroquest.team.invite;
 
+import com.ford.labs.retroquest.querybudget.SqlStatementBudget;
 import com.ford.labs.retroquest.team.exception.TeamNotFoundException;
 import com.ford.labs.retroquest.teamusermapping.TeamUserAuthorizationService;
 import org.assertj.core.util.Lists;
@@ -30,6 +31,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @AutoConfigureMockMvc
 @SpringBootTest
+@SqlStatementBudget(0)
 class InviteControllerTest {
 
     @Autowired
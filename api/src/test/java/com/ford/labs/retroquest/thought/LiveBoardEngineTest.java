@@ -0,0 +1,211 @@
+package com.ford.labs.retroquest.thought;
+
+import com.ford.labs.retroquest.column.Column;
+import com.ford.labs.retroquest.column.ColumnRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "retroquest.live-board.enabled=true",
+    "retroquest.live-board.checkpoint-interval=PT1H",
+    "retroquest.live-board.eviction-interval=PT1H",
+    "retroquest.live-board.board-idle-timeout=PT0S"
+})
+class LiveBoardEngineTest {
+
+    private static final Path JOURNAL_DIRECTORY = createJournalDirectory();
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private ThoughtService thoughtService;
+
+    @Autowired
+    private LiveBoardEngine liveBoardEngine;
+
+    @Autowired
+    private ThoughtRepository thoughtRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String teamId;
+    private Column column;
+
+    @DynamicPropertySource
+    static void journalFile(DynamicPropertyRegistry registry) {
+        registry.add("retroquest.live-board.journal-file", () -> JOURNAL_DIRECTORY.resolve("live-board.journal").toString());
+    }
+
+    @BeforeEach
+    void setUp() {
+        teamId = UUID.randomUUID().toString();
+        column = columnRepository.save(new Column(null, "happy", null, teamId));
+    }
+
+    @Test
+    void mutations_AreServedFromMemoryUntilCheckpoint() {
+        var created = thoughtService.createThought(teamId, new CreateThoughtRequest("a thought", column.getId()));
+
+        thoughtService.likeThought(teamId, created.getId());
+        thoughtService.likeThought(teamId, created.getId());
+        thoughtService.discussThought(teamId, created.getId(), true);
+
+        assertThat(thoughtService.fetchAllActiveThoughts(teamId)).singleElement()
+            .satisfies(thought -> {
+                assertThat(thought.getHearts()).isEqualTo(2);
+                assertThat(thought.isDiscussed()).isTrue();
+            });
+        assertThat(thoughtRepository.findById(created.getId())).get().extracting(Thought::getHearts).isEqualTo(0);
+
+        assertThat(liveBoardEngine.checkpoint()).isTrue();
+
+        var persisted = thoughtRepository.findById(created.getId()).orElseThrow();
+        assertThat(persisted.getHearts()).isEqualTo(2);
+        assertThat(persisted.isDiscussed()).isTrue();
+    }
+
+    @Test
+    void deleteThought_RemovesRowAtCheckpoint() {
+        var created = thoughtService.createThought(teamId, new CreateThoughtRequest("a thought", column.getId()));
+
+        thoughtService.deleteThought(teamId, created.getId());
+
+        assertThat(thoughtService.fetchAllActiveThoughts(teamId)).isEmpty();
+        liveBoardEngine.checkpoint();
+        assertThat(thoughtRepository.findById(created.getId())).isEmpty();
+    }
+
+    @Test
+    void evictIdleBoards_CheckpointsBeforeDroppingTheBoard() {
+        var created = thoughtService.createThought(teamId, new CreateThoughtRequest("a thought", column.getId()));
+        thoughtService.likeThought(teamId, created.getId());
+
+        assertThat(liveBoardEngine.evictIdleBoards()).isPositive();
+
+        assertThat(thoughtRepository.findById(created.getId())).get().extracting(Thought::getHearts).isEqualTo(1);
+        thoughtService.likeThought(teamId, created.getId());
+        assertThat(thoughtService.fetchAllActiveThoughts(teamId)).singleElement()
+            .extracting(Thought::getHearts).isEqualTo(2);
+    }
+
+    @Test
+    void checkpoint_InsideRolledBackTransaction_KeepsTheBatch() {
+        var created = thoughtService.createThought(teamId, new CreateThoughtRequest("a thought", column.getId()));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            liveBoardEngine.update(teamId, created.getId(), thought -> thought.setHearts(4));
+            assertThat(liveBoardEngine.checkpoint()).isTrue();
+            status.setRollbackOnly();
+        });
+
+        assertThat(thoughtRepository.findById(created.getId())).get().extracting(Thought::getHearts).isEqualTo(4);
+    }
+
+    @Test
+    void release_WhenCheckpointFails_StillDropsTheBoard() throws IOException {
+        var writesFail = new AtomicBoolean(true);
+        var engine = new LiveBoardEngine(thoughtRepository, dataSource, failingWhen(writesFail), properties("release.journal"), new MockEnvironment());
+        var created = thoughtRepository.save(Thought.builder().teamId(teamId).message("a thought").columnId(column.getId()).build());
+        engine.update(teamId, created.getId(), thought -> thought.setHearts(3));
+        thoughtRepository.save(created.toBuilder().boardId(1L).build());
+
+        engine.release(teamId);
+
+        assertThat(engine.activeThoughts(teamId)).isEmpty();
+        writesFail.set(false);
+        assertThat(engine.checkpoint()).isTrue();
+        assertThat(thoughtRepository.findById(created.getId())).get().extracting(Thought::getHearts).isEqualTo(3);
+        engine.shutdown();
+    }
+
+    @Test
+    void startup_ReplaysJournalIntoDatabase() throws IOException {
+        var created = thoughtRepository.save(Thought.builder().teamId(teamId).message("before").columnId(column.getId()).build());
+        var journalFile = JOURNAL_DIRECTORY.resolve("crashed.journal");
+        try (var journal = LiveBoardJournal.open(journalFile, 4096, false)) {
+            journal.append(LiveBoardJournal.Entry.upsert(created.toBuilder().message("after").hearts(5).build()));
+        }
+
+        var properties = new LiveBoardProperties();
+        properties.setJournalFile(journalFile);
+        properties.setJournalSize(DataSize.ofKilobytes(4));
+        var recovered = new LiveBoardEngine(thoughtRepository, dataSource, transactionManager, properties, new MockEnvironment());
+        recovered.shutdown();
+
+        var actual = new JdbcTemplate(dataSource).queryForMap("SELECT message, hearts FROM thought WHERE id = ?", created.getId());
+        assertThat(actual).containsEntry("MESSAGE", "after").containsEntry("HEARTS", 5);
+        try (var journal = LiveBoardJournal.open(journalFile, 4096, false)) {
+            assertThat(journal.replay()).isEmpty();
+        }
+    }
+
+    private static LiveBoardProperties properties(String journalFile) {
+        var properties = new LiveBoardProperties();
+        properties.setJournalFile(JOURNAL_DIRECTORY.resolve(journalFile));
+        properties.setJournalSize(DataSize.ofKilobytes(4));
+        return properties;
+    }
+
+    private PlatformTransactionManager failingWhen(AtomicBoolean writesFail) {
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                if (writesFail.get()) {
+                    throw new CannotCreateTransactionException("database unavailable");
+                }
+                return transactionManager.getTransaction(definition);
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                transactionManager.commit(status);
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                transactionManager.rollback(status);
+            }
+        };
+    }
+
+    private static Path createJournalDirectory() {
+        try {
+            var directory = Files.createTempDirectory("live-board");
+            directory.toFile().deleteOnExit();
+            return directory;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ford.labs.retroquest.thought;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveBoardJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replay_ReturnsAppendedEntriesAfterReopen() throws IOException {
+        var file = directory.resolve("journal");
+        try (var journal = LiveBoardJournal.open(file, 4096, false)) {
+            journal.append(LiveBoardJournal.Entry.upsert(thought(1L, "first")));
+            journal.append(LiveBoardJournal.Entry.delete("team-id", 2L));
+        }
+
+        try (var journal = LiveBoardJournal.open(file, 4096, false)) {
+            var actual = journal.replay();
+
+            assertThat(actual).containsExactly(
+                LiveBoardJournal.Entry.upsert(thought(1L, "first")),
+                LiveBoardJournal.Entry.delete("team-id", 2L)
+            );
+        }
+    }
+
+    @Test
+    void replay_StopsAtEntryWithBadChecksum() throws IOException {
+        var file = directory.resolve("journal");
+        int secondEntryPosition;
+        try (var journal = LiveBoardJournal.open(file, 4096, false)) {
+            journal.append(LiveBoardJournal.Entry.upsert(thought(1L, "first")));
+            secondEntryPosition = journal.position();
+            journal.append(LiveBoardJournal.Entry.upsert(thought(2L, "second")));
+        }
+        try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), secondEntryPosition + 20);
+        }
+
+        try (var journal = LiveBoardJournal.open(file, 4096, false)) {
+            assertThat(journal.replay()).containsExactly(LiveBoardJournal.Entry.upsert(thought(1L, "first")));
+            assertThat(journal.position()).isEqualTo(secondEntryPosition);
+        }
+    }
+
+    @Test
+    void discardUpTo_KeepsEntriesAppendedAfterPosition() throws IOException {
+        var file = directory.resolve("journal");
+        try (var journal = LiveBoardJournal.open(file, 4096, false)) {
+            journal.append(LiveBoardJournal.Entry.upsert(thought(1L, "first")));
+            var checkpointed = journal.position();
+            journal.append(LiveBoardJournal.Entry.upsert(thought(2L, "second")));
+
+            journal.discardUpTo(checkpointed);
+        }
+
+        try (var journal = LiveBoardJournal.open(file, 4096, false)) {
+            assertThat(journal.replay()).containsExactly(LiveBoardJournal.Entry.upsert(thought(2L, "second")));
+        }
+    }
+
+    @Test
+    void append_WhenJournalIsFull_ReturnsFalse() throws IOException {
+        try (var journal = LiveBoardJournal.open(directory.resolve("journal"), 128, false)) {
+            assertThat(journal.append(LiveBoardJournal.Entry.upsert(thought(1L, "a".repeat(40))))).isTrue();
+            assertThat(journal.append(LiveBoardJournal.Entry.upsert(thought(2L, "b".repeat(40))))).isFalse();
+        }
+    }
+
+    private static Thought thought(Long id, String message) {
+        return Thought.builder().id(id).teamId("team-id").message(message).hearts(3).discussed(true).columnId(7L).build();
+    }
+}
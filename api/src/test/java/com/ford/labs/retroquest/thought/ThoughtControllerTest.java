@@ -1,6 +1,7 @@
 package com.ford.labs.retroquest.thought;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.labs.retroquest.querybudget.SqlStatementBudget;
 import com.ford.labs.retroquest.teamusermapping.TeamUserAuthorizationService;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @AutoConfigureMockMvc
 @SpringBootTest
+@SqlStatementBudget(0)
 class ThoughtControllerTest {
 
     @MockBean
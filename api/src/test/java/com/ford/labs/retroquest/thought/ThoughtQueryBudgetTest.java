@@ -0,0 +1,105 @@
+package com.ford.labs.retroquest.thought;
+
+import com.ford.labs.retroquest.column.ColumnService;
+import com.ford.labs.retroquest.querybudget.BudgetTestTeam;
+import com.ford.labs.retroquest.querybudget.SqlStatementBudget;
+import com.ford.labs.retroquest.team.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@SqlStatementBudget(4)
+class ThoughtQueryBudgetTest {
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private ColumnService columnService;
+
+    @Autowired
+    private ThoughtService thoughtService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private BudgetTestTeam team;
+    private Thought thought;
+
+    @BeforeEach
+    void setUp() {
+        team = BudgetTestTeam.create(teamService, columnService);
+        for (var i = 0; i < 5; i++) {
+            thought = thoughtService.createThought(team.teamId(), new CreateThoughtRequest("thought " + i, team.columns().get(0).getId()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        team.delete(dataSource);
+    }
+
+    @Test
+    @SqlStatementBudget(2)
+    void getThoughts() throws Exception {
+        mockMvc.perform(get("/api/team/%s/thoughts".formatted(team.id())).with(jwt()))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlStatementBudget(2)
+    void createThought() throws Exception {
+        mockMvc.perform(post("/api/team/%s/thoughts".formatted(team.id()))
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"message\":\"new thought\",\"columnId\":%d}".formatted(team.columns().get(1).getId())))
+            .andExpect(status().isCreated());
+    }
+
+    @Test
+    void heartThought() throws Exception {
+        mockMvc.perform(put("/api/team/%s/thoughts/%d/heart".formatted(team.id(), thought.getId())).with(jwt()))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void discussThought() throws Exception {
+        mockMvc.perform(put("/api/team/%s/thoughts/%d/discuss".formatted(team.id(), thought.getId()))
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"discussed\":true}"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void moveThought() throws Exception {
+        mockMvc.perform(put("/api/team/%s/thoughts/%d/column-id".formatted(team.id(), thought.getId()))
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"columnId\":%d}".formatted(team.columns().get(2).getId())))
+            .andExpect(status().isOk());
+    }
+}
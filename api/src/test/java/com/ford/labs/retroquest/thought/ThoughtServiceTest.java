@@ -18,9 +18,11 @@
 package com.ford.labs.retroquest.thought;
 
 import com.ford.labs.retroquest.column.Column;
-import com.ford.labs.retroquest.column.ColumnRepository;
+import com.ford.labs.retroquest.column.ColumnService;
 import com.ford.labs.retroquest.exception.ColumnNotFoundException;
 import com.ford.labs.retroquest.exception.ThoughtNotFoundException;
+import com.ford.labs.retroquest.locking.TeamLockManager;
+import com.ford.labs.retroquest.metrics.RetroActivityMetrics;
 import com.ford.labs.retroquest.websocket.WebsocketService;
 import com.ford.labs.retroquest.websocket.events.WebsocketEvent;
 import com.ford.labs.retroquest.websocket.events.WebsocketThoughtEvent;
@@ -28,6 +30,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -45,8 +48,9 @@ import static org.mockito.Mockito.*;
 class ThoughtServiceTest {
 
     private final ThoughtRepository thoughtRepository = mock(ThoughtRepository.class);
-    private final ColumnRepository columnRepository = mock(ColumnRepository.class);
+    private final ColumnService columnService = mock(ColumnService.class);
     private final WebsocketService websocketService = mock(WebsocketService.class);
+    private final RetroActivityMetrics retroActivityMetrics = mock(RetroActivityMetrics.class);
 
     private ThoughtService thoughtService;
 
@@ -54,8 +58,11 @@ class ThoughtServiceTest {
     void setup() {
         this.thoughtService = new ThoughtService(
                 this.thoughtRepository,
-                this.columnRepository,
-                this.websocketService
+                this.columnService,
+                this.websocketService,
+                Optional.empty(),
+                new TeamLockManager(Duration.ofSeconds(1)),
+                this.retroActivityMetrics
         );
     }
 
@@ -81,6 +88,7 @@ class ThoughtServiceTest {
         inOrder.verify(thoughtRepository).incrementHeartCount(thoughtId);
         inOrder.verify(thoughtRepository).findByTeamIdAndId(teamId, thoughtId);
         then(websocketService).should().publishEvent(expectedEvent);
+        then(retroActivityMetrics).should().heartAdded();
     }
 
     @Test
@@ -90,6 +98,7 @@ class ThoughtServiceTest {
         ThoughtNotFoundException actualException = assertThrows(ThoughtNotFoundException.class, () -> thoughtService.likeThought("the-team", badId));
         assertThat(actualException.getMessage()).contains(badId.toString());
         verify(thoughtRepository, times(0)).save(any());
+        verifyNoInteractions(retroActivityMetrics);
     }
 
     @Test
@@ -117,7 +126,7 @@ class ThoughtServiceTest {
         Thought expectedThought = Thought.builder().id(1234L).columnId(6789L).build();
         given(this.thoughtRepository.findByTeamIdAndId(teamId, 1234L)).willReturn(Optional.of(thought));
         given(this.thoughtRepository.save(expectedThought)).willReturn(expectedThought);
-        given(this.columnRepository.findByTeamIdAndId(teamId, 6789L)).willReturn(Optional.of(expectedColumn));
+        given(this.columnService.fetchColumn(teamId, 6789L)).willReturn(expectedColumn);
 
         Thought actualThought = thoughtService.updateColumn(teamId, 1234L, 6789L);
 
@@ -133,7 +142,7 @@ class ThoughtServiceTest {
         Thought expectedThought = Thought.builder().id(1234L).columnId(6789L).build();
         given(this.thoughtRepository.findByTeamIdAndId(teamId, 1234L)).willReturn(Optional.of(thought));
         given(this.thoughtRepository.save(expectedThought)).willReturn(expectedThought);
-        given(this.columnRepository.findByTeamIdAndId(teamId, 6789L)).willReturn(Optional.of(expectedColumn));
+        given(this.columnService.fetchColumn(teamId, 6789L)).willReturn(expectedColumn);
 
         thoughtService.updateColumn(teamId, 1234L, 6789L);
 
@@ -144,7 +153,7 @@ class ThoughtServiceTest {
 
     @Test
     public void updateColumn_WithColumnThatDoesNotExist_ThrowsColumnNotFoundException() {
-        given(this.columnRepository.findByTeamIdAndId("the-team", 6789L)).willReturn(Optional.empty());
+        given(this.columnService.fetchColumn("the-team", 6789L)).willThrow(new ColumnNotFoundException());
         assertThatThrownBy(() -> thoughtService.updateColumn("the-team", 1234L, 6789L))
                 .isInstanceOf(ColumnNotFoundException.class);
     }
@@ -202,7 +211,6 @@ class ThoughtServiceTest {
         );
         var expectedEvent = new WebsocketThoughtEvent("the-team", UPDATE, expectedThought);
 
-        given(columnRepository.findByTeamIdAndId("the-team", 6789L)).willReturn(Optional.of(column));
         given(thoughtRepository.save(any(Thought.class))).willAnswer(a -> {
             var thought = a.<Thought>getArgument(0);
             thought.setId(1234L);
@@ -213,6 +221,7 @@ class ThoughtServiceTest {
 
         assertThat(actualThought).usingRecursiveComparison().isEqualTo(expectedThought);
         then(websocketService).should().publishEvent(expectedEvent);
+        then(retroActivityMetrics).should().thoughtCreated();
     }
 
 }
@@ -0,0 +1,56 @@
+package com.ford.labs.retroquest.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class WebSocketHeartbeatTest {
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private SimpleBrokerMessageHandler simpleBrokerMessageHandler;
+
+    @Autowired
+    @Qualifier("messageBrokerTaskScheduler")
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Test
+    void simpleBroker_NegotiatesNativeHeartbeats() {
+        assertThat(simpleBrokerMessageHandler.getHeartbeatValue()).containsExactly(10_000, 10_000);
+    }
+
+    @Test
+    void simpleBroker_UsesADedicatedHeartbeatScheduler() {
+        assertThat(simpleBrokerMessageHandler.getTaskScheduler())
+            .isNotNull()
+            .isNotSameAs(messageBrokerTaskScheduler);
+    }
+
+    @Test
+    void legacyPingPong_IsDisabledByDefault() {
+        assertThat(applicationContext.getBeansOfType(WebSocketHeartbeatController.class)).isEmpty();
+    }
+
+    @Test
+    void legacyPingPong_CanBeEnabledForOlderClients() {
+        new ApplicationContextRunner()
+            .withUserConfiguration(WebSocketHeartbeatController.class)
+            .withPropertyValues("retroquest.websocket.heartbeat.legacy-ping-pong=true")
+            .run(context -> assertThat(context).hasSingleBean(WebSocketHeartbeatController.class));
+    }
+}
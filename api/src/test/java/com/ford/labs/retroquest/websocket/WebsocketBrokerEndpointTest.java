@@ -0,0 +1,104 @@
+package com.ford.labs.retroquest.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WebsocketBrokerEndpointTest {
+
+    private static final SimpleGrantedAuthority OPERATOR = new SimpleGrantedAuthority("SCOPE_retroquest.operator");
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("subProtocolWebSocketHandler")
+    private WebSocketHandler webSocketHandler;
+
+    @Autowired
+    @Qualifier("clientOutboundChannelExecutor")
+    private ThreadPoolTaskExecutor outboundExecutor;
+
+    @Test
+    void transportLimits_AreAppliedToTheWebSocketHandler() {
+        var handler = (SubProtocolWebSocketHandler) WebSocketHandlerDecorator.unwrap(webSocketHandler);
+        assertThat(handler.getSendTimeLimit()).isEqualTo(5_000);
+        assertThat(handler.getSendBufferSizeLimit()).isEqualTo(256 * 1024);
+    }
+
+    @Test
+    void channelExecutors_AreBounded() {
+        assertThat(outboundExecutor.getMaxPoolSize()).isEqualTo(16);
+        assertThat(outboundExecutor.getThreadPoolExecutor().getQueue().remainingCapacity()).isLessThanOrEqualTo(1_000);
+        assertThat(outboundExecutor.getThreadPoolExecutor().getRejectedExecutionHandler()).isInstanceOf(CountingCallerRunsPolicy.class);
+    }
+
+    @Test
+    void channelExecutors_RunRejectedMessagesOnTheSendingThread() throws Exception {
+        var executor = new ThreadPoolTaskExecutor();
+        var policy = new CountingCallerRunsPolicy();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(policy);
+        executor.initialize();
+        var release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> awaitQuietly(release));
+            executor.execute(() -> { });
+
+            var ranOn = new AtomicReference<Thread>();
+            executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+            assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+            assertThat(policy.rejectedTasks()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void websocketBrokerEndpoint_ReportsSessionsAndChannelQueues() throws Exception {
+        mockMvc.perform(get("/actuator/websocketbroker").with(jwt().authorities(OPERATOR)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.sessions.total").isNumber())
+            .andExpect(jsonPath("$.sessions.slowConsumersDropped").value(0))
+            .andExpect(jsonPath("$.channels.clientInbound.queueCapacity").value(1_000))
+            .andExpect(jsonPath("$.channels.clientOutbound.queueDepth").isNumber())
+            .andExpect(jsonPath("$.channels.clientOutbound.rejectedTasks").value(0))
+            .andExpect(jsonPath("$.channels.broker.maxPoolSize").isNumber());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -18,11 +18,19 @@
 package com.ford.labs.retroquest.websocket;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.labs.retroquest.history.TeamEventLog;
+import com.ford.labs.retroquest.metrics.TeamActivityTracker;
+import com.ford.labs.retroquest.thought.Thought;
 import com.ford.labs.retroquest.websocket.events.WebsocketEvent;
 import com.ford.labs.retroquest.websocket.events.WebsocketEventType;
+import com.ford.labs.retroquest.websocket.events.WebsocketThoughtEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -31,20 +39,57 @@ class WebsocketServiceTest {
 
     private final SimpMessagingTemplate mockMessageTemplate = mock(SimpMessagingTemplate.class);
     private final ObjectMapper mapper = new ObjectMapper();
+    private final TeamEventLog mockTeamEventLog = mock(TeamEventLog.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TeamActivityTracker mockTeamActivityTracker = mock(TeamActivityTracker.class);
 
     @Test
     public void publishEvent_WithWebsocketEvent_ShouldConvertAndSendToCorrectRoute() {
-        var service = new WebsocketService(mockMessageTemplate, mapper);
+        var service = new WebsocketService(mockMessageTemplate, mapper, mockTeamEventLog, meterRegistry, mockTeamActivityTracker);
         service.publishEvent(new FakeEvent(WebsocketEventType.DELETE, "Thing to Delete"));
         verify(mockMessageTemplate).convertAndSend(eq("send/to/route"), eq("{\"type\":\"delete\",\"payload\":\"Thing to Delete\"}"));
     }
 
+    @Test
+    public void publishEvent_RecordsEventInTeamEventLog() {
+        var service = new WebsocketService(mockMessageTemplate, mapper, mockTeamEventLog, meterRegistry, mockTeamActivityTracker);
+        var event = new FakeEvent(WebsocketEventType.UPDATE, "Thing to Update");
+        service.publishEvent(event);
+        verify(mockTeamEventLog).record(event);
+    }
+
+    @Test
+    public void publishEvent_RecordsPublishedBytesForTeam() {
+        var service = new WebsocketService(mockMessageTemplate, mapper, mockTeamEventLog, meterRegistry, mockTeamActivityTracker);
+        service.publishEvent(new FakeEvent(WebsocketEventType.DELETE, "Très bien \uD83D\uDC4D"));
+        verify(mockTeamActivityTracker).recordPublish("fake-team", "{\"type\":\"delete\",\"payload\":\"Très bien \uD83D\uDC4D\"}".getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    public void publishEvent_TimesSerializationAndSendByOperation() {
+        var service = new WebsocketService(mockMessageTemplate, mapper, mockTeamEventLog, meterRegistry, mockTeamActivityTracker);
+        service.publishEvent(new FakeEvent(WebsocketEventType.UPDATE, "Thing to Update"));
+        service.publishEvent(new WebsocketThoughtEvent("team-id", WebsocketEventType.DELETE, new Thought()));
+
+        assertThat(meterRegistry.get("retroquest.websocket.serialize").tags("event", "Fake", "type", "UPDATE").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("retroquest.websocket.send").tags("event", "Fake", "type", "UPDATE").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("retroquest.websocket.send").tags("event", "Thought", "type", "DELETE").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.getMeters())
+            .flatExtracting(meter -> meter.getId().getTags())
+            .noneMatch(tag -> tag.getValue().contains("team-id"));
+    }
+
     private static class FakeEvent extends WebsocketEvent {
 
         public FakeEvent(WebsocketEventType type, Object payload) {
             super(type, payload);
         }
 
+        @Override
+        public String getTeamId() {
+            return "fake-team";
+        }
+
         @Override
         public String getRoute() {
             return "send/to/route";
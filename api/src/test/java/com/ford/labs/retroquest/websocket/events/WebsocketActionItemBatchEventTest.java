@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2022. Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ford.labs.retroquest.websocket.events;
+
+import com.ford.labs.retroquest.actionitem.ActionItemBatch;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.ford.labs.retroquest.websocket.events.WebsocketEventType.DELETE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebsocketActionItemBatchEventTest {
+
+    @Test
+    public void getRoute_returnsTeamSpecificTopic() {
+        var event = new WebsocketActionItemBatchEvent("team-id", DELETE, ActionItemBatch.deleted(List.of(1L)));
+        assertThat(event.getRoute()).isEqualTo("/topic/team-id/action-items/batch");
+    }
+}
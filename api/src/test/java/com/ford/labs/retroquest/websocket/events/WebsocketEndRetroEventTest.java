@@ -26,7 +26,7 @@ class WebsocketEndRetroEventTest {
 
     @Test
     public void getRoute_returnsTeamSpecificTopic() {
-        var event = new WebsocketEndRetroEvent("team-id");
+        var event = new WebsocketEndRetroEvent("team-id", null);
         assertThat(event.getRoute()).isEqualTo("/topic/team-id/end-retro");
     }
 }
\ No newline at end of file
@@ -46,6 +46,11 @@ class WebsocketEventTest {
             return nonsense;
         }
 
+        @Override
+        public String getTeamId() {
+            return "something that shouldn't show up";
+        }
+
         @Override
         public String getRoute() {
             return "something that shouldn't show up";
@@ -61,7 +61,10 @@ let modalContent: ModalContents | null;
 describe('Action Item Archives', () => {
 	beforeEach(() => {
 		modalContent = null;
-		ActionItemService.get = jest.fn().mockResolvedValue(archivedActionItems);
+		ActionItemService.getArchivedPage = jest.fn().mockResolvedValue({
+			actionItems: archivedActionItems,
+			nextCursor: null,
+		});
 	});
 
 	it('should get archived action items and display them on page', async () => {
@@ -91,8 +94,52 @@ describe('Action Item Archives', () => {
 		).toBeDefined();
 	});
 
+	it('should load the next page of archived action items when clicking "Load More"', async () => {
+		const nextActionItem = {
+			id: 4,
+			task: 'One more action',
+			completed: true,
+			assignee: 'Sam',
+			dateCreated: '2022-09-20',
+			archived: true,
+		};
+		ActionItemService.getArchivedPage = jest
+			.fn()
+			.mockResolvedValueOnce({
+				actionItems: archivedActionItems,
+				nextCursor: 3,
+			})
+			.mockResolvedValueOnce({
+				actionItems: [nextActionItem],
+				nextCursor: null,
+			});
+
+		await renderActionItemArchives();
+
+		screen.getByText('Load More').click();
+
+		await waitFor(() =>
+			expect(screen.getByText(nextActionItem.task)).toBeDefined()
+		);
+		expect(ActionItemService.getArchivedPage).toHaveBeenCalledWith(
+			mockTeam.id,
+			3
+		);
+		expect(screen.getAllByTestId('checkboxButton')).toHaveLength(4);
+		expect(screen.queryByText('Load More')).toBeNull();
+	});
+
+	it('should not offer "Load More" on the last page', async () => {
+		await renderActionItemArchives();
+
+		expect(screen.queryByText('Load More')).toBeNull();
+	});
+
 	it('should show "No Archives" message when no archived action items are present', async () => {
-		ActionItemService.get = jest.fn().mockResolvedValue([]);
+		ActionItemService.getArchivedPage = jest.fn().mockResolvedValue({
+			actionItems: [],
+			nextCursor: null,
+		});
 
 		await renderActionItemArchives();
 
@@ -201,6 +248,6 @@ async function renderActionItemArchives() {
 	);
 
 	await waitFor(() =>
-		expect(ActionItemService.get).toHaveBeenCalledWith(mockTeam.id, true)
+		expect(ActionItemService.getArchivedPage).toHaveBeenCalledWith(mockTeam.id)
 	);
 }
@@ -37,13 +37,27 @@ function ActionItemArchives() {
 	const [selectedActionItemIds, setSelectedActionItemIds] = useState<number[]>(
 		[]
 	);
+	const [nextCursor, setNextCursor] = useState<number | null>(null);
 
 	const getActionItems = useCallback(() => {
-		ActionItemService.get(team.id, true)
-			.then(setActionItems)
+		ActionItemService.getArchivedPage(team.id)
+			.then((page) => {
+				setActionItems(page.actionItems);
+				setNextCursor(page.nextCursor);
+			})
 			.catch(console.error);
 	}, [setActionItems, team.id]);
 
+	function getMoreActionItems() {
+		if (nextCursor === null) return;
+		ActionItemService.getArchivedPage(team.id, nextCursor)
+			.then((page) => {
+				setActionItems((loaded) => [...loaded, ...page.actionItems]);
+				setNextCursor(page.nextCursor);
+			})
+			.catch(console.error);
+	}
+
 	useEffect(() => {
 		if (team.id) getActionItems();
 	}, [getActionItems, team.id]);
@@ -126,6 +140,11 @@ function ActionItemArchives() {
 							);
 						})}
 					</ul>
+					{nextCursor !== null && (
+						<button className="load-more-button" onClick={getMoreActionItems}>
+							Load More
+						</button>
+					)}
 				</>
 			) : (
 				<NotFoundSection
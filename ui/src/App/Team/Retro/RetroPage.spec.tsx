@@ -44,6 +44,7 @@ jest.mock('Hooks/useWebSocketMessageHandler', () => {
 		columnMessageHandler: jest.fn(),
 		thoughtMessageHandler: jest.fn(),
 		actionItemMessageHandler: jest.fn(),
+		actionItemBatchMessageHandler: jest.fn(),
 		endRetroMessageHandler: jest.fn(),
 		teamMessageHandler: jest.fn(),
 	});
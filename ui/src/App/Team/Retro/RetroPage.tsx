@@ -66,6 +66,7 @@ function RetroPage(): ReactElement {
 		columnMessageHandler,
 		thoughtMessageHandler,
 		actionItemMessageHandler,
+		actionItemBatchMessageHandler,
 		endRetroMessageHandler,
 		teamMessageHandler,
 	} = useWebSocketMessageHandler();
@@ -113,6 +114,10 @@ function RetroPage(): ReactElement {
 				webSocket.subscribeToColumns(team.id, columnMessageHandler);
 				webSocket.subscribeToThoughts(team.id, thoughtMessageHandler);
 				webSocket.subscribeToActionItems(team.id, actionItemMessageHandler);
+				webSocket.subscribeToActionItemBatches(
+					team.id,
+					actionItemBatchMessageHandler
+				);
 				webSocket.subscribeToEndRetro(team.id, endRetroMessageHandler);
 				webSocket.subscribeToTeam(team.id, teamMessageHandler);
 			});
@@ -127,6 +132,7 @@ function RetroPage(): ReactElement {
 		columnMessageHandler,
 		thoughtMessageHandler,
 		actionItemMessageHandler,
+		actionItemBatchMessageHandler,
 		endRetroMessageHandler,
 		teamMessageHandler,
 		addTouchListeners,
@@ -199,6 +199,90 @@ describe('useWebsocketMessageHandler Hook', () => {
 		});
 	});
 
+	describe('actionItemBatchMessageHandler', () => {
+		const ActionItemBatchTestComponent = ({
+			websocketMessageBody,
+		}: TestComponentProps): ReactElement => {
+			const actionItems = useRecoilValue(ActionItemState);
+
+			const { actionItemBatchMessageHandler } = useWebSocketMessageHandler();
+
+			useEffect(() => {
+				const imessage = formatWebsocketMessage(websocketMessageBody);
+				actionItemBatchMessageHandler(imessage);
+			}, [actionItemBatchMessageHandler, websocketMessageBody]);
+
+			return (
+				<div data-testid="action-items">{JSON.stringify(actionItems)}</div>
+			);
+		};
+
+		it('should update every action item in the batch', async () => {
+			const untouchedActionItem = getMockActionItem(false);
+			const firstActionItem = getMockActionItem(false);
+			const secondActionItem = getMockActionItem(false);
+			const completedFirst = { ...firstActionItem, completed: true };
+			const completedSecond = { ...secondActionItem, completed: true };
+
+			renderWithRecoilRoot(
+				<ActionItemBatchTestComponent
+					websocketMessageBody={{
+						type: 'put',
+						payload: {
+							actionItemIds: [firstActionItem.id, secondActionItem.id],
+							actionItems: [completedFirst, completedSecond],
+						},
+					}}
+				/>,
+				({ set }) => {
+					set(ActionItemState, [
+						firstActionItem,
+						untouchedActionItem,
+						secondActionItem,
+					]);
+				}
+			);
+
+			expect(
+				screen.getByText(
+					JSON.stringify([completedFirst, untouchedActionItem, completedSecond])
+				)
+			).toBeDefined();
+		});
+
+		it('should delete every action item in the batch', async () => {
+			const actionItemNotToDelete = getMockActionItem(true);
+			const firstActionItemToDelete = getMockActionItem(false);
+			const secondActionItemToDelete = getMockActionItem(false);
+
+			renderWithRecoilRoot(
+				<ActionItemBatchTestComponent
+					websocketMessageBody={{
+						type: 'delete',
+						payload: {
+							actionItemIds: [
+								firstActionItemToDelete.id,
+								secondActionItemToDelete.id,
+							],
+							actionItems: [],
+						},
+					}}
+				/>,
+				({ set }) => {
+					set(ActionItemState, [
+						firstActionItemToDelete,
+						actionItemNotToDelete,
+						secondActionItemToDelete,
+					]);
+				}
+			);
+
+			expect(
+				screen.getByText(JSON.stringify([actionItemNotToDelete]))
+			).toBeDefined();
+		});
+	});
+
 	describe('endRetroMessageHandler', () => {
 		const EndRetroTestComponent = ({
 			websocketMessageBody,
@@ -251,6 +335,44 @@ describe('useWebsocketMessageHandler Hook', () => {
 				JSON.stringify([activeActionItem])
 			);
 		});
+
+		it('should apply the end retro summary without refetching', async () => {
+			const activeActionItem = getMockActionItem();
+			const archivedActionItem = getMockActionItem(true);
+			const completedButNotArchived = getMockActionItem(true);
+			renderWithRecoilRoot(
+				<EndRetroTestComponent
+					websocketMessageBody={{
+						type: 'put',
+						payload: {
+							board: {
+								id: 9,
+								teamId: 'team-id',
+								dateCreated: '2022-01-02',
+								thoughtCount: 1,
+							},
+							archivedActionItemIds: [archivedActionItem.id],
+							activeThoughts: [],
+						},
+					}}
+				/>,
+				({ set }) => {
+					set(ActionItemState, [
+						activeActionItem,
+						archivedActionItem,
+						completedButNotArchived,
+					]);
+					set(ThoughtsState, [getMockThought(1)]);
+				}
+			);
+
+			expect(screen.getByTestId('thoughts').innerHTML).toBe(
+				JSON.stringify([])
+			);
+			expect(screen.getByTestId('action-items').innerHTML).toBe(
+				JSON.stringify([activeActionItem, completedButNotArchived])
+			);
+		});
 	});
 
 	describe('columnMessageHandler', () => {
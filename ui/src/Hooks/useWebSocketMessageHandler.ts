@@ -23,7 +23,9 @@ import { ColumnsState } from 'State/ColumnsState';
 import { TeamState } from 'State/TeamState';
 import { ThoughtsState } from 'State/ThoughtsState';
 import Action from 'Types/Action';
+import ActionItemBatch from 'Types/ActionItemBatch';
 import { Column } from 'Types/Column';
+import EndRetroSummary from 'Types/EndRetroSummary';
 import Team from 'Types/Team';
 import Thought from 'Types/Thought';
 
@@ -43,6 +45,7 @@ export interface UseWebsocketHandlerResponse {
 	columnMessageHandler: WebsocketMessageHandlerType;
 	thoughtMessageHandler: WebsocketMessageHandlerType;
 	actionItemMessageHandler: WebsocketMessageHandlerType;
+	actionItemBatchMessageHandler: WebsocketMessageHandlerType;
 	endRetroMessageHandler: WebsocketMessageHandlerType;
 	teamMessageHandler: WebsocketMessageHandlerType;
 }
@@ -114,12 +117,50 @@ function useWebSocketMessageHandler(): UseWebsocketHandlerResponse {
 		[setActionItems]
 	);
 
-	const endRetroMessageHandler = useCallback(() => {
-		setThoughts([]);
-		setActionItems((actionItems) =>
-			actionItems.filter((actionItem) => !actionItem.completed)
-		);
-	}, [setActionItems, setThoughts]);
+	const actionItemBatchMessageHandler = useCallback(
+		({ body }: Partial<IMessage>) => {
+			const incomingMessage: IncomingMessage = JSON.parse(body || '');
+			const batch = incomingMessage.payload as ActionItemBatch;
+
+			if (incomingMessage.type === MessageType.DELETE) {
+				setActionItems((actionItems) =>
+					actionItems.filter(
+						(actionItem) => !batch.actionItemIds.includes(actionItem.id)
+					)
+				);
+				return;
+			}
+
+			batch.actionItems.forEach((action) =>
+				recoilStateUpdater(setActionItems, action, incomingMessage.type)
+			);
+		},
+		[setActionItems]
+	);
+
+	const endRetroMessageHandler = useCallback(
+		({ body }: Partial<IMessage>) => {
+			const incomingMessage: IncomingMessage = JSON.parse(body || '{}');
+			const summary = incomingMessage.payload as EndRetroSummary | null;
+
+			if (summary) {
+				setThoughts(summary.activeThoughts);
+				setActionItems((actionItems) =>
+					actionItems.filter(
+						(actionItem) =>
+							!summary.archivedActionItemIds.includes(actionItem.id)
+					)
+				);
+				return;
+			}
+
+			setThoughts([]);
+			setActionItems((actionItems) =>
+				actionItems.filter((actionItem) => !actionItem.completed)
+			);
+		},
+		[setActionItems, setThoughts]
+	);
 
 	const teamMessageHandler = useCallback(
 		({ body }: Partial<IMessage>) => {
@@ -135,6 +176,7 @@ function useWebSocketMessageHandler(): UseWebsocketHandlerResponse {
 		columnMessageHandler,
 		thoughtMessageHandler,
 		actionItemMessageHandler,
+		actionItemBatchMessageHandler,
 		endRetroMessageHandler,
 		teamMessageHandler,
 	};
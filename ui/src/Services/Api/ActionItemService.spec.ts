@@ -64,6 +64,36 @@ describe('Action Item Service', () => {
 		});
 	});
 
+	describe('getArchivedPage', () => {
+		it('should retrieve the first page of archived action items', async () => {
+			const expected = [getMockActionItem(false, true)];
+			axios.get = jest.fn().mockResolvedValue({
+				data: expected,
+				headers: { 'next-cursor': '7' },
+			});
+			const actual = await ActionItemService.getArchivedPage(teamId);
+			expect(actual).toEqual({ actionItems: expected, nextCursor: 7 });
+			expect(axios.get).toHaveBeenCalledWith(
+				allActionItemsUrl + '?archived=true&limit=50',
+				mockConfig
+			);
+		});
+
+		it('should retrieve the page after the cursor', async () => {
+			const expected = [getMockActionItem(false, true)];
+			axios.get = jest.fn().mockResolvedValue({
+				data: expected,
+				headers: {},
+			});
+			const actual = await ActionItemService.getArchivedPage(teamId, 7);
+			expect(actual).toEqual({ actionItems: expected, nextCursor: null });
+			expect(axios.get).toHaveBeenCalledWith(
+				allActionItemsUrl + '?archived=true&limit=50&cursor=7',
+				mockConfig
+			);
+		});
+	});
+
 	describe('create', () => {
 		it('should create an action item', async () => {
 			const expectedResult: Action = getMockActionItem();
@@ -25,6 +25,13 @@ import getAuthConfig from './getAuthConfig';
 const ASSIGNEE_PARSE_SYMBOL = '@';
 export const ASSIGNEE_PARSE_REGEX = /(@[a-zA-Z0-9]+\b)/g;
 
+export const ARCHIVED_ACTION_ITEMS_PAGE_SIZE = 50;
+
+export interface ActionItemPage {
+	actionItems: Action[];
+	nextCursor: number | null;
+}
+
 const getActionItemApiPath = (teamId: string) =>
 	`/api/team/${teamId}/action-item`;
 
@@ -34,6 +41,18 @@ const ActionItemService = {
 		return axios.get(url, getAuthConfig()).then((response) => response.data);
 	},
 
+	getArchivedPage(teamId: string, cursor?: number): Promise<ActionItemPage> {
+		let url = `${getActionItemApiPath(teamId)}?archived=true&limit=${ARCHIVED_ACTION_ITEMS_PAGE_SIZE}`;
+		if (cursor !== undefined) url += `&cursor=${cursor}`;
+		return axios.get(url, getAuthConfig()).then((response) => {
+			const nextCursor = response.headers['next-cursor'];
+			return {
+				actionItems: response.data,
+				nextCursor: nextCursor ? parseInt(nextCursor, 10) : null,
+			};
+		});
+	},
+
 	create(
 		teamId: string,
 		task: string,
@@ -34,7 +34,12 @@ export const mockContributors: Contributor[] = [
 
 describe('Contributor Service', () => {
 	it('should get and format contributors', async () => {
-		axios.get = jest.fn().mockResolvedValue({ data: mockContributors });
+		axios.get = jest.fn().mockResolvedValue({
+			data: mockContributors.map(({ accountUrl, image }) => ({
+				accountUrl,
+				imageUrl: image,
+			})),
+		});
 
 		const actualResponse = await ContributorsService.get();
 		expect(axios.get).toHaveBeenCalledWith('/api/contributors');
@@ -42,11 +47,11 @@ describe('Contributor Service', () => {
 		const expectedResponse: Contributor[] = [
 			{
 				accountUrl: 'https://github.com/contributor-1',
-				image: 'data:image/png;base64,/a/contributor-1.jpg',
+				image: '/a/contributor-1.jpg',
 			},
 			{
 				accountUrl: 'https://github.com/contributor-2',
-				image: 'data:image/png;base64,/b/contributor-2.jpg',
+				image: '/b/contributor-2.jpg',
 			},
 		];
 		expect(actualResponse).toEqual(expectedResponse);
@@ -24,9 +24,9 @@ const ContributorsService = {
 	get(): Promise<Contributor[]> {
 		return axios.get(CONTRIBUTORS_API_PATH).then((res) => {
 			const contributors: Contributor[] = [...res.data].map(
-				(contributor: Contributor) => ({
+				(contributor: { accountUrl: string; imageUrl: string }) => ({
 					accountUrl: contributor.accountUrl,
-					image: `data:image/png;base64,${contributor.image}`,
+					image: contributor.imageUrl,
 				})
 			);
 			return contributors;
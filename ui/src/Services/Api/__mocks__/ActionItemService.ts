@@ -31,6 +31,10 @@ export const getMockActionItem = (
 
 const ActionItemService = {
 	get: jest.fn().mockResolvedValue([]),
+	getArchivedPage: jest.fn().mockResolvedValue({
+		actionItems: [],
+		nextCursor: null,
+	}),
 	create: jest.fn().mockResolvedValue((action: Action) => action),
 	deleteOne: jest.fn().mockResolvedValue(null),
 	deleteMultiple: jest.fn().mockResolvedValue(null),
@@ -86,6 +86,24 @@ describe('webSocketService', () => {
 		);
 	});
 
+	it('should subscribe to action item batches', async () => {
+		const teamId = 'Idddddd';
+		const webSocketMessageHandler = jest.fn();
+		webSocketService.subscribeToActionItemBatches(
+			teamId,
+			webSocketMessageHandler
+		);
+
+		const expectedDestination = `/topic/${teamId}/action-items/batch`;
+		expect(mockClient.subscribe).toHaveBeenCalledWith(
+			expectedDestination,
+			expect.any(Function),
+			{
+				Authorization: `Bearer ` + mockAccessToken,
+			}
+		);
+	});
+
 	it('should subscribe to end retro', async () => {
 		const teamId = 'Idddddd';
 		const webSocketMessageHandler = jest.fn();
@@ -74,6 +74,14 @@ class WebSocketService {
 		this.subscribe(destination, webSocketMessageHandler);
 	}
 
+	subscribeToActionItemBatches(
+		teamId: string,
+		webSocketMessageHandler: WebsocketMessageHandlerType
+	): void {
+		const destination = `/topic/${teamId}/action-items/batch`;
+		this.subscribe(destination, webSocketMessageHandler);
+	}
+
 	subscribeToEndRetro(
 		teamId: string,
 		webSocketMessageHandler: WebsocketMessageHandlerType
@@ -24,6 +24,7 @@ class WebsocketService {
 	subscribeToColumns = jest.fn();
 	subscribeToThoughts = jest.fn();
 	subscribeToActionItems = jest.fn();
+	subscribeToActionItemBatches = jest.fn();
 	subscribeToEndRetro = jest.fn();
 	subscribeToTeam = jest.fn();
 }